@@ -0,0 +1,44 @@
+package com.vibe.notification.benchmark;
+
+import com.vibe.notification.domain.service.RandomUuidIdGenerator;
+import com.vibe.notification.domain.service.UuidV7IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of generating one ID when many worker threads generate IDs at once:
+ * UUID.randomUUID() shares one SecureRandom, UUIDv7 uses an independently seeded DRBG per thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    private final RandomUuidIdGenerator random = new RandomUuidIdGenerator();
+    private final UuidV7IdGenerator uuidV7 = new UuidV7IdGenerator();
+
+    @Benchmark
+    public UUID random() {
+        return random.nextId();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return uuidV7.nextId();
+    }
+}
@@ -0,0 +1,106 @@
+package com.vibe.notification.benchmark;
+
+import com.vibe.notification.domain.service.IdGenerator;
+import com.vibe.notification.domain.service.RandomUuidIdGenerator;
+import com.vibe.notification.domain.service.UuidV7IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput into a large table shaped like notification_logs (UUID primary key plus a
+ * UUID secondary index), with random UUIDv4 vs time-ordered UUIDv7 IDs.
+ *
+ * Each trial fills the table with prefill rows first, so the indexes are much larger than
+ * shared_buffers and random inserts have to touch cold pages. Needs a scratch PostgreSQL:
+ * -Dbench.db.url, -Dbench.db.user, -Dbench.db.password (defaults: local notif_db).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="IdInsertBenchmark -p prefillRows=5000000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class IdInsertBenchmark {
+    private static final int BATCH_SIZE = 500;
+    private static final String TABLE = "bench_id_inserts";
+
+    @Param({"random", "uuidv7"})
+    public String generator;
+
+    @Param({"2000000"})
+    public int prefillRows;
+
+    private Connection connection;
+    private IdGenerator idGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5432/notif_db"),
+            System.getProperty("bench.db.user", "postgres"),
+            System.getProperty("bench.db.password", "postgres"));
+        connection.setAutoCommit(false);
+        idGenerator = "uuidv7".equals(generator) ? new UuidV7IdGenerator() : new RandomUuidIdGenerator();
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id UUID PRIMARY KEY, trace_id UUID NOT NULL, "
+                + "status VARCHAR(20) NOT NULL, created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_" + TABLE + "_trace_id ON " + TABLE + "(trace_id)");
+        }
+        connection.commit();
+        for (int inserted = 0; inserted < prefillRows; inserted += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (var statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + TABLE);
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * One committed batch; the score is rows inserted per second
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        try (var statement = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (id, trace_id, status) VALUES (?, ?, 'PENDING')")) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                statement.setObject(1, idGenerator.nextId());
+                statement.setObject(2, idGenerator.nextId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,105 @@
+package com.vibe.notification.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibe.notification.domain.model.TemplateVariables;
+import com.vibe.notification.domain.service.LogVariablesPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+import org.thymeleaf.context.Context;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the variables of one notification from request body to stored log row
+ * (accept) and on to the template context (deliver): variables deserialized into a map and
+ * converted to a tree for JSONB, vs TemplateVariables keeping the raw JSON.
+ *
+ * Run with the GC profiler to compare allocation per request (gc.alloc.rate.norm):
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="VariablesPipelineBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariablesPipelineBenchmark {
+
+    record MapBody(String recipient, String slug, Map<String, Object> variables) {
+    }
+
+    record CanonicalBody(String recipient, String slug, TemplateVariables variables) {
+    }
+
+    /**
+     * Number of line items in the variables, 0 for a small flat payload
+     */
+    @Param({"0", "50"})
+    public int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LogVariablesPolicy policy;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        policy = new LogVariablesPolicy(objectMapper, "FULL", "", "", "", DataSize.ofMegabytes(1));
+        var variables = new StringBuilder("{\"name\":\"Ada Lovelace\",\"orderId\":\"ORD-2024-000123\",\"total\":1234.5,\"vip\":true");
+        if (items > 0) {
+            variables.append(",\"items\":[");
+            for (int i = 0; i < items; i++) {
+                variables.append(i > 0 ? "," : "")
+                    .append("{\"sku\":\"SKU-").append(i).append("\",\"title\":\"Item number ").append(i)
+                    .append("\",\"qty\":").append(i % 3 + 1).append(",\"price\":").append(9.99 + i).append('}');
+            }
+            variables.append(']');
+        }
+        variables.append('}');
+        body = ("{\"recipient\":\"user@example.com\",\"slug\":\"order-confirmation\",\"variables\":" + variables + "}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] mapAccept() throws IOException {
+        var request = objectMapper.readValue(body, MapBody.class);
+        return objectMapper.writeValueAsBytes(objectMapper.valueToTree(request.variables()));
+    }
+
+    @Benchmark
+    public byte[] canonicalAccept() throws IOException {
+        var request = objectMapper.readValue(body, CanonicalBody.class);
+        return objectMapper.writeValueAsBytes(policy.apply(request.slug(), request.variables()).inline());
+    }
+
+    @Benchmark
+    public Context mapDeliver() throws IOException {
+        var request = objectMapper.readValue(body, MapBody.class);
+        objectMapper.writeValueAsBytes(objectMapper.valueToTree(request.variables()));
+        var context = new Context();
+        context.setVariables(request.variables());
+        return context;
+    }
+
+    @Benchmark
+    public Context canonicalDeliver() throws IOException {
+        var request = objectMapper.readValue(body, CanonicalBody.class);
+        objectMapper.writeValueAsBytes(policy.apply(request.slug(), request.variables()).inline());
+        var context = new Context();
+        context.setVariables(request.variables().asMap());
+        return context;
+    }
+}
@@ -0,0 +1,82 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.domain.port.LogPayloadPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes the full variables kept for hashed or redacted notification logs once the
+ * notification is final, so sensitive values outlive delivery only by about one interval.
+ *
+ * A copy is written just before its log, so copies younger than GRACE are left alone: the log
+ * may not be visible yet. Copies whose log insert failed are purged after GRACE as well.
+ * Only one node purges at a time (cluster lock).
+ */
+@Component
+public class DeliveryCopyPurgeJob {
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryCopyPurgeJob.class);
+    static final String LOCK_NAME = "notification-delivery-copy-purge";
+    static final Duration GRACE = Duration.ofMinutes(1);
+
+    private final LogPayloadPort logPayloadPort;
+    private final ClusterLockPort clusterLockPort;
+    private final Counter purgedCounter;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public DeliveryCopyPurgeJob(
+        LogPayloadPort logPayloadPort,
+        ClusterLockPort clusterLockPort,
+        MeterRegistry meterRegistry,
+        @Value("${app.log-variables.purge-batch-size:1000}") int batchSize,
+        @Value("${app.log-variables.purge-max-batches-per-run:50}") int maxBatchesPerRun) {
+        this.logPayloadPort = logPayloadPort;
+        this.clusterLockPort = clusterLockPort;
+        this.purgedCounter = Counter.builder("notification.log.payloads.purged")
+            .description("Delivery copies of hashed or redacted variables deleted after the notification completed")
+            .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Run one purge if this node wins the cluster lock
+     *
+     * @return the number of copies deleted, or -1 if another node is purging
+     */
+    @Scheduled(fixedDelayString = "${app.log-variables.purge-interval:1m}", initialDelayString = "${app.log-variables.purge-interval:1m}")
+    public int purge() {
+        try {
+            return clusterLockPort.runExclusively(LOCK_NAME, this::purgeCompleted).orElse(-1);
+        } catch (Exception e) {
+            logger.error("Delivery copy purge failed: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private int purgeCompleted() {
+        var cutoff = LocalDateTime.now().minus(GRACE);
+        int purged = 0;
+        for (int batches = 0; batches < maxBatchesPerRun; batches++) {
+            int batch = logPayloadPort.purgeDeliveryCopies(cutoff, batchSize);
+            purged += batch;
+            if (batch < batchSize) {
+                break;
+            }
+        }
+        purgedCounter.increment(purged);
+        if (purged > 0) {
+            logger.info("Purged {} delivery copies of completed notifications", purged);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,40 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.domain.port.DeliveryStatsPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically adds the delivery outcomes counted in memory to the hourly rollup.
+ * Runs on every node without a cluster lock: each node writes only its own counts and the
+ * rollup upsert is additive. Dashboards lag behind deliveries by at most one interval.
+ */
+@Component
+public class DeliveryStatsFlushJob {
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryStatsFlushJob.class);
+
+    private final DeliveryStatsPort deliveryStatsPort;
+
+    public DeliveryStatsFlushJob(DeliveryStatsPort deliveryStatsPort) {
+        this.deliveryStatsPort = deliveryStatsPort;
+    }
+
+    /**
+     * @return the number of rollup rows written
+     */
+    @Scheduled(fixedDelayString = "${app.delivery-stats.flush-interval:10s}", initialDelayString = "${app.delivery-stats.flush-interval:10s}")
+    public int flush() {
+        try {
+            int rows = deliveryStatsPort.flush();
+            if (rows > 0) {
+                logger.debug("Flushed {} delivery statistics rows", rows);
+            }
+            return rows;
+        } catch (Exception e) {
+            logger.error("Delivery statistics flush failed: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+}
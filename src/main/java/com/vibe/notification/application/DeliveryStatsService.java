@@ -0,0 +1,59 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.dto.DeliveryStatsResponse;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.port.DeliveryStatsPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Application service for delivery statistics
+ * Reads the hourly rollup only, so response time depends on the requested range, not on log volume
+ */
+@Service
+public class DeliveryStatsService {
+
+    private final DeliveryStatsPort deliveryStatsPort;
+    private final Duration maxRange;
+
+    public DeliveryStatsService(
+        DeliveryStatsPort deliveryStatsPort,
+        @Value("${app.delivery-stats.max-range:31d}") Duration maxRange) {
+        this.deliveryStatsPort = deliveryStatsPort;
+        this.maxRange = maxRange;
+    }
+
+    /**
+     * Hourly sent/failed counts, oldest first. from is rounded down and to rounded up to whole hours.
+     */
+    public List<DeliveryStatsResponse> getHourlyStats(
+        LocalDateTime from,
+        LocalDateTime to,
+        String channel,
+        String slug,
+        String clientId) {
+        var start = from.truncatedTo(ChronoUnit.HOURS);
+        var end = to.truncatedTo(ChronoUnit.HOURS).equals(to) ? to : to.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(start, end).compareTo(maxRange) > 0) {
+            throw new IllegalArgumentException("The time range must not exceed " + maxRange.toDays() + " days");
+        }
+        return deliveryStatsPort.findHourly(
+                start,
+                end,
+                channel == null || channel.isBlank() ? null : Channel.from(channel),
+                slug == null || slug.isBlank() ? null : slug,
+                clientId == null || clientId.isBlank() ? null : clientId)
+            .stream()
+            .map(stats -> new DeliveryStatsResponse(
+                stats.hour(), stats.channel(), stats.slug(), stats.clientId(), stats.sent(), stats.failed()))
+            .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.application.port.IdempotencyPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Enforces the idempotency window on processed_messages.
+ * Keys claimed longer than window ago are deleted, so a trace ID reused after the window
+ * is processed again.
+ *
+ * Only one node purges at a time (cluster lock). Deletes are throttled so they never compete
+ * with the claim hot path: small batches (locked rows skipped), a pause between batches and
+ * at most max-batches-per-run per run. Deleted keys and the table size are exported as metrics.
+ *
+ * Only active when app.idempotency.retention.enabled=true (default)
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyRetentionJob {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyRetentionJob.class);
+    static final String LOCK_NAME = "notification-idempotency-retention";
+
+    private final IdempotencyPort idempotencyPort;
+    private final ClusterLockPort clusterLockPort;
+    private final Counter deletedCounter;
+    private final AtomicLong estimatedKeys = new AtomicLong();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final Duration window;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pause;
+
+    public IdempotencyRetentionJob(
+        IdempotencyPort idempotencyPort,
+        ClusterLockPort clusterLockPort,
+        MeterRegistry meterRegistry,
+        @Value("${app.idempotency.retention.window:7d}") Duration window,
+        @Value("${app.idempotency.retention.batch-size:1000}") int batchSize,
+        @Value("${app.idempotency.retention.max-batches-per-run:100}") int maxBatchesPerRun,
+        @Value("${app.idempotency.retention.pause:100ms}") Duration pause) {
+        this.idempotencyPort = idempotencyPort;
+        this.clusterLockPort = clusterLockPort;
+        this.deletedCounter = Counter.builder("notification.idempotency.retention.deleted")
+            .description("Expired idempotency keys deleted from processed_messages")
+            .register(meterRegistry);
+        Gauge.builder("notification.idempotency.store.keys", estimatedKeys, AtomicLong::get)
+            .description("Estimated number of keys in processed_messages, as of the last retention run")
+            .register(meterRegistry);
+        Gauge.builder("notification.idempotency.store.bytes", totalBytes, AtomicLong::get)
+            .description("Size of processed_messages including indexes, as of the last retention run")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.window = window;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pause = pause;
+    }
+
+    /**
+     * Run one purge if this node wins the cluster lock
+     *
+     * @return the number of keys deleted, or -1 if another node is purging
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.retention.interval:10m}", initialDelayString = "${app.idempotency.retention.interval:10m}")
+    public int purge() {
+        try {
+            return clusterLockPort.runExclusively(LOCK_NAME, this::purgeExpired).orElse(-1);
+        } catch (Exception e) {
+            logger.error("Idempotency retention failed: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private int purgeExpired() {
+        var cutoff = LocalDateTime.now().minus(window);
+        int deleted = 0;
+        int batches = 0;
+        while (batches < maxBatchesPerRun) {
+            int batch = idempotencyPort.purgeClaimedBefore(cutoff, batchSize);
+            deleted += batch;
+            batches++;
+            if (batch < batchSize || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+        deletedCounter.increment(deleted);
+        reportStoreSize();
+        if (deleted > 0) {
+            logger.info("Idempotency retention deleted {} keys older than {} in {} batches (estimatedKeys={}, totalBytes={})",
+                deleted, cutoff, batches, estimatedKeys.get(), totalBytes.get());
+        } else {
+            logger.debug("Idempotency retention found no keys older than {}", cutoff);
+        }
+        return deleted;
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reportStoreSize() {
+        try {
+            var size = idempotencyPort.storeSize();
+            estimatedKeys.set(size.estimatedKeys());
+            totalBytes.set(size.totalBytes());
+        } catch (Exception e) {
+            logger.debug("Could not read idempotency store size: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.domain.service.NotificationDomainService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Safety net for single-write sync notifications (app.sync-single-write.enabled) whose node
+ * crashed before the log row was written. In-flight markers older than stale-after become
+ * PENDING logs, which the outbox workers or the stale-PENDING recovery deliver again.
+ *
+ * stale-after must be longer than any provider call, or a notification still being sent is
+ * delivered twice. Runs whether or not single-write mode is enabled, so markers left over from
+ * before it was turned off are recovered too. Only one node recovers at a time (cluster lock).
+ */
+@Component
+public class InflightRecoveryJob {
+    private static final Logger logger = LoggerFactory.getLogger(InflightRecoveryJob.class);
+    static final String LOCK_NAME = "notification-inflight-recovery";
+
+    private final NotificationDomainService notificationDomainService;
+    private final ClusterLockPort clusterLockPort;
+    private final Counter recoveredCounter;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public InflightRecoveryJob(
+        NotificationDomainService notificationDomainService,
+        ClusterLockPort clusterLockPort,
+        MeterRegistry meterRegistry,
+        @Value("${app.sync-single-write.stale-after:5m}") Duration staleAfter,
+        @Value("${app.sync-single-write.recovery-batch-size:100}") int batchSize,
+        @Value("${app.sync-single-write.recovery-max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.notificationDomainService = notificationDomainService;
+        this.clusterLockPort = clusterLockPort;
+        this.recoveredCounter = Counter.builder("notification.inflight.recovered")
+            .description("In-flight markers of single-write sync notifications recovered as PENDING logs")
+            .register(meterRegistry);
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Run one recovery if this node wins the cluster lock
+     *
+     * @return the number of markers recovered, or -1 if another node is recovering
+     */
+    @Scheduled(fixedDelayString = "${app.sync-single-write.recovery-interval:1m}", initialDelayString = "${app.sync-single-write.recovery-interval:1m}")
+    public int recover() {
+        try {
+            return clusterLockPort.runExclusively(LOCK_NAME, this::recoverStale).orElse(-1);
+        } catch (Exception e) {
+            logger.error("In-flight notification recovery failed: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private int recoverStale() {
+        int recovered = 0;
+        for (int batches = 0; batches < maxBatchesPerRun; batches++) {
+            int batch = notificationDomainService.recoverInflight(staleAfter, batchSize);
+            recovered += batch;
+            if (batch < batchSize) {
+                break;
+            }
+        }
+        recoveredCounter.increment(recovered);
+        if (recovered > 0) {
+            logger.warn("Recovered {} in-flight notifications left behind by a crashed node", recovered);
+        }
+        return recovered;
+    }
+}
@@ -2,26 +2,46 @@ package com.vibe.notification.application;
 
 import com.vibe.notification.application.dto.SendNotificationRequest;
 import com.vibe.notification.application.dto.NotificationResponse;
+import com.vibe.notification.application.port.AdmissionControlPort;
 import com.vibe.notification.application.port.EmailNotificationPort;
 import com.vibe.notification.application.port.WhatsAppNotificationPort;
 import com.vibe.notification.application.port.IdempotencyPort;
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.exception.ProviderUnavailableException;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
 import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.DeliveryStatsKey;
 import com.vibe.notification.domain.model.NotificationRequest;
 import com.vibe.notification.domain.model.NotificationResult;
+import com.vibe.notification.domain.model.NotificationStatus;
 import com.vibe.notification.domain.model.NotificationStatusEvent;
+import com.vibe.notification.domain.port.InflightNotificationPort.InflightNotification;
 import com.vibe.notification.domain.port.NotificationStatusProducer;
+import com.vibe.notification.domain.service.LogVariablesPolicy;
 import com.vibe.notification.domain.service.TraceService;
 import com.vibe.notification.domain.service.NotificationDomainService;
 import com.vibe.notification.domain.service.TemplateResolutionService;
 import com.vibe.notification.domain.service.TemplateRenderingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Application service for notification processing orchestration
@@ -39,6 +59,11 @@ public class NotificationApplicationService {
     private final WhatsAppNotificationPort whatsAppNotificationPort;
     private final IdempotencyPort idempotencyPort;
     private final NotificationStatusProducer notificationStatusProducer;
+    private final NotificationStatusStreamService statusStreamService;
+    private final AdmissionControlPort admissionControlPort;
+    private final boolean outboxEnabled;
+    private final Duration outboxLease;
+    private final boolean syncSingleWrite;
     private final NotificationApplicationService self;
 
     public NotificationApplicationService(
@@ -50,6 +75,11 @@ public class NotificationApplicationService {
         WhatsAppNotificationPort whatsAppNotificationPort,
         IdempotencyPort idempotencyPort,
         NotificationStatusProducer notificationStatusProducer,
+        NotificationStatusStreamService statusStreamService,
+        AdmissionControlPort admissionControlPort,
+        @Value("${app.outbox.enabled:false}") boolean outboxEnabled,
+        @Value("${app.outbox.lease:5m}") Duration outboxLease,
+        @Value("${app.sync-single-write.enabled:false}") boolean syncSingleWrite,
         @Lazy NotificationApplicationService self) {
         this.traceService = traceService;
         this.notificationDomainService = notificationDomainService;
@@ -59,6 +89,11 @@ public class NotificationApplicationService {
         this.whatsAppNotificationPort = whatsAppNotificationPort;
         this.idempotencyPort = idempotencyPort;
         this.notificationStatusProducer = notificationStatusProducer;
+        this.statusStreamService = statusStreamService;
+        this.admissionControlPort = admissionControlPort;
+        this.outboxEnabled = outboxEnabled;
+        this.outboxLease = outboxLease;
+        this.syncSingleWrite = syncSingleWrite;
         this.self = self;
     }
 
@@ -72,53 +107,145 @@ public class NotificationApplicationService {
     public NotificationResponse sendNotification(SendNotificationRequest request) {
         logger.info("Processing notification request: recipient={}, slug={}", request.recipient(), request.slug());
 
-        // Check idempotency if client provided a trace ID
-        String clientTraceIdStr = null;
-        if (request.traceId().isPresent()) {
-            clientTraceIdStr = request.traceId().get();
-            
-            // Check if this request was already processed
-            if (isMessageAlreadyProcessed(clientTraceIdStr)) {
-                logger.debug("Request with traceId {} already processed, skipping", clientTraceIdStr);
-                // Return a response indicating it was already processed
-                return new NotificationResponse(
-                    null,
-                    clientTraceIdStr,
-                    "ALREADY_PROCESSED",
-                    "This request was already processed"
-                );
-            }
-            
-            // Mark as processed before creating log (for idempotency)
-            markMessageAsProcessed(clientTraceIdStr);
+        var accepted = accept(request, outboxEnabled, false);
+        if (accepted.isEmpty()) {
+            return alreadyProcessed(request);
         }
+        var notification = accepted.get();
 
-        // Generate internal trace ID for logging
-        var internalTraceId = traceService.generateTraceId();
-        
-        var notificationRequest = new NotificationRequest(
-            request.recipient(),
-            request.slug(),
-            request.language(),
-            request.channel(),
-            request.variables(),
-            request.clientId().orElse(null)
-        );
-
-        // Create pending log entry with internal trace ID
-        var logEntity = notificationDomainService.createPendingLog(notificationRequest, internalTraceId);
-
-        // Execute async processing
-        self.processNotificationAsync(logEntity.getId(), notificationRequest, internalTraceId);
+        // Execute async processing (in outbox mode the persisted row is picked up by the outbox workers)
+        if (!outboxEnabled) {
+            dispatchAsync(notification);
+        }
 
         return new NotificationResponse(
-            logEntity.getId(),
-            internalTraceId.toString(),
+            notification.logId(),
+            notification.traceId().toString(),
             "PENDING",
             "Notification queued for processing"
         );
     }
 
+    /**
+     * Send notification and complete once it has been handed off for good: delivered, failed,
+     * rescheduled for retry, or (in outbox mode) persisted to the outbox.
+     * Lets message consumers acknowledge only after the work can no longer be lost.
+     *
+     * @throws ServiceOverloadedException if admission is denied or the executor rejects the task
+     */
+    public CompletableFuture<NotificationResponse> submitNotification(SendNotificationRequest request) {
+        logger.info("Submitting notification request: recipient={}, slug={}", request.recipient(), request.slug());
+
+        var accepted = accept(request, outboxEnabled, false);
+        if (accepted.isEmpty()) {
+            return CompletableFuture.completedFuture(alreadyProcessed(request));
+        }
+        var notification = accepted.get();
+
+        if (outboxEnabled) {
+            return CompletableFuture.completedFuture(new NotificationResponse(
+                notification.logId(),
+                notification.traceId().toString(),
+                "PENDING",
+                "Notification queued for processing"
+            ));
+        }
+
+        CompletableFuture<NotificationResult> future;
+        try {
+            future = self.processNotificationWithResult(notification.logId(), notification.request(), notification.traceId());
+        } catch (TaskRejectedException e) {
+            throw rejectDispatch(notification, e);
+        }
+        return future.thenApply(result -> new NotificationResponse(
+            notification.logId(),
+            notification.traceId().toString(),
+            result.status().name(),
+            resultMessage(result),
+            result.status()
+        ));
+    }
+
+    /**
+     * Send a batch of notifications with bulk persistence.
+     * One multi-row insert claims every client trace ID and one JDBC batch creates the
+     * PENDING logs; delivery then happens asynchronously as for
+     * sendNotification. Duplicates within the batch or against earlier requests are
+     * answered with ALREADY_PROCESSED.
+     *
+     * @return one response per request, in request order
+     * @throws ServiceOverloadedException if admission is denied for any channel in the batch
+     */
+    public List<NotificationResponse> sendNotificationBatch(List<SendNotificationRequest> requests) {
+        logger.info("Processing notification batch: size={}", requests.size());
+
+        // Reject before anything is persisted when the pipeline is saturated
+        requests.stream().map(SendNotificationRequest::channel).distinct().forEach(this::checkAdmission);
+
+        var clientTraceIds = requests.stream()
+            .flatMap(request -> request.traceId().stream())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        var claimed = idempotencyPort.tryClaimAll(clientTraceIds);
+
+        var responses = new NotificationResponse[requests.size()];
+        var accepted = new LinkedHashMap<UUID, NotificationRequest>();
+        var acceptedIndexes = new ArrayList<Integer>();
+        var seen = new HashSet<String>();
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var clientTraceId = request.traceId().orElse(null);
+            if (clientTraceId != null && (!claimed.contains(clientTraceId) || !seen.add(clientTraceId))) {
+                logger.debug("Request with traceId {} already processed, skipping", clientTraceId);
+                responses[i] = alreadyProcessed(request);
+                continue;
+            }
+            accepted.put(traceService.generateTraceId(), new NotificationRequest(
+                request.recipient(),
+                request.slug(),
+                request.language(),
+                request.channel(),
+                request.variables(),
+                request.clientId().orElse(null)
+            ));
+            acceptedIndexes.add(i);
+        }
+
+        if (!accepted.isEmpty()) {
+            List<NotificationLogDTO> logs;
+            try {
+                logs = notificationDomainService.createPendingLogs(accepted, nextAttemptAt(outboxEnabled));
+            } catch (RuntimeException e) {
+                // Nothing was accepted; let retries of these requests through again
+                seen.forEach(idempotencyPort::releaseClaim);
+                throw e;
+            }
+
+            var acceptedRequests = List.copyOf(accepted.values());
+            for (int j = 0; j < logs.size(); j++) {
+                var log = logs.get(j);
+                String message = "Notification queued for processing";
+                if (!outboxEnabled) {
+                    try {
+                        self.processNotificationAsync(log.getId(), acceptedRequests.get(j), log.getTraceId());
+                    } catch (TaskRejectedException e) {
+                        // The row is already durable; the stale PENDING sweeper picks it up
+                        admissionControlPort.recordRejection("executor-rejected");
+                        logger.warn("Async executor rejected batched notification, left for recovery: logId={}", log.getId());
+                        message = "Notification queued for recovery";
+                    }
+                }
+                responses[acceptedIndexes.get(j)] = new NotificationResponse(
+                    log.getId(),
+                    log.getTraceId().toString(),
+                    "PENDING",
+                    message
+                );
+            }
+        }
+
+        return Arrays.asList(responses);
+    }
+
     /**
      * Send notification with synchronous mode support
      * 
@@ -129,69 +256,47 @@ public class NotificationApplicationService {
     public NotificationResponse sendNotificationWithSync(SendNotificationRequest request, boolean sync) {
         logger.info("Processing notification request (sync={}): recipient={}, slug={}", sync, request.recipient(), request.slug());
 
-        // Check idempotency if client provided a trace ID
-        String clientTraceIdStr = null;
-        if (request.traceId().isPresent()) {
-            clientTraceIdStr = request.traceId().get();
-            
-            // Check if this request was already processed
-            if (isMessageAlreadyProcessed(clientTraceIdStr)) {
-                logger.debug("Request with traceId {} already processed, skipping", clientTraceIdStr);
-                // Return a response indicating it was already processed
-                return new NotificationResponse(
-                    null,
-                    clientTraceIdStr,
-                    "ALREADY_PROCESSED",
-                    "This request was already processed"
-                );
-            }
-            
-            // Mark as processed before creating log (for idempotency)
-            markMessageAsProcessed(clientTraceIdStr);
+        // Sync requests are always processed here
+        boolean viaOutbox = outboxEnabled && !sync;
+        var accepted = accept(request, viaOutbox, sync && syncSingleWrite);
+        if (accepted.isEmpty()) {
+            return alreadyProcessed(request);
         }
-
-        // Generate internal trace ID for logging
-        var internalTraceId = traceService.generateTraceId();
-        
-        var notificationRequest = new NotificationRequest(
-            request.recipient(),
-            request.slug(),
-            request.language(),
-            request.channel(),
-            request.variables(),
-            request.clientId().orElse(null)
-        );
-
-        // Create pending log entry with internal trace ID
-        var logEntity = notificationDomainService.createPendingLog(notificationRequest, internalTraceId);
+        var notification = accepted.get();
+        var logId = notification.logId();
+        var internalTraceId = notification.traceId();
 
         if (sync) {
             // Synchronous mode: wait for completion
             try {
-                CompletableFuture<NotificationResult> future = self.processNotificationWithResult(logEntity.getId(), notificationRequest, internalTraceId);
+                CompletableFuture<NotificationResult> future = notification.inflight() != null
+                    ? self.processInflightWithResult(notification.inflight())
+                    : self.processNotificationWithResult(logId, notification.request(), internalTraceId);
                 
                 // Wait for completion with 15-second timeout
                 NotificationResult result = future.get(15, java.util.concurrent.TimeUnit.SECONDS);
                 
                 return new NotificationResponse(
-                    logEntity.getId(),
+                    logId,
                     internalTraceId.toString(),
                     result.status().name(),
-                    result.isSuccess() ? "Notification sent successfully" : "Notification failed: " + result.errorMessage(),
+                    resultMessage(result),
                     result.status()
                 );
+            } catch (TaskRejectedException e) {
+                throw rejectDispatch(notification, e);
             } catch (java.util.concurrent.TimeoutException e) {
-                logger.warn("Notification processing timed out after 15 seconds: logId={}", logEntity.getId());
+                logger.warn("Notification processing timed out after 15 seconds: logId={}", logId);
                 return new NotificationResponse(
-                    logEntity.getId(),
+                    logId,
                     internalTraceId.toString(),
                     "TIMEOUT",
                     "Notification processing timed out after 15 seconds"
                 );
             } catch (Exception e) {
-                logger.error("Error waiting for notification completion: logId={}, error={}", logEntity.getId(), e.getMessage(), e);
+                logger.error("Error waiting for notification completion: logId={}, error={}", logId, e.getMessage(), e);
                 return new NotificationResponse(
-                    logEntity.getId(),
+                    logId,
                     internalTraceId.toString(),
                     "ERROR",
                     "Error processing notification: " + e.getMessage()
@@ -199,10 +304,12 @@ public class NotificationApplicationService {
             }
         } else {
             // Asynchronous mode: return immediately
-            self.processNotificationAsync(logEntity.getId(), notificationRequest, internalTraceId);
+            if (!viaOutbox) {
+                dispatchAsync(notification);
+            }
             
             return new NotificationResponse(
-                logEntity.getId(),
+                logId,
                 internalTraceId.toString(),
                 "ACCEPTED",
                 "Notification accepted for processing"
@@ -211,22 +318,129 @@ public class NotificationApplicationService {
     }
 
     /**
-     * Checks if a message with the given trace_id has already been processed.
+     * Admission check, idempotency check and PENDING log creation shared by all send paths
      *
-     * @param traceId the unique message identifier
-     * @return true if the message was previously processed, false otherwise
+     * @param viaOutbox whether the log is left for the outbox workers instead of being processed here
+     * @param singleWrite whether to write only an in-flight marker; the log row is written once
+     *                    with the outcome (sync requests with app.sync-single-write.enabled)
+     * @return the accepted notification, or empty if the client trace ID was already processed
      */
-    private boolean isMessageAlreadyProcessed(String traceId) {
-        return idempotencyPort.isMessageAlreadyProcessed(traceId);
+    private Optional<AcceptedNotification> accept(SendNotificationRequest request, boolean viaOutbox, boolean singleWrite) {
+        LogVariablesPolicy.requireNoReservedKey(request.variables());
+
+        // Reject before anything is persisted when the pipeline is saturated
+        checkAdmission(request.channel());
+
+        // Claim the client trace ID (if provided) before creating the log, in one atomic round trip
+        String clientTraceId = request.traceId().orElse(null);
+        if (clientTraceId != null && !idempotencyPort.tryClaim(clientTraceId)) {
+            logger.debug("Request with traceId {} already processed, skipping", clientTraceId);
+            return Optional.empty();
+        }
+
+        // Generate internal trace ID for logging
+        var internalTraceId = traceService.generateTraceId();
+        
+        var notificationRequest = new NotificationRequest(
+            request.recipient(),
+            request.slug(),
+            request.language(),
+            request.channel(),
+            request.variables(),
+            request.clientId().orElse(null)
+        );
+
+        // Create pending log entry (or in-flight marker) with internal trace ID
+        try {
+            if (singleWrite) {
+                var inflight = notificationDomainService.beginInflight(notificationRequest, internalTraceId);
+                return Optional.of(new AcceptedNotification(inflight.logId(), internalTraceId, notificationRequest, clientTraceId, inflight));
+            }
+            var logEntity = notificationDomainService.createPendingLog(notificationRequest, internalTraceId, nextAttemptAt(viaOutbox));
+            return Optional.of(new AcceptedNotification(logEntity.getId(), internalTraceId, notificationRequest, clientTraceId, null));
+        } catch (RuntimeException e) {
+            releaseClaim(clientTraceId);
+            throw e;
+        }
+    }
+
+    /**
+     * Response indicating the client trace ID was already processed
+     */
+    private static NotificationResponse alreadyProcessed(SendNotificationRequest request) {
+        return new NotificationResponse(
+            null,
+            request.traceId().orElse(null),
+            "ALREADY_PROCESSED",
+            "This request was already processed"
+        );
     }
 
     /**
-     * Records that a message has been successfully processed.
+     * A notification whose PENDING log (or, in single-write mode, in-flight marker) has been written
      *
-     * @param traceId the unique message identifier
+     * @param inflight the in-flight marker, null if a PENDING log was written
      */
-    private void markMessageAsProcessed(String traceId) {
-        idempotencyPort.markMessageAsProcessed(traceId);
+    private record AcceptedNotification(UUID logId, UUID traceId, NotificationRequest request, String clientTraceId,
+                                        InflightNotification inflight) {
+    }
+
+    private static String resultMessage(NotificationResult result) {
+        return switch (result.status()) {
+            case SUCCESS -> "Notification sent successfully";
+            case PENDING -> "Notification delivery failed, retry scheduled: " + result.errorMessage();
+            default -> "Notification failed: " + result.errorMessage();
+        };
+    }
+
+    /**
+     * Rejects the request with a retry hint when the async pipeline is saturated.
+     *
+     * @param channel the channel the notification will be delivered through
+     * @throws ServiceOverloadedException if admission is denied
+     */
+    private void checkAdmission(Channel channel) {
+        var decision = admissionControlPort.evaluate(channel);
+        if (!decision.admitted()) {
+            throw new ServiceOverloadedException(decision.reason(), decision.retryAfterSeconds());
+        }
+    }
+
+    /**
+     * Outbox rows are due immediately. Rows processed in-process are reserved for one claim lease,
+     * after which outbox workers treat them as lost and pick them up.
+     */
+    private LocalDateTime nextAttemptAt(boolean viaOutbox) {
+        var now = LocalDateTime.now();
+        return viaOutbox ? now : now.plus(outboxLease);
+    }
+
+    /**
+     * Hands the notification to the async executor.
+     * If the executor refuses the task despite admission control, the log is marked FAILED
+     * instead of being left PENDING forever.
+     */
+    private void dispatchAsync(AcceptedNotification notification) {
+        try {
+            self.processNotificationAsync(notification.logId(), notification.request(), notification.traceId());
+        } catch (TaskRejectedException e) {
+            throw rejectDispatch(notification, e);
+        }
+    }
+
+    private ServiceOverloadedException rejectDispatch(AcceptedNotification notification, TaskRejectedException e) {
+        logger.warn("Async executor rejected notification: logId={}", notification.logId());
+        admissionControlPort.recordRejection("executor-rejected");
+        recordFailed(notification.logId(), notification.request(), notification.inflight(), "Rejected: notification service overloaded");
+        // The caller is told to retry later; the retry must not be treated as a duplicate
+        releaseClaim(notification.clientTraceId());
+        return new ServiceOverloadedException("executor-rejected", admissionControlPort.getRetryAfterSeconds());
+    }
+
+    private void releaseClaim(String clientTraceId) {
+        if (clientTraceId != null) {
+            idempotencyPort.releaseClaim(clientTraceId);
+        }
     }
 
     /**
@@ -234,66 +448,94 @@ public class NotificationApplicationService {
      */
     @Async
     public void processNotificationAsync(java.util.UUID logId, NotificationRequest request, UUID traceId) {
-        String traceIdStr = traceId.toString();
-        try {
-            logger.info("Starting async notification processing: logId={}", logId);
+        logger.info("Starting async notification processing: logId={}", logId);
+        processNotification(logId, request, traceId);
+    }
 
-            // Resolve template with language fallback
-            var template = templateResolutionService.resolveTemplate(request.slug(), request.language(), request.channel());
+    /**
+     * Async notification processing that returns a CompletableFuture with the result
+     */
+    @Async
+    public CompletableFuture<NotificationResult> processNotificationWithResult(UUID logId, NotificationRequest request, UUID traceId) {
+        logger.info("Starting async notification processing with result: logId={}", logId);
+        return CompletableFuture.completedFuture(processNotification(logId, request, traceId));
+    }
 
-            // Render template content
-            var renderedContent = templateRenderingService.renderContent(template.getContent(), request.variables());
-            var renderedSubject = templateRenderingService.renderSubject(template.getSubject(), request.variables());
+    /**
+     * Async processing of a single-write sync notification; its log row is written with the outcome
+     */
+    @Async
+    public CompletableFuture<NotificationResult> processInflightWithResult(InflightNotification inflight) {
+        logger.info("Starting single-write notification processing: logId={}", inflight.logId());
+        return CompletableFuture.completedFuture(processNotification(inflight.logId(), inflight.request(), inflight.traceId(), inflight));
+    }
 
-            // Send via appropriate port
-            switch (request.channel()) {
-                case EMAIL -> emailNotificationPort.sendEmail(request.recipient(), template, renderedSubject, renderedContent);
-                case WHATSAPP -> whatsAppNotificationPort.sendWhatsAppMessage(request.recipient(), template, renderedContent);
-                default -> {
-                    logger.error("Notification processing failed: logId={}, error={}", logId, "Unsupported channel: " + request.channel());
-                    notificationDomainService.markAsFailed(logId, "Unsupported channel: " + request.channel());
-                    // Publish FAILED status
-                    publishStatusSafely(logId, request.channel(), NotificationStatusEvent.failure(
-                        traceIdStr, request.channel(), "Unsupported channel: " + request.channel(), request.clientId()));
-                    return;
-                }
-            }
+    /**
+     * Process a log claimed from the outbox on the calling worker thread.
+     * The request is rebuilt from the persisted row, so any node can process it.
+     */
+    public NotificationResult processClaimed(NotificationLogDTO log) {
+        var request = rebuildRequest(log);
+        if (request.isEmpty()) {
+            return NotificationResult.failure("Unable to rebuild notification request");
+        }
+        traceService.setTraceId(log.getTraceId());
+        logger.info("Starting outbox notification processing: logId={}", log.getId());
+        return processNotification(log.getId(), request.get(), log.getTraceId());
+    }
 
-            // Mark as successfully sent
-            notificationDomainService.markAsSent(logId);
-            logger.info("Notification processed successfully: logId={}", logId);
-            
-            // Publish SUCCESS status
-            publishStatusSafely(logId, request.channel(), NotificationStatusEvent.success(
-                traceIdStr, request.channel(), request.clientId()));
+    /**
+     * Hand a recovered PENDING log back to the async executor.
+     *
+     * @return false if the executor refused the task; the log stays PENDING and is retried later
+     */
+    public boolean redispatch(NotificationLogDTO log) {
+        var request = rebuildRequest(log);
+        if (request.isEmpty()) {
+            return true;
+        }
+        try {
+            self.processNotificationAsync(log.getId(), request.get(), log.getTraceId());
+            return true;
+        } catch (TaskRejectedException e) {
+            logger.debug("Async executor rejected recovered notification: logId={}", log.getId());
+            return false;
+        }
+    }
 
+    /**
+     * Rebuild the request of a persisted log; a log that cannot be rebuilt is marked FAILED
+     */
+    private Optional<NotificationRequest> rebuildRequest(NotificationLogDTO log) {
+        try {
+            return Optional.of(notificationDomainService.toNotificationRequest(log));
         } catch (Exception e) {
-            logger.error("Notification processing failed: logId={}, error={}", logId, e.getMessage(), e);
-            notificationDomainService.markAsFailed(logId, e.getMessage());
-            
-            // Publish FAILED status
-            publishStatusSafely(logId, request.channel(), NotificationStatusEvent.failure(
-                traceIdStr, request.channel(), e.getMessage(), request.clientId()));
-        } finally {
-            traceService.clearTraceId();
+            logger.error("Unable to rebuild notification request: logId={}, error={}", log.getId(), e.getMessage());
+            notificationDomainService.markAsFailed(log.getId(), DeliveryStatsKey.of(log), e.getMessage());
+            return Optional.empty();
         }
     }
 
+    private NotificationResult processNotification(UUID logId, NotificationRequest request, UUID traceId) {
+        return processNotification(logId, request, traceId, null);
+    }
+
     /**
-     * Async notification processing that returns a CompletableFuture with the result
+     * Resolve, render and send a notification, then record and publish its final status.
+     * Shared by the in-memory async paths and the outbox workers.
+     *
+     * @param inflight the in-flight marker of a single-write notification, null if its PENDING log exists
      */
-    @Async
-    public CompletableFuture<NotificationResult> processNotificationWithResult(UUID logId, NotificationRequest request, UUID traceId) {
+    private NotificationResult processNotification(UUID logId, NotificationRequest request, UUID traceId,
+                                                   InflightNotification inflight) {
         String traceIdStr = traceId.toString();
         try {
-            logger.info("Starting async notification processing with result: logId={}", logId);
-
             // Resolve template with language fallback
             var template = templateResolutionService.resolveTemplate(request.slug(), request.language(), request.channel());
 
             // Render template content
-            var renderedContent = templateRenderingService.renderContent(template.getContent(), request.variables());
-            var renderedSubject = templateRenderingService.renderSubject(template.getSubject(), request.variables());
+            var renderedContent = templateRenderingService.renderContent(template.getContent(), request.variables().asMap());
+            var renderedSubject = templateRenderingService.renderSubject(template.getSubject(), request.variables().asMap());
 
             // Send via appropriate port
             switch (request.channel()) {
@@ -302,40 +544,78 @@ public class NotificationApplicationService {
                 default -> {
                     String error = "Unsupported channel: " + request.channel();
                     logger.error("Notification processing failed: logId={}, error={}", logId, error);
-                    notificationDomainService.markAsFailed(logId, error);
                     // Publish FAILED status
-                    publishStatusSafely(logId, request.channel(), NotificationStatusEvent.failure(
-                        traceIdStr, request.channel(), error, request.clientId()));
-                    return CompletableFuture.completedFuture(NotificationResult.failure(error));
+                    publishStatusWhenApplied(recordFailed(logId, request, inflight, error), logId, request.channel(),
+                        NotificationStatusEvent.failure(traceIdStr, request.channel(), error, request.clientId()));
+                    return NotificationResult.failure(error);
                 }
             }
 
             // Mark as successfully sent
-            notificationDomainService.markAsSent(logId);
+            var applied = inflight != null
+                ? notificationDomainService.completeInflight(inflight, NotificationStatus.SUCCESS, null)
+                : notificationDomainService.markAsSent(logId, DeliveryStatsKey.of(request));
             logger.info("Notification processed successfully: logId={}", logId);
             
             // Publish SUCCESS status
-            publishStatusSafely(logId, request.channel(), NotificationStatusEvent.success(
+            publishStatusWhenApplied(applied, logId, request.channel(), NotificationStatusEvent.success(
                 traceIdStr, request.channel(), request.clientId()));
             
-            return CompletableFuture.completedFuture(NotificationResult.success());
+            return NotificationResult.success();
 
         } catch (Exception e) {
+            // Transient provider failures are rescheduled while attempts are left; no thread waits for the retry
+            if (ProviderUnavailableException.isCauseOf(e) && scheduleRetry(logId, inflight, e.getMessage())) {
+                return NotificationResult.retryScheduled(e.getMessage());
+            }
+
             logger.error("Notification processing failed: logId={}, error={}", logId, e.getMessage(), e);
-            notificationDomainService.markAsFailed(logId, e.getMessage());
+            var applied = recordFailed(logId, request, inflight, e.getMessage());
             
             // Publish FAILED status
-            publishStatusSafely(logId, request.channel(), NotificationStatusEvent.failure(
+            publishStatusWhenApplied(applied, logId, request.channel(), NotificationStatusEvent.failure(
                 traceIdStr, request.channel(), e.getMessage(), request.clientId()));
             
-            return CompletableFuture.completedFuture(NotificationResult.failure(e.getMessage()));
+            return NotificationResult.failure(e.getMessage());
         } finally {
             traceService.clearTraceId();
         }
     }
     
+    private CompletableFuture<Boolean> recordFailed(UUID logId, NotificationRequest request, InflightNotification inflight,
+                                                    String errorMessage) {
+        return inflight != null
+            ? notificationDomainService.completeInflight(inflight, NotificationStatus.FAILED, errorMessage)
+            : notificationDomainService.markAsFailed(logId, DeliveryStatsKey.of(request), errorMessage);
+    }
+
+    private boolean scheduleRetry(UUID logId, InflightNotification inflight, String errorMessage) {
+        return inflight != null
+            ? notificationDomainService.scheduleInflightRetry(inflight, errorMessage)
+            : notificationDomainService.scheduleRetry(logId, errorMessage);
+    }
+
     /**
-     * Safely publishes status event, catching any exceptions to prevent failures
+     * Publish the final status once its transition is written, and only if it was applied:
+     * a duplicate delivery of a log that is already final publishes nothing. With write-behind
+     * this runs on the flusher thread after the batch is written.
+     */
+    private void publishStatusWhenApplied(CompletableFuture<Boolean> applied, UUID logId, Channel channel,
+                                          NotificationStatusEvent event) {
+        applied.whenComplete((written, error) -> {
+            if (error != null) {
+                logger.warn("Status event not published, status transition failed: logId={}, error={}", logId, error.getMessage());
+            } else if (written) {
+                publishStatusSafely(logId, channel, event);
+            } else {
+                logger.debug("Status event not published, log was already final: logId={}", logId);
+            }
+        });
+    }
+
+    /**
+     * Safely publishes status event to RabbitMQ and to streaming subscribers,
+     * catching any exceptions to prevent failures
      */
     private void publishStatusSafely(UUID logId, Channel channel, NotificationStatusEvent event) {
         try {
@@ -344,5 +624,10 @@ public class NotificationApplicationService {
             // Log but don't fail the notification - status publishing is auxiliary
             logger.warn("Failed to publish status event for logId={}: {}", logId, e.getMessage());
         }
+        try {
+            statusStreamService.publish(event);
+        } catch (Exception e) {
+            logger.warn("Failed to stream status event for logId={}: {}", logId, e.getMessage());
+        }
     }
 }
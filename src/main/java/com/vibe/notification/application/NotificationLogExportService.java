@@ -0,0 +1,245 @@
+package com.vibe.notification.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vibe.notification.application.dto.NotificationLogExportRow;
+import com.vibe.notification.application.port.LogExportPort;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
+import com.vibe.notification.domain.model.NotificationLogSearch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Application service for bulk exports of notification logs
+ * Rows are written to the output as they are read from the database, so an export of any size
+ * needs only a fetch batch and a write buffer of heap.
+ *
+ * Each export holds a pooled database connection for up to max-duration, so at most
+ * max-concurrent exports run at a time; further exports are rejected instead of queueing
+ * for connections that notification processing needs.
+ */
+@Service
+public class NotificationLogExportService {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationLogExportService.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String fileExtension;
+
+        Format(String contentType, String fileExtension) {
+            this.contentType = contentType;
+            this.fileExtension = fileExtension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String fileExtension() {
+            return fileExtension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return NDJSON;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "ndjson" -> NDJSON;
+                case "csv" -> CSV;
+                default -> throw new IllegalArgumentException("Invalid export format: " + value);
+            };
+        }
+    }
+
+    /**
+     * A reserved export slot, released when closed
+     */
+    public interface ExportSlot extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final LogExportPort logExportPort;
+    private final ObjectWriter rowWriter;
+    private final ObjectMapper objectMapper;
+    private final Counter exportedRows;
+    private final int maxConcurrent;
+    private final Semaphore exportSlots;
+    private final long retryAfterSeconds;
+
+    public NotificationLogExportService(
+        LogExportPort logExportPort,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${app.log-export.max-concurrent:2}") int maxConcurrent,
+        @Value("${app.log-export.retry-after:30s}") Duration retryAfter) {
+        this.logExportPort = logExportPort;
+        this.objectMapper = objectMapper;
+        this.maxConcurrent = maxConcurrent;
+        this.exportSlots = new Semaphore(maxConcurrent);
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        // Flushing after every row would send one tiny chunk per row
+        this.rowWriter = objectMapper.writerFor(NotificationLogExportRow.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.exportedRows = Counter.builder("notification.logs.exported")
+            .description("Notification logs written by log exports")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Validate export filters before anything is written, so invalid requests can still be rejected
+     */
+    public NotificationLogSearch exportFilters(
+        String recipient,
+        String slug,
+        String status,
+        String channel,
+        String clientId,
+        LocalDateTime from,
+        LocalDateTime to) {
+        return NotificationQueryService.toSearch(recipient, slug, status, channel, clientId, from, to, null, 0);
+    }
+
+    /**
+     * Reserve an export slot; call before the response is started, so a rejection can still be sent
+     *
+     * @throws ServiceOverloadedException if max-concurrent exports are already running
+     */
+    public ExportSlot acquireSlot() {
+        if (!exportSlots.tryAcquire()) {
+            logger.warn("Log export rejected: all {} export slots are in use", maxConcurrent);
+            throw new ServiceOverloadedException("log-export", retryAfterSeconds);
+        }
+        var released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                exportSlots.release();
+            }
+        };
+    }
+
+    /**
+     * Write every log matching the filters to the output, oldest first. The output is flushed
+     * but not closed.
+     *
+     * @return the number of logs written
+     */
+    public long export(NotificationLogSearch filters, Format format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long exported;
+        try {
+            exported = switch (format) {
+                case NDJSON -> exportNdjson(filters, writer);
+                case CSV -> exportCsv(filters, writer);
+            };
+        } catch (UncheckedIOException e) {
+            // The client went away or stalled; unwrap so callers see the original write failure
+            throw e.getCause();
+        }
+        writer.flush();
+        logger.info("Exported {} notification logs as {}", exported, format);
+        return exported;
+    }
+
+    private long exportNdjson(NotificationLogSearch filters, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        // Lines are separated by the newline written after each row, not by Jackson's default space
+        generator.setRootValueSeparator(null);
+        long exported = logExportPort.exportLogs(filters, log -> {
+            try {
+                rowWriter.writeValue(generator, NotificationLogExportRow.from(log));
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exportedRows.increment();
+        });
+        generator.flush();
+        return exported;
+    }
+
+    private long exportCsv(NotificationLogSearch filters, Writer writer) throws IOException {
+        writer.write(NotificationLogExportRow.CSV_HEADER);
+        writer.write('\n');
+        return logExportPort.exportLogs(filters, log -> {
+            try {
+                appendCsvRow(writer, NotificationLogExportRow.from(log));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exportedRows.increment();
+        });
+    }
+
+    /**
+     * RFC 4180: fields containing a separator, quote or line break are quoted, quotes doubled;
+     * null is an empty field. Timestamps use the same ISO format as the NDJSON export.
+     *
+     * Text fields come from clients (recipient, slug, client ID) or providers (error message).
+     * Spreadsheets run a cell starting with =, +, -, @, tab or carriage return as a formula, so
+     * such text is prefixed with a single quote, which makes it a literal; WhatsApp recipients
+     * therefore read '+62... in the raw file.
+     */
+    static void appendCsvRow(Writer writer, NotificationLogExportRow row) throws IOException {
+        var values = row.csvValues();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] == null) {
+                continue;
+            }
+            var text = values[i] instanceof LocalDateTime dateTime
+                ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime)
+                : values[i].toString();
+            if (values[i] instanceof String && startsFormula(text)) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+            } else {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static boolean startsFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
@@ -0,0 +1,176 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.application.port.LogPartitionPort;
+import com.vibe.notification.domain.port.LogPayloadPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Maintains the monthly partitions of notification_logs.
+ * Partitions for the current month and the next months-ahead months are created in advance,
+ * so inserts only land in the default partition while a partition is missing. Such rows are
+ * moved into their month when its partition is created, so retention drops them with it. When retention-months is positive, partitions
+ * of months that ended more than retention-months ago are dropped whole: no row deletes, no
+ * vacuum debt and almost no WAL. Side store payloads of logs older than the retention boundary
+ * are deleted afterwards in small batches, since they are not in those partitions; every pass
+ * checks again, so a pass that failed halfway is caught up by the next one. Partition DDL gives
+ * up after app.log-partitions.lock-timeout rather than stalling writes behind a long-running
+ * query; a partition that could not be created or dropped is tried again on the next pass.
+ *
+ * Only one node maintains partitions at a time (cluster lock). Does nothing while the table
+ * is not partitioned (e.g. schemas created by Hibernate in tests).
+ *
+ * Only active when app.log-partitions.enabled=true (default)
+ */
+@Component
+@ConditionalOnProperty(name = "app.log-partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationLogPartitionMaintainer {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationLogPartitionMaintainer.class);
+    static final String LOCK_NAME = "notification-log-partitions";
+
+    private final LogPartitionPort logPartitionPort;
+    private final LogPayloadPort logPayloadPort;
+    private final ClusterLockPort clusterLockPort;
+    private final Counter createdCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Counter movedFromDefaultCounter;
+    private final Counter payloadsDeletedCounter;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final int payloadDeleteBatchSize;
+
+    public NotificationLogPartitionMaintainer(
+        LogPartitionPort logPartitionPort,
+        LogPayloadPort logPayloadPort,
+        ClusterLockPort clusterLockPort,
+        MeterRegistry meterRegistry,
+        @Value("${app.log-partitions.months-ahead:3}") int monthsAhead,
+        @Value("${app.log-partitions.retention-months:0}") int retentionMonths,
+        @Value("${app.log-partitions.payload-delete-batch-size:1000}") int payloadDeleteBatchSize) {
+        this.logPartitionPort = logPartitionPort;
+        this.logPayloadPort = logPayloadPort;
+        this.clusterLockPort = clusterLockPort;
+        this.createdCounter = Counter.builder("notification.log.partitions.created")
+            .description("Monthly notification log partitions created in advance")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.log.partitions.dropped")
+            .description("Monthly notification log partitions dropped by retention")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.log.partitions.failed")
+            .description("Partition creations or drops that failed and are retried on the next pass")
+            .register(meterRegistry);
+        this.movedFromDefaultCounter = Counter.builder("notification.log.partitions.default.moved")
+            .description("Notification logs moved out of the default partition into their monthly partition")
+            .register(meterRegistry);
+        this.payloadsDeletedCounter = Counter.builder("notification.log.payloads.expired")
+            .description("Side store payloads deleted after retention dropped their logs")
+            .register(meterRegistry);
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.retentionMonths = retentionMonths;
+        this.payloadDeleteBatchSize = Math.max(1, payloadDeleteBatchSize);
+    }
+
+    /**
+     * Run one maintenance pass if this node wins the cluster lock
+     *
+     * @return the number of partitions created or dropped, or -1 if another node is maintaining
+     */
+    @Scheduled(fixedDelayString = "${app.log-partitions.interval:1h}", initialDelayString = "${app.log-partitions.initial-delay:30s}")
+    public int maintain() {
+        try {
+            return clusterLockPort.runExclusively(LOCK_NAME, this::maintainPartitions).orElse(-1);
+        } catch (Exception e) {
+            logger.error("Notification log partition maintenance failed: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private int maintainPartitions() {
+        if (!logPartitionPort.isPartitioned()) {
+            logger.debug("notification_logs is not partitioned, skipping partition maintenance");
+            return 0;
+        }
+        var existing = new HashSet<>(logPartitionPort.monthlyPartitions());
+        var current = YearMonth.now();
+        int created = createAhead(current, existing);
+        int dropped = 0;
+        if (retentionMonths > 0) {
+            var oldestKept = current.minusMonths(retentionMonths);
+            dropped = dropExpired(oldestKept, existing);
+            deleteExpiredPayloads(oldestKept);
+        }
+        if (created > 0 || dropped > 0) {
+            logger.info("Notification log partitions maintained: created={}, dropped={}", created, dropped);
+        }
+        return created + dropped;
+    }
+
+    private int createAhead(YearMonth current, Set<YearMonth> existing) {
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            var month = current.plusMonths(i);
+            if (existing.contains(month)) {
+                continue;
+            }
+            try {
+                long moved = logPartitionPort.createMonthlyPartition(month);
+                createdCounter.increment();
+                created++;
+                if (moved > 0) {
+                    movedFromDefaultCounter.increment(moved);
+                    logger.warn("Moved {} notification logs of {} out of the default partition", moved, month);
+                }
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                logger.error("Could not create notification log partition for {}: {}", month, e.getMessage());
+            }
+        }
+        return created;
+    }
+
+    private int dropExpired(YearMonth oldestKept, Set<YearMonth> existing) {
+        int dropped = 0;
+        for (var month : existing.stream().sorted().toList()) {
+            if (!month.isBefore(oldestKept)) {
+                break;
+            }
+            try {
+                logPartitionPort.dropMonthlyPartition(month);
+                droppedCounter.increment();
+                dropped++;
+                logger.info("Dropped notification log partition for {}", month);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                // Usually the lock timeout behind a long-running query; retried on the next pass
+                logger.warn("Could not drop notification log partition for {}: {}", month, e.getMessage());
+            }
+        }
+        return dropped;
+    }
+
+    private void deleteExpiredPayloads(YearMonth oldestKept) {
+        var cutoff = oldestKept.atDay(1).atStartOfDay();
+        long deleted = 0;
+        int batch;
+        do {
+            batch = logPayloadPort.deleteOrphaned(cutoff, payloadDeleteBatchSize);
+            deleted += batch;
+        } while (batch == payloadDeleteBatchSize);
+        if (deleted > 0) {
+            payloadsDeletedCounter.increment(deleted);
+            logger.info("Deleted {} side store payloads of logs created before {}", deleted, cutoff);
+        }
+    }
+}
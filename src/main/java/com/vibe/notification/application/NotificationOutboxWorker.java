@@ -0,0 +1,135 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.service.NotificationDomainService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Outbox workers for notification_logs.
+ * In outbox mode the PENDING row is the durable work item: every node runs worker-threads
+ * workers that claim batches of due rows (FOR UPDATE SKIP LOCKED), process them and record
+ * the final status. Nothing is lost on restart; a claim that is never completed becomes
+ * due again once its lease expires and is picked up by any node.
+ *
+ * A batch is sent one notification at a time, so slow providers can make it outlast its
+ * lease. Once half of the lease has passed, the lease of the rest of the batch is renewed
+ * before the next send; rows that were reclaimed by another node meanwhile are skipped.
+ *
+ * Only active when app.outbox.enabled=true
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class NotificationOutboxWorker {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxWorker.class);
+
+    private final NotificationDomainService notificationDomainService;
+    private final NotificationApplicationService notificationApplicationService;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final int workerThreads;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration pollInterval;
+    private volatile boolean running = true;
+
+    public NotificationOutboxWorker(
+        NotificationDomainService notificationDomainService,
+        NotificationApplicationService notificationApplicationService,
+        @Value("${app.outbox.worker-threads:2}") int workerThreads,
+        @Value("${app.outbox.batch-size:20}") int batchSize,
+        @Value("${app.outbox.lease:5m}") Duration lease,
+        @Value("${app.outbox.poll-interval:500ms}") Duration pollInterval) {
+        this.notificationDomainService = notificationDomainService;
+        this.notificationApplicationService = notificationApplicationService;
+        this.workerThreads = workerThreads;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(workerThreads);
+        this.scheduler.setThreadNamePrefix("outbox-");
+        this.scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        this.scheduler.setAwaitTerminationSeconds(30);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.initialize();
+        for (int i = 0; i < workerThreads; i++) {
+            scheduler.scheduleWithFixedDelay(this::drain, pollInterval);
+        }
+        logger.info("Outbox workers started: workers={}, batchSize={}, lease={}", workerThreads, batchSize, lease);
+    }
+
+    @PreDestroy
+    public void stop() {
+        // In-flight notifications finish; anything claimed but not started is reclaimed after its lease
+        running = false;
+        scheduler.shutdown();
+    }
+
+    /**
+     * Claim and process batches until the outbox has no more due rows
+     *
+     * @return the number of notifications processed
+     */
+    int drain() {
+        int processed = 0;
+        try {
+            while (running) {
+                var batch = notificationDomainService.claimPending(batchSize, lease);
+                var remaining = new ArrayDeque<>(batch);
+                var leasedUntil = batch.isEmpty() ? null : batch.get(0).getNextAttemptAt();
+                while (!remaining.isEmpty()) {
+                    if (!running) {
+                        return processed;
+                    }
+                    if (LocalDateTime.now().isAfter(leasedUntil.minus(lease.dividedBy(2)))) {
+                        leasedUntil = renewLease(remaining, leasedUntil);
+                        continue;
+                    }
+                    notificationApplicationService.processClaimed(remaining.poll());
+                    processed++;
+                }
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            // Keep the worker scheduled; unprocessed claims are retried after their lease
+            logger.error("Outbox worker failed after {} notifications: {}", processed, e.getMessage(), e);
+        }
+        if (processed > 0) {
+            logger.debug("Outbox worker processed {} notifications", processed);
+        }
+        return processed;
+    }
+
+    /**
+     * Renew the lease of the unprocessed rest of a batch, dropping rows this worker no longer holds
+     *
+     * @return the new lease expiry
+     */
+    private LocalDateTime renewLease(Deque<NotificationLogDTO> remaining, LocalDateTime leasedUntil) {
+        var renewedUntil = LocalDateTime.now().plus(lease).truncatedTo(ChronoUnit.MICROS);
+        var renewed = notificationDomainService.renewLease(remaining, leasedUntil, renewedUntil);
+        if (renewed.size() < remaining.size()) {
+            logger.warn("Outbox lease lost for {} of {} claimed notifications; skipping them",
+                remaining.size() - renewed.size(), remaining.size());
+            remaining.removeIf(log -> !renewed.contains(log.getId()));
+        }
+        return renewedUntil;
+    }
+}
@@ -0,0 +1,155 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.dto.NotificationLogPageResponse;
+import com.vibe.notification.application.dto.NotificationStatusResponse;
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.NotificationLogSearch;
+import com.vibe.notification.domain.model.NotificationStatus;
+import com.vibe.notification.domain.service.NotificationDomainService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Application service for notification status lookups
+ * Lets async clients poll by log ID or trace ID instead of holding a sync connection
+ */
+@Service
+public class NotificationQueryService {
+
+    private final NotificationDomainService notificationDomainService;
+    private final int maxTraceIdsPerLookup;
+    private final int maxPageSize;
+
+    public NotificationQueryService(
+        NotificationDomainService notificationDomainService,
+        @Value("${app.status-lookup.max-trace-ids:100}") int maxTraceIdsPerLookup,
+        @Value("${app.log-search.max-page-size:200}") int maxPageSize) {
+        this.notificationDomainService = notificationDomainService;
+        this.maxTraceIdsPerLookup = maxTraceIdsPerLookup;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Get the current status of a notification by its log ID
+     */
+    public NotificationStatusResponse getStatus(UUID logId) {
+        return toResponse(notificationDomainService.getNotificationStatus(logId));
+    }
+
+    /**
+     * Get the current status of every notification matching the given trace IDs
+     */
+    public List<NotificationStatusResponse> getStatusesByTraceIds(Collection<UUID> traceIds) {
+        if (traceIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one traceId is required");
+        }
+        if (traceIds.size() > maxTraceIdsPerLookup) {
+            throw new IllegalArgumentException(
+                "At most " + maxTraceIdsPerLookup + " traceIds can be looked up at once");
+        }
+        return notificationDomainService.getNotificationStatuses(traceIds).stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    /**
+     * Search notification logs page by page, newest first.
+     * Pages continue from an opaque cursor instead of an offset, so deep pages cost the same as the first.
+     *
+     * @param cursor nextCursor of the previous page, or null for the first page
+     */
+    public NotificationLogPageResponse searchLogs(
+        String recipient,
+        String slug,
+        String status,
+        String channel,
+        String clientId,
+        LocalDateTime from,
+        LocalDateTime to,
+        String cursor,
+        int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+        var search = toSearch(recipient, slug, status, channel, clientId, from, to,
+            cursor == null || cursor.isBlank() ? null : decodeCursor(cursor), limit + 1);
+        var logs = notificationDomainService.searchNotificationLogs(search);
+        // One extra row tells whether another page exists without a count query
+        boolean hasMore = logs.size() > limit;
+        var page = hasMore ? logs.subList(0, limit) : logs;
+        var nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new NotificationLogPageResponse(page.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
+    /**
+     * Validate and normalize request filters; blank filters mean "any"
+     */
+    static NotificationLogSearch toSearch(
+        String recipient,
+        String slug,
+        String status,
+        String channel,
+        String clientId,
+        LocalDateTime from,
+        LocalDateTime to,
+        NotificationLogSearch.Cursor after,
+        int limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        return new NotificationLogSearch(
+            blankToNull(recipient),
+            blankToNull(slug),
+            status == null || status.isBlank() ? null : NotificationStatus.from(status),
+            channel == null || channel.isBlank() ? null : Channel.from(channel),
+            blankToNull(clientId),
+            from,
+            to,
+            after,
+            limit
+        );
+    }
+
+    static String encodeCursor(NotificationLogDTO last) {
+        var position = last.getCreatedAt() + "_" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static NotificationLogSearch.Cursor decodeCursor(String cursor) {
+        try {
+            var position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('_');
+            return new NotificationLogSearch.Cursor(
+                LocalDateTime.parse(position.substring(0, separator)),
+                UUID.fromString(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private NotificationStatusResponse toResponse(NotificationLogDTO log) {
+        return new NotificationStatusResponse(
+            log.getId(),
+            log.getTraceId().toString(),
+            log.getSlug(),
+            Channel.from(log.getChannel()),
+            NotificationStatus.from(log.getStatus()),
+            log.getErrorMessage(),
+            log.getSentAt(),
+            log.getCreatedAt()
+        );
+    }
+}
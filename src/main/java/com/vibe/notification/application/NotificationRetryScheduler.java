@@ -0,0 +1,72 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.domain.service.NotificationDomainService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Polls notification_logs for rescheduled notifications whose retry is due and hands them
+ * back to the async executor. Retries wait in the database, not on a sleeping thread.
+ * Every node polls; claims use SKIP LOCKED so a retry is dispatched by exactly one node.
+ *
+ * Only active when the outbox is disabled: outbox workers already claim due retries.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "false", matchIfMissing = true)
+public class NotificationRetryScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetryScheduler.class);
+
+    private final NotificationDomainService notificationDomainService;
+    private final NotificationApplicationService notificationApplicationService;
+    private final int batchSize;
+    private final Duration lease;
+
+    public NotificationRetryScheduler(
+        NotificationDomainService notificationDomainService,
+        NotificationApplicationService notificationApplicationService,
+        @Value("${app.retry.batch-size:50}") int batchSize,
+        @Value("${app.outbox.lease:5m}") Duration lease) {
+        this.notificationDomainService = notificationDomainService;
+        this.notificationApplicationService = notificationApplicationService;
+        this.batchSize = batchSize;
+        this.lease = lease;
+    }
+
+    /**
+     * Dispatch due retries until none are left or the executor is saturated
+     *
+     * @return the number of retries dispatched
+     */
+    @Scheduled(fixedDelayString = "${app.retry.poll-interval:5s}")
+    public int dispatchDueRetries() {
+        int dispatched = 0;
+        try {
+            while (true) {
+                var batch = notificationDomainService.claimDueRetries(batchSize, lease);
+                for (var log : batch) {
+                    if (!notificationApplicationService.redispatch(log)) {
+                        // Claimed but undispatched retries become due again when their lease expires
+                        logger.warn("Executor saturated, deferring remaining retries after {} dispatched", dispatched);
+                        return dispatched;
+                    }
+                    dispatched++;
+                }
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Retry dispatch failed after {} retries: {}", dispatched, e.getMessage(), e);
+        }
+        if (dispatched > 0) {
+            logger.info("Dispatched {} due notification retries", dispatched);
+        }
+        return dispatched;
+    }
+}
@@ -0,0 +1,238 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
+import com.vibe.notification.domain.model.NotificationStatusEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fan-out of notification status events to streaming subscribers (SSE)
+ * Fed from the same place status events are published to RabbitMQ.
+ *
+ * Publishing never blocks the notification worker: each subscriber has a bounded buffer
+ * that is drained on its own virtual thread, so a client that stops reading only stalls its
+ * own writes, never those of other subscribers. When a buffer is full, or a write has been
+ * stalled for longer than write-timeout, the overflow policy decides whether the oldest
+ * buffered event is dropped or the slow subscriber is disconnected.
+ *
+ * Every subscriber costs a buffer and a drain thread, so subscriptions are capped per client
+ * and in total; subscribing beyond a cap is rejected with ServiceOverloadedException.
+ */
+@Service
+public class NotificationStatusStreamService {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStatusStreamService.class);
+
+    /**
+     * What to do when a subscriber's buffer is full
+     */
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DISCONNECT
+    }
+
+    /**
+     * Destination for events of one subscriber, e.g. an SSE connection
+     */
+    public interface StatusEventSink {
+        void send(NotificationStatusEvent event) throws Exception;
+
+        void close();
+    }
+
+    private final Set<Subscription> subscriptions = new CopyOnWriteArraySet<>();
+    // Guards adding and removing subscriptions, so the caps cannot be overshot by concurrent subscribes
+    private final Map<String, Integer> subscriberCounts = new HashMap<>();
+    private final SimpleAsyncTaskExecutor drainExecutor;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long writeTimeoutNanos;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerClient;
+    private final long retryAfterSeconds;
+
+    public NotificationStatusStreamService(
+        @Value("${app.status-stream.buffer-size:256}") int bufferSize,
+        @Value("${app.status-stream.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+        @Value("${app.status-stream.write-timeout:10s}") Duration writeTimeout,
+        @Value("${app.status-stream.max-subscribers:1000}") int maxSubscribers,
+        @Value("${app.status-stream.max-subscribers-per-client:10}") int maxSubscribersPerClient,
+        @Value("${app.status-stream.retry-after:30s}") Duration retryAfter) {
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerClient = maxSubscribersPerClient;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.drainExecutor = new SimpleAsyncTaskExecutor("status-stream-");
+        this.drainExecutor.setVirtualThreads(true);
+    }
+
+    /**
+     * Register a subscriber for status events of the given client
+     *
+     * @throws ServiceOverloadedException if the client or the service has reached its subscriber cap
+     */
+    public Subscription subscribe(String clientId, StatusEventSink sink) {
+        if (clientId == null || clientId.isBlank()) {
+            throw new IllegalArgumentException("clientId is required");
+        }
+        Subscription subscription;
+        synchronized (subscriberCounts) {
+            if (subscriptions.size() >= maxSubscribers) {
+                logger.warn("Status stream subscriber rejected: all {} subscriptions are in use", maxSubscribers);
+                throw new ServiceOverloadedException("status-stream", retryAfterSeconds);
+            }
+            int clientSubscribers = subscriberCounts.getOrDefault(clientId, 0);
+            if (clientSubscribers >= maxSubscribersPerClient) {
+                logger.warn("Status stream subscriber rejected: clientId={} already has {} subscriptions",
+                    clientId, clientSubscribers);
+                throw new ServiceOverloadedException("status-stream", retryAfterSeconds);
+            }
+            subscription = new Subscription(clientId, sink);
+            subscriberCounts.put(clientId, clientSubscribers + 1);
+            subscriptions.add(subscription);
+        }
+        logger.info("Status stream subscriber added: clientId={}, subscribers={}", clientId, subscriptions.size());
+        return subscription;
+    }
+
+    /**
+     * Offer an event to every matching subscriber without blocking
+     */
+    public void publish(NotificationStatusEvent event) {
+        if (event.clientId() == null) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            if (subscription.clientId.equals(event.clientId())) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(Subscription::cancel);
+        drainExecutor.close();
+    }
+
+    /**
+     * A single subscriber with its own bounded buffer
+     */
+    public final class Subscription {
+        private final String clientId;
+        private final StatusEventSink sink;
+        private final Queue<NotificationStatusEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicLong droppedEvents = new AtomicLong();
+        private volatile long sendStartedAt;
+
+        private Subscription(String clientId, StatusEventSink sink) {
+            this.clientId = clientId;
+            this.sink = sink;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * Stop delivering events and release the sink. The sink is closed on the drain executor:
+         * closing waits for a write in progress, which may be the stalled one.
+         */
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                synchronized (subscriberCounts) {
+                    subscriptions.remove(this);
+                    subscriberCounts.computeIfPresent(clientId, (id, count) -> count > 1 ? count - 1 : null);
+                }
+                buffer.clear();
+                try {
+                    drainExecutor.execute(sink::close);
+                } catch (Exception e) {
+                    sink.close();
+                }
+                logger.info("Status stream subscriber removed: clientId={}, droppedEvents={}", clientId, droppedEvents.get());
+            }
+        }
+
+        public long getDroppedEvents() {
+            return droppedEvents.get();
+        }
+
+        private void offer(NotificationStatusEvent event) {
+            if (cancelled.get()) {
+                return;
+            }
+            if (overflowPolicy == OverflowPolicy.DISCONNECT && isWriteStalled()) {
+                logger.warn("Disconnecting stalled status stream subscriber: clientId={}", clientId);
+                cancel();
+                return;
+            }
+            while (!buffer.offer(event)) {
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    logger.warn("Disconnecting slow status stream subscriber: clientId={}, bufferSize={}", clientId, bufferSize);
+                    cancel();
+                    return;
+                }
+                if (buffer.poll() != null) {
+                    droppedEvents.incrementAndGet();
+                }
+            }
+            scheduleDrain();
+        }
+
+        private boolean isWriteStalled() {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && System.nanoTime() - startedAt > writeTimeoutNanos;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    drainExecutor.execute(this::drain);
+                } catch (Exception e) {
+                    draining.set(false);
+                    logger.warn("Failed to schedule status stream delivery for clientId={}: {}", clientId, e.getMessage());
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                NotificationStatusEvent event;
+                while (!cancelled.get() && (event = buffer.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    sink.send(event);
+                    sendStartedAt = 0;
+                }
+            } catch (Exception e) {
+                logger.debug("Status stream subscriber failed, removing: clientId={}, error={}", clientId, e.getMessage());
+                cancel();
+            } finally {
+                sendStartedAt = 0;
+                draining.set(false);
+            }
+            // An event may have arrived after the last poll but before the flag was cleared
+            if (!cancelled.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
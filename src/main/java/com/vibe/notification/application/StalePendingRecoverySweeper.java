@@ -0,0 +1,118 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.AdmissionControlPort;
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.service.NotificationDomainService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Safety net for notifications lost from the in-memory executor (deploys, crashes).
+ * Periodically re-dispatches notification_logs rows stuck in PENDING longer than stale-after.
+ *
+ * Only one node sweeps at a time (cluster lock). Work is throttled: rows are claimed in
+ * batches, at most max-per-run per run, and the run stops as soon as admission control
+ * reports the pipeline saturated. Rows claimed but not dispatched keep their lease and are
+ * retried once it expires.
+ *
+ * Only active when app.stale-recovery.enabled=true (default)
+ */
+@Component
+@ConditionalOnProperty(name = "app.stale-recovery.enabled", havingValue = "true", matchIfMissing = true)
+public class StalePendingRecoverySweeper {
+    private static final Logger logger = LoggerFactory.getLogger(StalePendingRecoverySweeper.class);
+    static final String LOCK_NAME = "notification-stale-pending-sweeper";
+
+    private final NotificationDomainService notificationDomainService;
+    private final NotificationApplicationService notificationApplicationService;
+    private final ClusterLockPort clusterLockPort;
+    private final AdmissionControlPort admissionControlPort;
+    private final Counter recoveredCounter;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final int maxPerRun;
+    private final Duration lease;
+
+    public StalePendingRecoverySweeper(
+        NotificationDomainService notificationDomainService,
+        NotificationApplicationService notificationApplicationService,
+        ClusterLockPort clusterLockPort,
+        AdmissionControlPort admissionControlPort,
+        MeterRegistry meterRegistry,
+        @Value("${app.stale-recovery.stale-after:10m}") Duration staleAfter,
+        @Value("${app.stale-recovery.batch-size:50}") int batchSize,
+        @Value("${app.stale-recovery.max-per-run:500}") int maxPerRun,
+        @Value("${app.outbox.lease:5m}") Duration lease) {
+        this.notificationDomainService = notificationDomainService;
+        this.notificationApplicationService = notificationApplicationService;
+        this.clusterLockPort = clusterLockPort;
+        this.admissionControlPort = admissionControlPort;
+        this.recoveredCounter = Counter.builder("notification.recovery.redispatched")
+            .description("Stale PENDING notifications re-dispatched by the recovery sweeper")
+            .register(meterRegistry);
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+        this.maxPerRun = maxPerRun;
+        this.lease = lease;
+    }
+
+    /**
+     * Run one sweep if this node wins the cluster lock
+     *
+     * @return the number of notifications re-dispatched, or -1 if another node is sweeping
+     */
+    @Scheduled(fixedDelayString = "${app.stale-recovery.interval:1m}", initialDelayString = "${app.stale-recovery.interval:1m}")
+    public int sweep() {
+        try {
+            return clusterLockPort.runExclusively(LOCK_NAME, this::recoverStale).orElse(-1);
+        } catch (Exception e) {
+            logger.error("Stale PENDING recovery failed: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private int recoverStale() {
+        int recovered = 0;
+        boolean saturated = false;
+        while (!saturated && recovered < maxPerRun) {
+            int limit = Math.min(batchSize, maxPerRun - recovered);
+            var batch = notificationDomainService.claimStalePending(staleAfter, limit, lease);
+            for (var log : batch) {
+                if (!hasHeadroom(log) || !notificationApplicationService.redispatch(log)) {
+                    saturated = true;
+                    break;
+                }
+                recovered++;
+            }
+            if (batch.size() < limit) {
+                break;
+            }
+        }
+        recoveredCounter.increment(recovered);
+        if (recovered > 0 || saturated) {
+            logger.warn("Stale PENDING recovery re-dispatched {} notifications (stoppedOnSaturation={})", recovered, saturated);
+        } else {
+            logger.debug("Stale PENDING recovery found nothing to re-dispatch");
+        }
+        return recovered;
+    }
+
+    private boolean hasHeadroom(NotificationLogDTO log) {
+        try {
+            return !admissionControlPort.isSaturated(Channel.fromString(log.getChannel()));
+        } catch (IllegalArgumentException e) {
+            // Unknown channel: let redispatch mark the log FAILED
+            return true;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.vibe.notification.application.dto;
+
+import com.vibe.notification.domain.model.Channel;
+
+import java.time.LocalDateTime;
+
+/**
+ * Delivery Statistics Response DTO - one hour of one channel, template and client
+ *
+ * @param hour start of the hour the notifications reached their final status in
+ * @param channel the notification channel
+ * @param slug the template identifier
+ * @param clientId the client that sent the notifications (null if none)
+ * @param sent notifications delivered successfully
+ * @param failed notifications that failed
+ */
+public record DeliveryStatsResponse(
+    LocalDateTime hour,
+    Channel channel,
+    String slug,
+    String clientId,
+    long sent,
+    long failed
+) {}
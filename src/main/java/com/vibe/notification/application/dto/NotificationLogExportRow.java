@@ -0,0 +1,65 @@
+package com.vibe.notification.application.dto;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One exported notification log (NDJSON line or CSV row); template variables are never exported
+ *
+ * @param logId the internal notification log ID
+ * @param traceId the internal trace ID
+ * @param clientId the client that sent the notification
+ * @param recipient the email address or phone number
+ * @param slug the template identifier
+ * @param language the template language
+ * @param channel the notification channel
+ * @param status the delivery status at export time
+ * @param errorMessage the failure reason (null unless FAILED or retrying)
+ * @param attemptCount the number of delivery attempts so far
+ * @param sentAt when the provider accepted or rejected the notification
+ * @param createdAt when the notification was accepted
+ */
+public record NotificationLogExportRow(
+    UUID logId,
+    UUID traceId,
+    String clientId,
+    String recipient,
+    String slug,
+    String language,
+    String channel,
+    String status,
+    String errorMessage,
+    int attemptCount,
+    LocalDateTime sentAt,
+    LocalDateTime createdAt
+) {
+    public static final String CSV_HEADER =
+        "logId,traceId,clientId,recipient,slug,language,channel,status,errorMessage,attemptCount,sentAt,createdAt";
+
+    public static NotificationLogExportRow from(NotificationLogDTO log) {
+        return new NotificationLogExportRow(
+            log.getId(),
+            log.getTraceId(),
+            log.getClientId(),
+            log.getRecipient(),
+            log.getSlug(),
+            log.getLanguage(),
+            log.getChannel(),
+            log.getStatus(),
+            log.getErrorMessage(),
+            log.getAttemptCount(),
+            log.getSentAt(),
+            log.getCreatedAt()
+        );
+    }
+
+    /**
+     * Values in CSV_HEADER order
+     */
+    public Object[] csvValues() {
+        return new Object[] {logId, traceId, clientId, recipient, slug, language, channel, status,
+            errorMessage, attemptCount, sentAt, createdAt};
+    }
+}
@@ -0,0 +1,14 @@
+package com.vibe.notification.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a notification log search
+ *
+ * @param items the matching notifications, newest first
+ * @param nextCursor opaque cursor for the next page (null when this is the last page)
+ */
+public record NotificationLogPageResponse(
+    List<NotificationStatusResponse> items,
+    String nextCursor
+) {}
@@ -0,0 +1,30 @@
+package com.vibe.notification.application.dto;
+
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.NotificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Notification Status Response DTO
+ *
+ * @param logId the internal notification log ID returned by the send endpoint
+ * @param traceId the internal trace ID returned by the send endpoint
+ * @param slug the template identifier
+ * @param channel the notification channel
+ * @param status the current delivery status
+ * @param errorMessage the failure reason (null unless FAILED)
+ * @param sentAt when the provider accepted or rejected the notification (null while PENDING)
+ * @param createdAt when the notification was accepted
+ */
+public record NotificationStatusResponse(
+    UUID logId,
+    String traceId,
+    String slug,
+    Channel channel,
+    NotificationStatus status,
+    String errorMessage,
+    LocalDateTime sentAt,
+    LocalDateTime createdAt
+) {}
@@ -1,6 +1,7 @@
 package com.vibe.notification.application.dto;
 
 import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.TemplateVariables;
 import java.util.Map;
 import java.util.Optional;
 
@@ -20,7 +21,7 @@ public record SendNotificationRequest(
     String slug,
     String language,
     Channel channel,
-    Map<String, Object> variables,
+    TemplateVariables variables,
     Optional<String> traceId,
     Optional<String> clientId
 ) {
@@ -34,7 +35,7 @@ public record SendNotificationRequest(
         Channel channel,
         Map<String, Object> variables
     ) {
-        this(recipient, slug, language, channel, variables, Optional.empty(), Optional.empty());
+        this(recipient, slug, language, channel, TemplateVariables.of(variables), Optional.empty(), Optional.empty());
     }
     
     /**
@@ -48,7 +49,7 @@ public record SendNotificationRequest(
         Map<String, Object> variables,
         Optional<String> traceId
     ) {
-        this(recipient, slug, language, channel, variables, traceId, Optional.empty());
+        this(recipient, slug, language, channel, TemplateVariables.of(variables), traceId, Optional.empty());
     }
 }
 
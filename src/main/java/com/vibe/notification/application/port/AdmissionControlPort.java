@@ -0,0 +1,49 @@
+package com.vibe.notification.application.port;
+
+import com.vibe.notification.domain.model.Channel;
+
+/**
+ * Port for admission control of new notifications.
+ * Application layer defines the contract; infrastructure implements it by inspecting
+ * executor queue depth, provider bulkheads and database pool pressure.
+ */
+public interface AdmissionControlPort {
+
+    /**
+     * Decide whether a new notification for the given channel can be accepted right now
+     */
+    Decision evaluate(Channel channel);
+
+    /**
+     * Whether the pipeline is saturated for the given channel, for internal callers that only
+     * probe for headroom: unlike evaluate, it neither logs nor counts a rejection
+     */
+    boolean isSaturated(Channel channel);
+
+    /**
+     * Record a rejection that happened after admission (e.g. the executor refused the task)
+     */
+    void recordRejection(String reason);
+
+    /**
+     * How long rejected clients should wait before retrying
+     */
+    long getRetryAfterSeconds();
+
+    /**
+     * Outcome of an admission check
+     *
+     * @param admitted whether the notification may be accepted
+     * @param reason the saturated resource when rejected (null when admitted)
+     * @param retryAfterSeconds how long the client should wait before retrying
+     */
+    record Decision(boolean admitted, String reason, long retryAfterSeconds) {
+        public static Decision admit() {
+            return new Decision(true, null, 0);
+        }
+
+        public static Decision reject(String reason, long retryAfterSeconds) {
+            return new Decision(false, reason, retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.vibe.notification.application.port;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Port for cluster-wide mutual exclusion of background jobs.
+ * Application layer defines the contract; infrastructure implements it with database locks.
+ */
+public interface ClusterLockPort {
+
+    /**
+     * Run the task only if this node acquires the named lock.
+     * Never waits: returns empty when another node currently holds the lock.
+     */
+    <T> Optional<T> runExclusively(String lockName, Supplier<T> task);
+}
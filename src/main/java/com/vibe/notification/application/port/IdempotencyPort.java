@@ -1,10 +1,53 @@
 package com.vibe.notification.application.port;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
 /**
  * Port for idempotency checks (processed messages).
  * Application layer defines the contract; infrastructure implements it.
  */
 public interface IdempotencyPort {
-    boolean isMessageAlreadyProcessed(String messageId);
-    void markMessageAsProcessed(String messageId);
+
+    /**
+     * Atomically claim a message ID in a single round trip
+     *
+     * @return true if this caller claimed it, false if it was claimed before
+     */
+    boolean tryClaim(String messageId);
+
+    /**
+     * Atomically claim a batch of message IDs in a single round trip
+     *
+     * @return the IDs this caller claimed; the others were claimed before
+     */
+    Set<String> tryClaimAll(Collection<String> messageIds);
+
+    /**
+     * Give up a claim whose message could not be accepted, so a retry is processed again
+     */
+    void releaseClaim(String messageId);
+
+    /**
+     * Delete up to batchSize keys claimed before the cutoff, oldest first.
+     * Rows locked by concurrent work are skipped, never waited on.
+     *
+     * @return the number of keys deleted
+     */
+    int purgeClaimedBefore(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * Current size of the idempotency store
+     */
+    StoreSize storeSize();
+
+    /**
+     * Size of the idempotency store
+     *
+     * @param estimatedKeys planner estimate of the number of keys
+     * @param totalBytes size of the table including indexes
+     */
+    record StoreSize(long estimatedKeys, long totalBytes) {
+    }
 }
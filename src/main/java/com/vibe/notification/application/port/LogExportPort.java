@@ -0,0 +1,22 @@
+package com.vibe.notification.application.port;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.NotificationLogSearch;
+
+import java.util.function.Consumer;
+
+/**
+ * Port for streaming notification logs out of the store without loading them into memory.
+ * Application layer defines the contract; infrastructure implements it.
+ */
+public interface LogExportPort {
+
+    /**
+     * Hand every log matching the filters of the search to the sink, oldest first, one row at
+     * a time. The cursor and limit of the search are ignored and variables are not loaded.
+     * Exceptions thrown by the sink abort the export and are rethrown unchanged.
+     *
+     * @return the number of logs handed to the sink
+     */
+    long exportLogs(NotificationLogSearch filters, Consumer<NotificationLogDTO> sink);
+}
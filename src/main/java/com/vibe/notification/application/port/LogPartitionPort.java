@@ -0,0 +1,34 @@
+package com.vibe.notification.application.port;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Port for maintaining the monthly partitions of the notification log table.
+ * Application layer defines the contract; infrastructure implements it.
+ */
+public interface LogPartitionPort {
+
+    /**
+     * @return true if the notification log table is range-partitioned by creation time
+     */
+    boolean isPartitioned();
+
+    /**
+     * Months that currently have their own partition, oldest first
+     */
+    List<YearMonth> monthlyPartitions();
+
+    /**
+     * Create the partition holding notifications created in the given month, if missing.
+     * Notifications of that month already in the default partition are moved into it.
+     *
+     * @return the number of notifications moved out of the default partition
+     */
+    long createMonthlyPartition(YearMonth month);
+
+    /**
+     * Drop the partition of the given month together with all its notifications
+     */
+    void dropMonthlyPartition(YearMonth month);
+}
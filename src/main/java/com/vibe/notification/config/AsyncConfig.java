@@ -9,6 +9,6 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-    // Spring will use the default ThreadPoolTaskExecutor from application.yml
-    // Properties: spring.task.execution.pool.*
+    // @Async methods run on the bounded notificationTaskExecutor (AsyncExecutorConfig)
+    // Properties: otel.async.*
 }
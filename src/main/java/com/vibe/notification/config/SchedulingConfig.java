@@ -0,0 +1,14 @@
+package com.vibe.notification.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration for @Scheduled background jobs
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Spring will use the default ThreadPoolTaskScheduler from application.yml
+    // Properties: spring.task.scheduling.pool.*
+}
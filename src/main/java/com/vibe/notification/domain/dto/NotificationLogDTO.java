@@ -21,6 +21,9 @@ public class NotificationLogDTO {
     private final LocalDateTime sentAt;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final String clientId;
+    private final LocalDateTime nextAttemptAt;
+    private final int attemptCount;
 
     public NotificationLogDTO(
             UUID id,
@@ -35,6 +38,26 @@ public class NotificationLogDTO {
             LocalDateTime sentAt,
             LocalDateTime createdAt,
             LocalDateTime updatedAt) {
+        this(id, traceId, slug, language, channel, recipient, variables, status, errorMessage,
+                sentAt, createdAt, updatedAt, null, null, 0);
+    }
+
+    public NotificationLogDTO(
+            UUID id,
+            UUID traceId,
+            String slug,
+            String language,
+            String channel,
+            String recipient,
+            JsonNode variables,
+            String status,
+            String errorMessage,
+            LocalDateTime sentAt,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            String clientId,
+            LocalDateTime nextAttemptAt,
+            int attemptCount) {
         this.id = id;
         this.traceId = traceId;
         this.slug = slug;
@@ -47,6 +70,9 @@ public class NotificationLogDTO {
         this.sentAt = sentAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.clientId = clientId;
+        this.nextAttemptAt = nextAttemptAt;
+        this.attemptCount = attemptCount;
     }
 
     public UUID getId() {
@@ -96,4 +122,22 @@ public class NotificationLogDTO {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    /**
+     * When the row may next be claimed by an outbox worker (the claim lease while in flight)
+     */
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    /**
+     * Number of delivery attempts that failed transiently and were rescheduled
+     */
+    public int getAttemptCount() {
+        return attemptCount;
+    }
 }
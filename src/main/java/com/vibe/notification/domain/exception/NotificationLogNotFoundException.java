@@ -0,0 +1,11 @@
+package com.vibe.notification.domain.exception;
+
+import java.util.UUID;
+
+public class NotificationLogNotFoundException extends NotificationException {
+    private static final long serialVersionUID = 1L;
+
+    public NotificationLogNotFoundException(UUID logId) {
+        super(String.format("Notification not found for id='%s'", logId));
+    }
+}
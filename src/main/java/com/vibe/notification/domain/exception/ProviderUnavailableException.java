@@ -0,0 +1,32 @@
+package com.vibe.notification.domain.exception;
+
+/**
+ * Exception thrown when a notification provider fails transiently (5xx, throttling, timeouts,
+ * connection errors). Notifications failing with it are rescheduled instead of failed.
+ */
+public class ProviderUnavailableException extends NotificationException {
+    private static final long serialVersionUID = 1L;
+
+    public ProviderUnavailableException(String message) {
+        super(message);
+    }
+
+    public ProviderUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Whether the failure or anything in its cause chain is a transient provider failure
+     */
+    public static boolean isCauseOf(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ProviderUnavailableException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
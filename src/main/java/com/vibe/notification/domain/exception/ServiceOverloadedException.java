@@ -0,0 +1,20 @@
+package com.vibe.notification.domain.exception;
+
+/**
+ * Exception thrown when a notification is rejected because the processing pipeline is saturated.
+ * Carries a hint for how long the client should wait before retrying.
+ */
+public class ServiceOverloadedException extends NotificationException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String reason, long retryAfterSeconds) {
+        super("Notification service is overloaded: " + reason);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,28 @@
+package com.vibe.notification.domain.model;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+
+/**
+ * Dimensions delivery statistics are counted by
+ *
+ * @param channel the notification channel
+ * @param slug the template identifier
+ * @param clientId the client that sent the notification, null if none
+ */
+public record DeliveryStatsKey(Channel channel, String slug, String clientId) {
+
+    public static DeliveryStatsKey of(NotificationRequest request) {
+        return new DeliveryStatsKey(request.channel(), request.slug(), request.clientId());
+    }
+
+    /**
+     * @return null if the log's channel is not a known channel, so it cannot be counted
+     */
+    public static DeliveryStatsKey of(NotificationLogDTO log) {
+        try {
+            return new DeliveryStatsKey(Channel.from(log.getChannel()), log.getSlug(), log.getClientId());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.vibe.notification.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Delivery outcomes of one hour for one channel, template and client
+ *
+ * @param hour start of the hour the notifications reached their final status in
+ * @param channel the notification channel
+ * @param slug the template identifier
+ * @param clientId the client that sent the notifications, null if none
+ * @param sent notifications that reached SUCCESS
+ * @param failed notifications that reached FAILED
+ */
+public record HourlyDeliveryStats(
+    LocalDateTime hour,
+    Channel channel,
+    String slug,
+    String clientId,
+    long sent,
+    long failed
+) {
+}
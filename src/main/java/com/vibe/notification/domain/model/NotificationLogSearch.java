@@ -0,0 +1,37 @@
+package com.vibe.notification.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Filters and keyset position for a notification log search.
+ * Results are ordered newest first by (createdAt, id); every filter is optional.
+ *
+ * @param recipient exact recipient
+ * @param slug template identifier
+ * @param status delivery status
+ * @param channel notification channel
+ * @param clientId client that sent the notification
+ * @param from inclusive lower bound on createdAt
+ * @param to exclusive upper bound on createdAt
+ * @param after position of the last log of the previous page, null for the first page
+ * @param limit maximum number of logs to return
+ */
+public record NotificationLogSearch(
+    String recipient,
+    String slug,
+    NotificationStatus status,
+    Channel channel,
+    String clientId,
+    LocalDateTime from,
+    LocalDateTime to,
+    Cursor after,
+    int limit
+) {
+
+    /**
+     * Keyset position: the page continues with logs strictly older than (createdAt, id)
+     */
+    public record Cursor(LocalDateTime createdAt, UUID id) {
+    }
+}
@@ -1,7 +1,5 @@
 package com.vibe.notification.domain.model;
 
-import java.util.Map;
-
 /**
  * Notification Request - Java 21 Record for immutable data transfer
  * 
@@ -17,7 +15,7 @@ public record NotificationRequest(
     String slug,
     String language,
     Channel channel,
-    Map<String, Object> variables,
+    TemplateVariables variables,
     String clientId
 ) {
     public NotificationRequest {
@@ -33,6 +31,9 @@ public record NotificationRequest(
         if (language == null || language.isBlank()) {
             throw new IllegalArgumentException("Language cannot be null or blank");
         }
+        if (variables == null) {
+            variables = TemplateVariables.empty();
+        }
         // clientId is optional, can be null
     }
 }
@@ -3,7 +3,7 @@ package com.vibe.notification.domain.model;
 /**
  * Domain model representing the result of a notification processing
  * 
- * @param status the final status (SUCCESS or FAILED)
+ * @param status the final status (SUCCESS or FAILED), or PENDING when a retry was scheduled
  * @param errorMessage optional error message if failed
  */
 public record NotificationResult(
@@ -24,6 +24,13 @@ public record NotificationResult(
         return new NotificationResult(NotificationStatus.FAILED, errorMessage);
     }
     
+    /**
+     * Create a result for a transient failure that was rescheduled
+     */
+    public static NotificationResult retryScheduled(String errorMessage) {
+        return new NotificationResult(NotificationStatus.PENDING, errorMessage);
+    }
+
     /**
      * Check if the notification was successful
      */
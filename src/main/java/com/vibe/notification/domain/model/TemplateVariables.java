@@ -0,0 +1,320 @@
+package com.vibe.notification.domain.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Template variables of one notification, carried through the pipeline in the form they arrived in.
+ *
+ * Variables read from JSON (HTTP body, RabbitMQ message, side store) keep the raw JSON bytes:
+ * the notification log stores those bytes as they are, and generators write them without
+ * decoding them to a String. The map is only parsed when a template is rendered, so the
+ * asynchronous accept path never builds it. Variables built in code keep the map and are
+ * serialized on first use. Each form is computed at most once.
+ *
+ * Parsing and serializing use the ObjectMapper the variables were read with or handed, so the
+ * application's Jackson configuration applies; the default mapper only serves variables built
+ * in code without one, such as in tests.
+ */
+@JsonSerialize(using = TemplateVariables.Serializer.class)
+@JsonDeserialize(using = TemplateVariables.Deserializer.class)
+public final class TemplateVariables {
+    private static final ObjectMapper DEFAULT_MAPPER = JsonMapper.builder()
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final int INITIAL_BUFFER_SIZE = 128;
+    private static final TemplateVariables EMPTY =
+        new TemplateVariables(Map.of(), "{}".getBytes(StandardCharsets.UTF_8), DEFAULT_MAPPER);
+
+    private final ObjectCodec codec;
+    private volatile Map<String, Object> map;
+    private volatile byte[] json;
+
+    private TemplateVariables(Map<String, Object> map, byte[] json, ObjectCodec codec) {
+        this.map = map;
+        this.json = json;
+        this.codec = codec;
+    }
+
+    /**
+     * @param variables the variables, not copied; null means no variables
+     */
+    public static TemplateVariables of(Map<String, ?> variables) {
+        return of(variables, DEFAULT_MAPPER);
+    }
+
+    /**
+     * @param variables the variables, not copied; null means no variables
+     * @param mapper serializes the variables when their JSON is needed
+     */
+    public static TemplateVariables of(Map<String, ?> variables, ObjectMapper mapper) {
+        if (variables == null) {
+            return EMPTY;
+        }
+        return new TemplateVariables(Collections.unmodifiableMap(variables), null, mapper);
+    }
+
+    /**
+     * @param json a serialized JSON object, not copied and not validated until the map is needed
+     */
+    public static TemplateVariables fromJson(byte[] json) {
+        return fromJson(json, DEFAULT_MAPPER);
+    }
+
+    /**
+     * @param json a serialized JSON object, not copied and not validated until the map is needed
+     * @param mapper parses the JSON when the map is needed
+     */
+    public static TemplateVariables fromJson(byte[] json, ObjectMapper mapper) {
+        Objects.requireNonNull(json, "json");
+        return new TemplateVariables(null, json, mapper);
+    }
+
+    public static TemplateVariables empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the variables as a read-only map, parsed on first call
+     * @throws IllegalArgumentException if the JSON is not an object
+     */
+    public Map<String, Object> asMap() {
+        var current = map;
+        if (current == null) {
+            try (var parser = codec.getFactory().createParser(json)) {
+                current = Collections.unmodifiableMap(codec.readValue(parser, MAP_TYPE));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Variables are not a JSON object: " + e.getMessage(), e);
+            }
+            map = current;
+        }
+        return current;
+    }
+
+    /**
+     * Looks the key up among the top-level names without building the map: nested values of
+     * unparsed JSON are skipped, not read.
+     *
+     * @throws IllegalArgumentException if the JSON is not an object
+     */
+    public boolean containsKey(String key) {
+        var current = map;
+        if (current != null) {
+            return current.containsKey(key);
+        }
+        try (var parser = codec.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Variables are not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (key.equals(parser.currentName())) {
+                    return true;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return false;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Variables are not a JSON object: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the variables as UTF-8 JSON, serialized on first call; callers must not modify the array
+     */
+    public byte[] toJson() {
+        var current = json;
+        if (current == null) {
+            var buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+            try (var generator = codec.getFactory().createGenerator(buffer)) {
+                codec.writeValue(generator, map);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Variables cannot be serialized: " + e.getMessage(), e);
+            }
+            current = buffer.toByteArray();
+            json = current;
+        }
+        return current;
+    }
+
+    /**
+     * @return the JSON as a raw value for JSON trees, written as its bytes without a String copy
+     */
+    public RawValue toRawValue() {
+        return new RawValue(new Utf8Json(toJson()));
+    }
+
+    boolean isParsed() {
+        return map != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof TemplateVariables variables && asMap().equals(variables.asMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new String(toJson(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the JSON bytes when they are known, the map otherwise
+     */
+    static final class Serializer extends JsonSerializer<TemplateVariables> {
+        @Override
+        public void serialize(TemplateVariables value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            var known = value.json;
+            if (known != null) {
+                generator.writeRawValue(new Utf8Json(known));
+            } else {
+                provider.defaultSerializeValue(value.map, generator);
+            }
+        }
+    }
+
+    /**
+     * Copies the JSON object token by token into a byte buffer, without building a map or tree
+     */
+    static final class Deserializer extends JsonDeserializer<TemplateVariables> {
+        @Override
+        public TemplateVariables deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartObjectToken()) {
+                return (TemplateVariables) context.handleUnexpectedToken(TemplateVariables.class, parser);
+            }
+            var codec = parser.getCodec() != null ? parser.getCodec() : DEFAULT_MAPPER;
+            var buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+            try (var generator = codec.getFactory().createGenerator(buffer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return new TemplateVariables(null, buffer.toByteArray(), codec);
+        }
+    }
+
+    /**
+     * Serialized JSON kept as UTF-8 bytes. UTF-8 generators copy the bytes straight into their
+     * output; only character-based generators (e.g. writing to a String) decode them.
+     */
+    private static final class Utf8Json implements SerializableString {
+        private final byte[] bytes;
+        private volatile SerializedString text;
+
+        Utf8Json(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private SerializedString text() {
+            var current = text;
+            if (current == null) {
+                current = new SerializedString(new String(bytes, StandardCharsets.UTF_8));
+                text = current;
+            }
+            return current;
+        }
+
+        @Override
+        public String getValue() {
+            return text().getValue();
+        }
+
+        @Override
+        public int charLength() {
+            return text().charLength();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return text().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return bytes;
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return text().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return text().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return text().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + bytes.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+            return bytes.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            return text().appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return text().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(bytes);
+            return bytes.length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+            return text().putQuotedUTF8(buffer);
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) throws IOException {
+            if (bytes.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(bytes);
+            return bytes.length;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.vibe.notification.domain.model;
+
+import java.util.Locale;
+
+/**
+ * How the template variables of a notification are kept in the notification log
+ */
+public enum VariablesStorageMode {
+    /**
+     * Stored as sent
+     */
+    FULL,
+    /**
+     * Sensitive values replaced by their HMAC-SHA256 under the configured hash-key; only holders
+     * of the key can check whether a log contains a known value
+     */
+    HASHED,
+    /**
+     * Sensitive values replaced by a placeholder
+     */
+    REDACTED;
+
+    public static VariablesStorageMode from(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Variables storage mode cannot be null or empty");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid variables storage mode: " + value);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.vibe.notification.domain.port;
+
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.DeliveryStatsKey;
+import com.vibe.notification.domain.model.HourlyDeliveryStats;
+import com.vibe.notification.domain.model.NotificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Port for pre-aggregated delivery statistics.
+ * Domain layer defines the contract; infrastructure implements it.
+ */
+public interface DeliveryStatsPort {
+
+    /**
+     * Count one notification reaching a final status. Called on the delivery path, so it must
+     * be cheap and must not fail: outcomes are counted in memory and written by flush().
+     */
+    void recordOutcome(DeliveryStatsKey key, NotificationStatus status, LocalDateTime completedAt);
+
+    /**
+     * Add the outcomes counted since the last flush to the hourly rollup
+     *
+     * @return the number of rollup rows written
+     */
+    int flush();
+
+    /**
+     * Hourly rollup rows with from <= hour < to, oldest first; null filters match everything.
+     * Reads the rollup only, never the notification logs.
+     */
+    List<HourlyDeliveryStats> findHourly(LocalDateTime from, LocalDateTime to, Channel channel, String slug, String clientId);
+}
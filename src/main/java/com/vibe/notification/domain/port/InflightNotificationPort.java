@@ -0,0 +1,34 @@
+package com.vibe.notification.domain.port;
+
+import com.vibe.notification.domain.model.NotificationRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port for markers of sync notifications whose log row is only written once they are done.
+ * Domain layer defines the contract; infrastructure implements it.
+ */
+public interface InflightNotificationPort {
+
+    /**
+     * A notification being processed without a log row yet
+     *
+     * @param logId id of the log row that will be written
+     * @param traceId internal trace ID
+     * @param request the request, with its full variables
+     * @param createdAt created_at of the log row that will be written
+     */
+    record InflightNotification(UUID logId, UUID traceId, NotificationRequest request, LocalDateTime createdAt) {
+    }
+
+    void add(InflightNotification notification);
+
+    void remove(UUID logId);
+
+    /**
+     * @return up to limit markers created before createdBefore, oldest first
+     */
+    List<InflightNotification> findCreatedBefore(LocalDateTime createdBefore, int limit);
+}
@@ -0,0 +1,66 @@
+package com.vibe.notification.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port for notification variables kept outside the notification log row.
+ * Domain layer defines the contract; infrastructure implements it.
+ */
+public interface LogPayloadPort {
+
+    /**
+     * Why the full variables of a log are kept in the side store
+     */
+    enum Kind {
+        /**
+         * Too large for the log row; kept for as long as the log
+         */
+        OFFLOADED,
+        /**
+         * The log row holds hashed or redacted variables; the full ones are only kept until
+         * the notification has been delivered or has failed
+         */
+        DELIVERY_COPY,
+        /**
+         * Hashed or redacted variables too large for the log row; kept for as long as the log,
+         * next to the delivery copy of the full ones
+         */
+        MASKED
+    }
+
+    /**
+     * Variables of one log, as serialized JSON; a log has at most one payload of each kind
+     */
+    record Payload(UUID logId, LocalDateTime logCreatedAt, Kind kind, byte[] json) {
+    }
+
+    /**
+     * Store payloads in one round trip, before their logs are inserted
+     */
+    void storeAll(List<Payload> payloads);
+
+    /**
+     * @return the serialized full JSON variables of the log, if the side store holds them;
+     *         never its MASKED payload
+     */
+    Optional<byte[]> find(UUID logId);
+
+    /**
+     * Delete up to batchSize delivery copies stored before createdBefore whose log is no
+     * longer PENDING (or was never inserted)
+     *
+     * @return the number of copies deleted
+     */
+    int purgeDeliveryCopies(LocalDateTime createdBefore, int batchSize);
+
+    /**
+     * Delete up to batchSize payloads of any kind whose log was created before logsCreatedBefore
+     * and no longer exists, e.g. because retention dropped its partition
+     *
+     * @return the number of payloads deleted
+     */
+    int deleteOrphaned(LocalDateTime logsCreatedBefore, int batchSize);
+}
@@ -1,14 +1,91 @@
 package com.vibe.notification.domain.port;
 
 import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.NotificationLogSearch;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Port for NotificationLog persistence operations.
  * Domain layer defines the contract; infrastructure implements it.
  */
 public interface NotificationLogPort {
-    NotificationLogDTO save(NotificationLogDTO logEntity);
+    /**
+     * Insert a new log with a single INSERT; the log must not exist yet
+     */
+    NotificationLogDTO insert(NotificationLogDTO log);
+
+    /**
+     * Insert new logs in a single batched round trip
+     */
+    void insertAll(List<NotificationLogDTO> logs);
+
+    /**
+     * Insert a log unless a log with the same id exists, whatever its created_at
+     *
+     * @return false if the log already existed
+     */
+    boolean insertIfAbsent(NotificationLogDTO log);
+
+    /**
+     * Ids are unique in practice but not enforced by the database across partitions;
+     * should a duplicate ever exist, either log may be returned
+     */
     Optional<NotificationLogDTO> findById(UUID id);
+    List<NotificationLogDTO> findByTraceIds(Collection<UUID> traceIds);
+
+    /**
+     * One page of logs matching the search, newest first, using keyset pagination on
+     * (created_at, id). Never returns more than search.limit() logs. Variables are not loaded.
+     */
+    List<NotificationLogDTO> search(NotificationLogSearch search);
+
+    /**
+     * Move a PENDING log to a final status with a single conditional UPDATE, without reading
+     * or rewriting the rest of the row. An implementation that batches these UPDATEs completes
+     * the result only once the UPDATE has been written, on its writing thread.
+     *
+     * @return completes with false if the log does not exist or is no longer PENDING
+     */
+    CompletableFuture<Boolean> completeIfPending(UUID id, String status, String errorMessage, LocalDateTime completedAt);
+
+    /**
+     * Reschedule a PENDING log for another attempt with a single conditional UPDATE.
+     * Only applies while the stored attempt count is still expectedAttemptCount, so two
+     * workers cannot both consume the same attempt.
+     *
+     * @return false if the log is no longer PENDING or was rescheduled by someone else
+     */
+    boolean rescheduleIfPending(UUID id, int expectedAttemptCount, String errorMessage, LocalDateTime nextAttemptAt);
+
+    /**
+     * Atomically claim up to batchSize due PENDING logs for the given lease.
+     * Rows claimed by another worker are skipped, never waited on.
+     */
+    List<NotificationLogDTO> claimPending(int batchSize, Duration lease);
+
+    /**
+     * Extend the lease of claimed logs that are still PENDING and still leased until leasedUntil,
+     * i.e. not completed or reclaimed by another worker in the meantime
+     *
+     * @return the IDs of the logs whose lease now runs until renewedUntil
+     */
+    Set<UUID> renewLease(Collection<NotificationLogDTO> logs, LocalDateTime leasedUntil, LocalDateTime renewedUntil);
+
+    /**
+     * Atomically claim up to batchSize logs that have been PENDING for longer than staleAfter
+     * and are not leased by a worker, oldest first.
+     */
+    List<NotificationLogDTO> claimStalePending(Duration staleAfter, int batchSize, Duration lease);
+
+    /**
+     * Atomically claim up to batchSize rescheduled PENDING logs whose retry is due
+     */
+    List<NotificationLogDTO> claimDueRetries(int batchSize, Duration lease);
 }
@@ -0,0 +1,12 @@
+package com.vibe.notification.domain.service;
+
+import java.util.UUID;
+
+/**
+ * Source of notification log IDs and internal trace IDs.
+ * Selected with app.ids.generator: uuidv7 (default) or random.
+ */
+public interface IdGenerator {
+
+    UUID nextId();
+}
@@ -0,0 +1,264 @@
+package com.vibe.notification.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.vibe.notification.domain.model.TemplateVariables;
+import com.vibe.notification.domain.model.VariablesStorageMode;
+import com.vibe.notification.domain.port.LogPayloadPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Decides what the notification log row stores for the template variables of a request.
+ *
+ * Variables are serialized at most once: JSON received over HTTP or RabbitMQ is reused as it
+ * is. A FULL payload up to offload-threshold goes into the row as that JSON, wrapped in a raw
+ * node backed by the bytes so it is written without serializing or copying it again. Larger
+ * payloads are offloaded to the side store and the row keeps a small marker.
+ *
+ * HASHED and REDACTED (global, or per template via template-modes) replace the values of
+ * sensitive-keys, or of every key if none are configured. HASHED values are an HMAC-SHA256
+ * under hash-key, so low-entropy values such as phone numbers or codes cannot be recovered by
+ * hashing every candidate; HASHED without a hash-key of at least 32 bytes fails at startup.
+ * The notification still has to be rendered by whichever node delivers or retries it, so the
+ * full variables are kept as a delivery copy in the side store until the notification is final.
+ * The masked variables are written straight to JSON and fall under offload-threshold like FULL
+ * ones: above it they go to the side store as well and are kept for as long as the log.
+ *
+ * Rows whose full variables are in the side store carry the reserved key $payload, so client
+ * variables using that key are rejected at ingest (see requireNoReservedKey).
+ */
+@Component
+public class LogVariablesPolicy {
+    static final String PAYLOAD_MARKER = "$payload";
+    static final String REDACTED_VALUE = "[REDACTED]";
+    private static final String OFFLOADED = "offloaded";
+    private static final String DELIVERY_COPY = "delivery-copy";
+    private static final String OFFLOADED_MASKED = "offloaded-masked";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_HASH_KEY_BYTES = 32;
+    private static final int INITIAL_BUFFER_SIZE = 128;
+
+    private final ObjectMapper objectMapper;
+    private final VariablesStorageMode defaultMode;
+    private final Map<String, VariablesStorageMode> templateModes;
+    private final Set<String> sensitiveKeys;
+    private final long offloadThresholdBytes;
+    private final ThreadLocal<Mac> hmac;
+
+    public LogVariablesPolicy(
+            ObjectMapper objectMapper,
+            @Value("${app.log-variables.mode:FULL}") String defaultMode,
+            @Value("${app.log-variables.template-modes:}") String templateModes,
+            @Value("${app.log-variables.sensitive-keys:}") String sensitiveKeys,
+            @Value("${app.log-variables.hash-key:}") String hashKey,
+            @Value("${app.log-variables.offload-threshold:16KB}") DataSize offloadThreshold) {
+        this.objectMapper = objectMapper;
+        this.defaultMode = VariablesStorageMode.from(defaultMode);
+        this.templateModes = parseTemplateModes(templateModes);
+        this.sensitiveKeys = Arrays.stream(sensitiveKeys.split(","))
+            .map(String::trim)
+            .filter(key -> !key.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        this.offloadThresholdBytes = offloadThreshold.toBytes();
+        this.hmac = usesMode(VariablesStorageMode.HASHED) ? hmacFor(hashKey) : null;
+    }
+
+    /**
+     * What to store for one notification
+     *
+     * @param inline value of the log's variables column
+     * @param sideStoreKind kind of side store payload, null if the row holds everything
+     * @param json the full variables, serialized once
+     * @param maskedJson hashed or redacted variables too large for the row, null if they are inline
+     */
+    public record StoredVariables(JsonNode inline, LogPayloadPort.Kind sideStoreKind, byte[] json, byte[] maskedJson) {
+
+        /**
+         * @param withDeliveryCopy false for a log that is already final and is never rendered again
+         * @return the payloads to write to the side store before the log is inserted
+         */
+        public List<LogPayloadPort.Payload> sideStorePayloads(UUID logId, LocalDateTime logCreatedAt, boolean withDeliveryCopy) {
+            if (sideStoreKind == null) {
+                return List.of();
+            }
+            var payloads = new ArrayList<LogPayloadPort.Payload>(2);
+            if (sideStoreKind != LogPayloadPort.Kind.DELIVERY_COPY || withDeliveryCopy) {
+                payloads.add(new LogPayloadPort.Payload(logId, logCreatedAt, sideStoreKind, json));
+            }
+            if (maskedJson != null) {
+                payloads.add(new LogPayloadPort.Payload(logId, logCreatedAt, LogPayloadPort.Kind.MASKED, maskedJson));
+            }
+            return payloads;
+        }
+    }
+
+    public StoredVariables apply(String slug, TemplateVariables variables) {
+        if (variables == null) {
+            return new StoredVariables(null, null, null, null);
+        }
+        byte[] json = variables.toJson();
+        var mode = templateModes.getOrDefault(slug, defaultMode);
+        if (mode != VariablesStorageMode.FULL && hasSensitiveValue(variables.asMap())) {
+            byte[] masked = mask(variables.asMap(), mode);
+            if (isOverThreshold(masked)) {
+                ObjectNode marker = objectMapper.createObjectNode()
+                    .put(PAYLOAD_MARKER, OFFLOADED_MASKED)
+                    .put("$bytes", masked.length);
+                return new StoredVariables(marker, LogPayloadPort.Kind.DELIVERY_COPY, json, masked);
+            }
+            var inline = (ObjectNode) readTree(masked);
+            inline.put(PAYLOAD_MARKER, DELIVERY_COPY);
+            return new StoredVariables(inline, LogPayloadPort.Kind.DELIVERY_COPY, json, null);
+        }
+        if (isOverThreshold(json)) {
+            ObjectNode marker = objectMapper.createObjectNode()
+                .put(PAYLOAD_MARKER, OFFLOADED)
+                .put("$bytes", json.length);
+            return new StoredVariables(marker, LogPayloadPort.Kind.OFFLOADED, json, null);
+        }
+        var inline = objectMapper.getNodeFactory().rawValueNode(variables.toRawValue());
+        return new StoredVariables(inline, null, json, null);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the variables use the reserved key $payload, which
+     *         would make the stored row read as a side store marker
+     */
+    public static void requireNoReservedKey(TemplateVariables variables) {
+        if (variables != null && variables.containsKey(PAYLOAD_MARKER)) {
+            throw new IllegalArgumentException("variables must not contain the reserved key " + PAYLOAD_MARKER);
+        }
+    }
+
+    /**
+     * @return true if the full variables of a stored log are in the side store
+     */
+    public static boolean isInSideStore(JsonNode storedVariables) {
+        return storedVariables != null && storedVariables.isObject() && storedVariables.has(PAYLOAD_MARKER);
+    }
+
+    private boolean hasSensitiveValue(Map<String, Object> variables) {
+        return variables.keySet().stream().anyMatch(this::isSensitive);
+    }
+
+    private boolean isSensitive(String key) {
+        return sensitiveKeys.isEmpty() || sensitiveKeys.contains(key);
+    }
+
+    private boolean isOverThreshold(byte[] json) {
+        return offloadThresholdBytes > 0 && json.length > offloadThresholdBytes;
+    }
+
+    /**
+     * Sensitive values are replaced, the others are written as they are without building a tree
+     */
+    private byte[] mask(Map<String, Object> variables, VariablesStorageMode mode) {
+        var buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+        try (var generator = objectMapper.getFactory().createGenerator(buffer)) {
+            generator.writeStartObject();
+            for (var entry : variables.entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                if (!isSensitive(entry.getKey())) {
+                    objectMapper.writeValue(generator, entry.getValue());
+                } else if (mode == VariablesStorageMode.HASHED) {
+                    generator.writeString(hash(entry.getValue()));
+                } else {
+                    generator.writeString(REDACTED_VALUE);
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Variables cannot be serialized: " + e.getMessage(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private JsonNode readTree(byte[] json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Masked variables cannot be read: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Variables cannot be serialized: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Text is hashed as its UTF-8 bytes, anything else as its JSON
+     */
+    private String hash(Object value) {
+        var bytes = value instanceof String text ? text.getBytes(StandardCharsets.UTF_8) : serialize(value);
+        return "hmac-sha256:" + HexFormat.of().formatHex(hmac.get().doFinal(bytes));
+    }
+
+    private boolean usesMode(VariablesStorageMode mode) {
+        return defaultMode == mode || templateModes.containsValue(mode);
+    }
+
+    /**
+     * Mac instances are not thread-safe, so each thread gets its own, keyed once
+     */
+    private static ThreadLocal<Mac> hmacFor(String hashKey) {
+        var keyBytes = hashKey.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < MIN_HASH_KEY_BYTES) {
+            throw new IllegalStateException("HASHED log variables need app.log-variables.hash-key of at least "
+                + MIN_HASH_KEY_BYTES + " bytes");
+        }
+        var key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        // Fail at startup rather than on the first hashed value
+        newHmac(key);
+        return ThreadLocal.withInitial(() -> newHmac(key));
+    }
+
+    private static Mac newHmac(SecretKeySpec key) {
+        try {
+            var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+        }
+    }
+
+    private static Map<String, VariablesStorageMode> parseTemplateModes(String value) {
+        var modes = new HashMap<String, VariablesStorageMode>();
+        for (var entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid template mode '" + entry.trim() + "', expected slug=MODE");
+            }
+            modes.put(entry.substring(0, separator).trim(), VariablesStorageMode.from(entry.substring(separator + 1)));
+        }
+        return Map.copyOf(modes);
+    }
+}
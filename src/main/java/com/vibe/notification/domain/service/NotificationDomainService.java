@@ -1,17 +1,35 @@
 package com.vibe.notification.domain.service;
 
 import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.exception.NotificationLogNotFoundException;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.DeliveryStatsKey;
+import com.vibe.notification.domain.model.NotificationLogSearch;
 import com.vibe.notification.domain.model.NotificationRequest;
 import com.vibe.notification.domain.model.NotificationResult;
 import com.vibe.notification.domain.model.NotificationStatus;
+import com.vibe.notification.domain.model.TemplateVariables;
+import com.vibe.notification.domain.port.DeliveryStatsPort;
+import com.vibe.notification.domain.port.InflightNotificationPort;
+import com.vibe.notification.domain.port.InflightNotificationPort.InflightNotification;
+import com.vibe.notification.domain.port.LogPayloadPort;
 import com.vibe.notification.domain.port.NotificationLogPort;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Domain service for notification processing orchestration
@@ -19,23 +37,53 @@ import java.util.UUID;
 @Service
 public class NotificationDomainService {
     private static final Logger logger = LoggerFactory.getLogger(NotificationDomainService.class);
+    private static final String DEFAULT_LANGUAGE = "en";
+    private static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<>() {};
 
     private final NotificationLogPort notificationLogPort;
     private final ObjectMapper objectMapper;
+    private final NotificationStatusCache statusCache;
+    private final NotificationRetryPolicy retryPolicy;
+    private final IdGenerator idGenerator;
+    private final DeliveryStatsPort deliveryStatsPort;
+    private final LogVariablesPolicy variablesPolicy;
+    private final LogPayloadPort logPayloadPort;
+    private final InflightNotificationPort inflightPort;
 
-    public NotificationDomainService(NotificationLogPort notificationLogPort, ObjectMapper objectMapper) {
+    public NotificationDomainService(
+            NotificationLogPort notificationLogPort,
+            ObjectMapper objectMapper,
+            NotificationStatusCache statusCache,
+            NotificationRetryPolicy retryPolicy,
+            IdGenerator idGenerator,
+            DeliveryStatsPort deliveryStatsPort,
+            LogVariablesPolicy variablesPolicy,
+            LogPayloadPort logPayloadPort,
+            InflightNotificationPort inflightPort) {
         this.notificationLogPort = notificationLogPort;
         this.objectMapper = objectMapper;
+        this.statusCache = statusCache;
+        this.retryPolicy = retryPolicy;
+        this.idGenerator = idGenerator;
+        this.deliveryStatsPort = deliveryStatsPort;
+        this.variablesPolicy = variablesPolicy;
+        this.logPayloadPort = logPayloadPort;
+        this.inflightPort = inflightPort;
     }
 
     /**
      * Create pending notification log entry
+     *
+     * @param nextAttemptAt when outbox workers may claim the row; a future time reserves it
+     *                      for the caller that processes it in-process
      */
-    public NotificationLogDTO createPendingLog(NotificationRequest request, UUID traceId) {
+    public NotificationLogDTO createPendingLog(NotificationRequest request, UUID traceId, LocalDateTime nextAttemptAt) {
         logger.debug("Creating pending log for trace_id={}, recipient={}", traceId, request.recipient());
 
-        var logId = UUID.randomUUID();
-        var variablesJson = objectMapper.valueToTree(request.variables());
+        var logId = idGenerator.nextId();
+        var now = LocalDateTime.now();
+        var variables = variablesPolicy.apply(request.slug(), request.variables());
+        storeSideStorePayloads(List.of(new NotificationLogVariables(logId, now, variables)));
 
         var logDto = new NotificationLogDTO(
             logId,
@@ -44,67 +92,329 @@ public class NotificationDomainService {
             request.language(),
             request.channel().name(),
             request.recipient(),
-            variablesJson,
+            variables.inline(),
             NotificationStatus.PENDING.name(),
             null,
             null,
+            now,
+            now,
+            request.clientId(),
+            nextAttemptAt,
+            0
+        );
+
+        var saved = notificationLogPort.insert(logDto);
+        statusCache.put(saved);
+        return saved;
+    }
+
+    /**
+     * Create pending log entries for a batch of requests in one batched insert
+     *
+     * @param requests requests keyed by their internal trace ID, in insertion order
+     * @return the created logs, in the same order
+     */
+    public List<NotificationLogDTO> createPendingLogs(Map<UUID, NotificationRequest> requests, LocalDateTime nextAttemptAt) {
+        logger.debug("Creating {} pending logs", requests.size());
+
+        var now = LocalDateTime.now();
+        var logs = new ArrayList<NotificationLogDTO>(requests.size());
+        var stored = new ArrayList<NotificationLogVariables>(requests.size());
+        requests.forEach((traceId, request) -> {
+            var logId = idGenerator.nextId();
+            var variables = variablesPolicy.apply(request.slug(), request.variables());
+            stored.add(new NotificationLogVariables(logId, now, variables));
+            logs.add(new NotificationLogDTO(
+                logId,
+                traceId,
+                request.slug(),
+                request.language(),
+                request.channel().name(),
+                request.recipient(),
+                variables.inline(),
+                NotificationStatus.PENDING.name(),
+                null,
+                null,
+                now,
+                now,
+                request.clientId(),
+                nextAttemptAt,
+                0
+            ));
+        });
+
+        storeSideStorePayloads(stored);
+        notificationLogPort.insertAll(logs);
+        logs.forEach(statusCache::put);
+        return logs;
+    }
+
+    /**
+     * Mark notification as successfully sent.
+     * A single conditional UPDATE; the row is neither read nor rewritten.
+     *
+     * @param key what the notification is counted under in the delivery statistics
+     * @return completes once the UPDATE is written, with false if the log was not PENDING any
+     *         more (lost or duplicate transition)
+     */
+    public CompletableFuture<Boolean> markAsSent(UUID logId, DeliveryStatsKey key) {
+        return complete(logId, key, NotificationStatus.SUCCESS, null).thenApply(applied -> {
+            if (applied) {
+                logger.info("Notification marked as sent: logId={}", logId);
+            }
+            return applied;
+        });
+    }
+
+    /**
+     * Mark notification as failed with error message.
+     * A single conditional UPDATE; the row is neither read nor rewritten.
+     *
+     * @param key what the notification is counted under in the delivery statistics, null to not count it
+     * @return completes once the UPDATE is written, with false if the log was not PENDING any
+     *         more (lost or duplicate transition)
+     */
+    public CompletableFuture<Boolean> markAsFailed(UUID logId, DeliveryStatsKey key, String errorMessage) {
+        return complete(logId, key, NotificationStatus.FAILED, errorMessage).thenApply(applied -> {
+            if (applied) {
+                logger.error("Notification marked as failed: logId={}, error={}", logId, errorMessage);
+            }
+            return applied;
+        });
+    }
+
+    /**
+     * Only applied transitions are counted, so a duplicate transition is never counted twice.
+     * With write-behind the outcome is known only after the flush, so counting and the cache
+     * patch wait for it.
+     */
+    private CompletableFuture<Boolean> complete(UUID logId, DeliveryStatsKey key, NotificationStatus status, String errorMessage) {
+        var completedAt = LocalDateTime.now();
+        return notificationLogPort.completeIfPending(logId, status.name(), errorMessage, completedAt).thenApply(applied -> {
+            if (!applied) {
+                // Unknown log, or another worker already finished it - e.g. a stale-PENDING redispatch
+                logger.warn("Status transition to {} not applied, log is not PENDING: logId={}", status, logId);
+                statusCache.evict(logId);
+                return false;
+            }
+            statusCache.update(logId, log -> withStatus(log, status.name(), errorMessage, completedAt,
+                log.getNextAttemptAt(), log.getAttemptCount()));
+            if (key != null) {
+                deliveryStatsPort.recordOutcome(key, status, completedAt);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Start a notification in single-write mode: only an in-flight marker is written, the log
+     * row follows once with the outcome (completeInflight, scheduleInflightRetry)
+     */
+    public InflightNotification beginInflight(NotificationRequest request, UUID traceId) {
+        var inflight = new InflightNotification(idGenerator.nextId(), traceId, request, LocalDateTime.now());
+        inflightPort.add(inflight);
+        logger.debug("Notification in flight: logId={}, trace_id={}", inflight.logId(), traceId);
+        return inflight;
+    }
+
+    /**
+     * Write the log row of an in-flight notification with its final status and drop the marker.
+     * If recovery already turned the marker into a PENDING log, that log is completed instead.
+     *
+     * @return completes with false if that recovered log was not PENDING any more
+     */
+    public CompletableFuture<Boolean> completeInflight(InflightNotification inflight, NotificationStatus status, String errorMessage) {
+        var key = DeliveryStatsKey.of(inflight.request());
+        var completedAt = LocalDateTime.now();
+        var log = inflightLog(inflight, status, errorMessage, completedAt, null, 0, false);
+        CompletableFuture<Boolean> applied;
+        if (notificationLogPort.insertIfAbsent(log)) {
+            statusCache.put(log);
+            deliveryStatsPort.recordOutcome(key, status, completedAt);
+            applied = CompletableFuture.completedFuture(true);
+        } else {
+            applied = complete(inflight.logId(), key, status, errorMessage);
+        }
+        inflightPort.remove(inflight.logId());
+        logger.info("In-flight notification completed: logId={}, status={}", inflight.logId(), status);
+        return applied;
+    }
+
+    /**
+     * Write the log row of an in-flight notification as PENDING with its first retry scheduled,
+     * and drop the marker. Behaves like scheduleRetry for a log that failed its first attempt.
+     *
+     * @return false if no attempts are left; the marker is kept for completeInflight
+     */
+    public boolean scheduleInflightRetry(InflightNotification inflight, String errorMessage) {
+        var delay = retryPolicy.nextDelay(1);
+        if (delay.isEmpty()) {
+            return false;
+        }
+        var log = inflightLog(inflight, NotificationStatus.PENDING, errorMessage, null,
+            LocalDateTime.now().plus(delay.get()), 1, true);
+        if (notificationLogPort.insertIfAbsent(log)) {
+            statusCache.put(log);
+            logger.warn("Notification retry scheduled: logId={}, attempt=1, delay={}, error={}",
+                inflight.logId(), delay.get(), errorMessage);
+        } else {
+            scheduleRetry(inflight.logId(), errorMessage);
+        }
+        inflightPort.remove(inflight.logId());
+        return true;
+    }
+
+    /**
+     * Turn markers left behind by a crashed node into PENDING logs, due immediately, so the
+     * outbox workers or the stale-PENDING recovery deliver them again
+     *
+     * @return the number of markers recovered
+     */
+    public int recoverInflight(Duration staleAfter, int batchSize) {
+        var stale = inflightPort.findCreatedBefore(LocalDateTime.now().minus(staleAfter), batchSize);
+        for (var inflight : stale) {
+            var log = inflightLog(inflight, NotificationStatus.PENDING, null, null, LocalDateTime.now(), 0, true);
+            if (notificationLogPort.insertIfAbsent(log)) {
+                logger.warn("In-flight notification recovered as PENDING: logId={}", inflight.logId());
+            }
+            inflightPort.remove(inflight.logId());
+        }
+        return stale.size();
+    }
+
+    /**
+     * The log row of an in-flight notification; side store payloads are stored first, delivery
+     * copies only if the log may still be delivered
+     */
+    private NotificationLogDTO inflightLog(InflightNotification inflight, NotificationStatus status, String errorMessage,
+            LocalDateTime sentAt, LocalDateTime nextAttemptAt, int attemptCount, boolean deliverable) {
+        var request = inflight.request();
+        var variables = variablesPolicy.apply(request.slug(), request.variables());
+        var payloads = variables.sideStorePayloads(inflight.logId(), inflight.createdAt(), deliverable);
+        if (!payloads.isEmpty()) {
+            logPayloadPort.storeAll(payloads);
+        }
+        return new NotificationLogDTO(
+            inflight.logId(),
+            inflight.traceId(),
+            request.slug(),
+            request.language(),
+            request.channel().name(),
+            request.recipient(),
+            variables.inline(),
+            status.name(),
+            errorMessage,
+            sentAt,
+            inflight.createdAt(),
             LocalDateTime.now(),
-            LocalDateTime.now()
+            request.clientId(),
+            nextAttemptAt,
+            attemptCount
         );
+    }
 
-        return notificationLogPort.save(logDto);
+    /**
+     * Claim a batch of due PENDING logs for processing by this node
+     */
+    public List<NotificationLogDTO> claimPending(int batchSize, Duration lease) {
+        return notificationLogPort.claimPending(batchSize, lease);
     }
 
     /**
-     * Mark notification as successfully sent
+     * Extend the lease of claimed logs that have not been processed yet
+     *
+     * @return the IDs whose lease was extended; the others are no longer held by this worker
      */
-    public void markAsSent(UUID logId) {
-        var log = notificationLogPort.findById(logId)
-            .orElseThrow(() -> new IllegalArgumentException("Log not found: " + logId));
-        
-        var updatedLog = new NotificationLogDTO(
-            log.getId(),
-            log.getTraceId(),
-            log.getSlug(),
-            log.getLanguage(),
-            log.getChannel(),
+    public Set<UUID> renewLease(Collection<NotificationLogDTO> logs, LocalDateTime leasedUntil, LocalDateTime renewedUntil) {
+        return notificationLogPort.renewLease(logs, leasedUntil, renewedUntil);
+    }
+
+    /**
+     * Claim a batch of logs stuck in PENDING for longer than staleAfter
+     */
+    public List<NotificationLogDTO> claimStalePending(Duration staleAfter, int batchSize, Duration lease) {
+        return notificationLogPort.claimStalePending(staleAfter, batchSize, lease);
+    }
+
+    /**
+     * Rebuild the original notification request from its persisted log
+     */
+    public NotificationRequest toNotificationRequest(NotificationLogDTO log) {
+        TemplateVariables variables;
+        if (LogVariablesPolicy.isInSideStore(log.getVariables())) {
+            variables = readSideStoreVariables(log.getId());
+        } else {
+            variables = log.getVariables() == null || log.getVariables().isNull()
+                ? TemplateVariables.empty()
+                : TemplateVariables.of(objectMapper.convertValue(log.getVariables(), VARIABLES_TYPE), objectMapper);
+        }
+        var language = log.getLanguage() == null || log.getLanguage().isBlank() ? DEFAULT_LANGUAGE : log.getLanguage();
+        return new NotificationRequest(
             log.getRecipient(),
-            log.getVariables(),
-            NotificationStatus.SUCCESS.name(),
-            null,
-            LocalDateTime.now(),
-            log.getCreatedAt(),
-            LocalDateTime.now()
+            log.getSlug(),
+            language,
+            Channel.fromString(log.getChannel()),
+            variables,
+            log.getClientId()
         );
-        
-        notificationLogPort.save(updatedLog);
-        logger.info("Notification marked as sent: logId={}", logId);
     }
 
     /**
-     * Mark notification as failed with error message
+     * Side store payloads are written before their logs: a log never points at a payload that
+     * does not exist, and a payload whose log insert failed is purged like any other delivery copy
+     */
+    private void storeSideStorePayloads(List<NotificationLogVariables> stored) {
+        var payloads = stored.stream()
+            .flatMap(entry -> entry.variables().sideStorePayloads(entry.logId(), entry.createdAt(), true).stream())
+            .toList();
+        if (!payloads.isEmpty()) {
+            logPayloadPort.storeAll(payloads);
+        }
+    }
+
+    private TemplateVariables readSideStoreVariables(UUID logId) {
+        return logPayloadPort.find(logId)
+            .map(json -> TemplateVariables.fromJson(json, objectMapper))
+            .orElseThrow(() -> new IllegalStateException("Variables of log " + logId + " are no longer available"));
+    }
+
+    /**
+     * Reschedule a notification after a transient failure.
+     * The log stays PENDING with its attempt count incremented and next_attempt_at set by the
+     * retry policy; it is picked up again by the retry scheduler or the outbox workers.
+     *
+     * @return true if a retry was scheduled (or another worker already moved the log on),
+     *         false if no attempts are left
      */
-    public void markAsFailed(UUID logId, String errorMessage) {
+    public boolean scheduleRetry(UUID logId, String errorMessage) {
         var log = notificationLogPort.findById(logId)
             .orElseThrow(() -> new IllegalArgumentException("Log not found: " + logId));
-        
-        var updatedLog = new NotificationLogDTO(
-            log.getId(),
-            log.getTraceId(),
-            log.getSlug(),
-            log.getLanguage(),
-            log.getChannel(),
-            log.getRecipient(),
-            log.getVariables(),
-            NotificationStatus.FAILED.name(),
-            errorMessage,
-            LocalDateTime.now(),
-            log.getCreatedAt(),
-            LocalDateTime.now()
-        );
-        
-        notificationLogPort.save(updatedLog);
-        logger.error("Notification marked as failed: logId={}, error={}", logId, errorMessage);
+
+        int failedAttempts = log.getAttemptCount() + 1;
+        var delay = retryPolicy.nextDelay(failedAttempts);
+        if (delay.isEmpty()) {
+            return false;
+        }
+
+        var nextAttemptAt = LocalDateTime.now().plus(delay.get());
+        if (!notificationLogPort.rescheduleIfPending(logId, log.getAttemptCount(), errorMessage, nextAttemptAt)) {
+            // Finished or rescheduled by another worker in the meantime; its outcome stands
+            logger.warn("Retry not scheduled, log changed concurrently: logId={}, attempt={}", logId, failedAttempts);
+            statusCache.evict(logId);
+            return true;
+        }
+        statusCache.update(logId, cached -> withStatus(cached, NotificationStatus.PENDING.name(), errorMessage,
+            null, nextAttemptAt, failedAttempts));
+        logger.warn("Notification retry scheduled: logId={}, attempt={}, delay={}, error={}",
+            logId, failedAttempts, delay.get(), errorMessage);
+        return true;
+    }
+
+    /**
+     * Claim a batch of rescheduled notifications whose retry is due
+     */
+    public List<NotificationLogDTO> claimDueRetries(int batchSize, Duration lease) {
+        return notificationLogPort.claimDueRetries(batchSize, lease);
     }
 
     /**
@@ -125,4 +435,60 @@ public class NotificationDomainService {
         return notificationLogPort.findById(logId)
             .orElseThrow(() -> new IllegalArgumentException("Log not found: " + logId));
     }
+
+    /**
+     * Get the current state of a notification, served from the status cache when possible
+     */
+    public NotificationLogDTO getNotificationStatus(UUID logId) {
+        return statusCache.get(logId)
+            .or(() -> notificationLogPort.findById(logId))
+            .orElseThrow(() -> new NotificationLogNotFoundException(logId));
+    }
+
+    /**
+     * Find one page of notification logs, newest first
+     */
+    public List<NotificationLogDTO> searchNotificationLogs(NotificationLogSearch search) {
+        return notificationLogPort.search(search);
+    }
+
+    /**
+     * Get the current state of all notifications for the given trace IDs.
+     * Cached entries are answered from memory; the rest are loaded with a single bulk query.
+     */
+    public List<NotificationLogDTO> getNotificationStatuses(Collection<UUID> traceIds) {
+        var results = new ArrayList<NotificationLogDTO>(traceIds.size());
+        var misses = new LinkedHashSet<UUID>();
+        for (UUID traceId : traceIds) {
+            statusCache.getByTraceId(traceId).ifPresentOrElse(results::add, () -> misses.add(traceId));
+        }
+        if (!misses.isEmpty()) {
+            results.addAll(notificationLogPort.findByTraceIds(misses));
+        }
+        return results;
+    }
+
+    private static NotificationLogDTO withStatus(NotificationLogDTO log, String status, String errorMessage,
+            LocalDateTime sentAt, LocalDateTime nextAttemptAt, int attemptCount) {
+        return new NotificationLogDTO(
+            log.getId(),
+            log.getTraceId(),
+            log.getSlug(),
+            log.getLanguage(),
+            log.getChannel(),
+            log.getRecipient(),
+            log.getVariables(),
+            status,
+            errorMessage,
+            sentAt,
+            log.getCreatedAt(),
+            LocalDateTime.now(),
+            log.getClientId(),
+            nextAttemptAt,
+            attemptCount
+        );
+    }
+
+    private record NotificationLogVariables(UUID logId, LocalDateTime createdAt, LogVariablesPolicy.StoredVariables variables) {
+    }
 }
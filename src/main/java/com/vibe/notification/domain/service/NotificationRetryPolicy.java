@@ -0,0 +1,53 @@
+package com.vibe.notification.domain.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Backoff policy for durable retries of transiently failed notifications.
+ * Delay grows exponentially from initial-delay up to max-delay. Jitter spreads the delay
+ * randomly by +/- jitter so notifications that failed together do not retry together.
+ */
+@Component
+public class NotificationRetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelayMs;
+    private final double multiplier;
+    private final long maxDelayMs;
+    private final double jitter;
+
+    public NotificationRetryPolicy(
+            @Value("${app.retry.max-attempts:4}") int maxAttempts,
+            @Value("${app.retry.initial-delay:10s}") Duration initialDelay,
+            @Value("${app.retry.multiplier:2.0}") double multiplier,
+            @Value("${app.retry.max-delay:10m}") Duration maxDelay,
+            @Value("${app.retry.jitter:0.2}") double jitter) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayMs = initialDelay.toMillis();
+        this.multiplier = multiplier;
+        this.maxDelayMs = maxDelay.toMillis();
+        this.jitter = Math.clamp(jitter, 0.0, 1.0);
+    }
+
+    /**
+     * Delay before the next attempt after the given number of failed attempts,
+     * or empty when no attempts are left
+     */
+    public Optional<Duration> nextDelay(int failedAttempts) {
+        if (failedAttempts >= maxAttempts) {
+            return Optional.empty();
+        }
+        double base = Math.min(maxDelayMs, initialDelayMs * Math.pow(multiplier, failedAttempts - 1));
+        double spread = jitter == 0 ? 1.0 : ThreadLocalRandom.current().nextDouble(1 - jitter, 1 + jitter);
+        return Optional.of(Duration.ofMillis(Math.round(base * spread)));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
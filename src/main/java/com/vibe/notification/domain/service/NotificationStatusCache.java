@@ -0,0 +1,128 @@
+package com.vibe.notification.domain.service;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.NotificationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded in-memory cache of recently written notification statuses.
+ * Written through by NotificationDomainService on every status change so that
+ * status polling is served from memory instead of notification_logs.
+ *
+ * Entries are evicted in LRU order once max-size is reached. PENDING entries use a
+ * short TTL because another node may complete the notification; terminal statuses
+ * never change and are kept for the longer TTL.
+ */
+@Component
+public class NotificationStatusCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long pendingTtlNanos;
+
+    private final Map<UUID, CachedEntry> entriesByLogId;
+    private final Map<UUID, UUID> logIdsByTraceId = new HashMap<>();
+
+    public NotificationStatusCache(
+            @Value("${app.status-cache.max-size:10000}") int maxSize,
+            @Value("${app.status-cache.ttl:5m}") Duration ttl,
+            @Value("${app.status-cache.pending-ttl:2s}") Duration pendingTtl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.pendingTtlNanos = pendingTtl.toNanos();
+        this.entriesByLogId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedEntry> eldest) {
+                if (size() > NotificationStatusCache.this.maxSize) {
+                    logIdsByTraceId.remove(eldest.getValue().log().getTraceId());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Store the latest known state of a notification log
+     */
+    public synchronized void put(NotificationLogDTO log) {
+        if (maxSize <= 0 || log == null) {
+            return;
+        }
+        var previous = entriesByLogId.put(log.getId(), new CachedEntry(log, System.nanoTime()));
+        if (previous != null && !previous.log().getTraceId().equals(log.getTraceId())) {
+            logIdsByTraceId.remove(previous.log().getTraceId());
+        }
+        logIdsByTraceId.put(log.getTraceId(), log.getId());
+    }
+
+    /**
+     * Apply a known change to a cached log without reloading it from the database.
+     * Does nothing when the log is not cached.
+     */
+    public synchronized void update(UUID logId, UnaryOperator<NotificationLogDTO> change) {
+        var entry = entriesByLogId.get(logId);
+        if (entry != null) {
+            entriesByLogId.put(logId, new CachedEntry(change.apply(entry.log()), System.nanoTime()));
+        }
+    }
+
+    /**
+     * Get a cached log by its ID, if present and not expired
+     */
+    public synchronized Optional<NotificationLogDTO> get(UUID logId) {
+        var entry = entriesByLogId.get(logId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry)) {
+            remove(logId, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.log());
+    }
+
+    /**
+     * Get a cached log by its trace ID, if present and not expired
+     */
+    public synchronized Optional<NotificationLogDTO> getByTraceId(UUID traceId) {
+        var logId = logIdsByTraceId.get(traceId);
+        return logId != null ? get(logId) : Optional.empty();
+    }
+
+    /**
+     * Drop a log from the cache
+     */
+    public synchronized void evict(UUID logId) {
+        var entry = entriesByLogId.get(logId);
+        if (entry != null) {
+            remove(logId, entry);
+        }
+    }
+
+    public synchronized int size() {
+        return entriesByLogId.size();
+    }
+
+    private boolean isExpired(CachedEntry entry) {
+        long ttl = NotificationStatus.PENDING.name().equals(entry.log().getStatus()) ? pendingTtlNanos : ttlNanos;
+        return System.nanoTime() - entry.writtenAtNanos() > ttl;
+    }
+
+    private void remove(UUID logId, CachedEntry entry) {
+        entriesByLogId.remove(logId);
+        logIdsByTraceId.remove(entry.log().getTraceId(), logId);
+    }
+
+    private record CachedEntry(NotificationLogDTO log, long writtenAtNanos) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.vibe.notification.domain.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Random UUIDv4 IDs from SecureRandom, for deployments that must not expose creation times
+ * in IDs. Inserts land on random index pages.
+ */
+@Component
+@ConditionalOnProperty(name = "app.ids.generator", havingValue = "random")
+public class RandomUuidIdGenerator implements IdGenerator {
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
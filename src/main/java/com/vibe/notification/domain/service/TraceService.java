@@ -15,12 +15,18 @@ public class TraceService {
     private static final Logger logger = LoggerFactory.getLogger(TraceService.class);
     private static final String TRACE_ID_KEY = "traceId";
 
+    private final IdGenerator idGenerator;
+
+    public TraceService(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     /**
      * Generate or retrieve trace_id and set it in MDC
      */
     public UUID setTraceId(UUID traceId) {
         if (traceId == null) {
-            traceId = UUID.randomUUID();
+            traceId = idGenerator.nextId();
         }
         MDC.put(TRACE_ID_KEY, traceId.toString());
         logger.debug("Trace ID set: {}", traceId);
@@ -45,6 +51,6 @@ public class TraceService {
      * Generate new trace_id
      */
     public UUID generateTraceId() {
-        return setTraceId(UUID.randomUUID());
+        return setTraceId(idGenerator.nextId());
     }
 }
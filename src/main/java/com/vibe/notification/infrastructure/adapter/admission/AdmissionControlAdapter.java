@@ -0,0 +1,134 @@
+package com.vibe.notification.infrastructure.adapter.admission;
+
+import com.vibe.notification.application.port.AdmissionControlPort;
+import com.vibe.notification.domain.model.Channel;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Admission control adapter implementing AdmissionControlPort
+ * Rejects new notifications while the async pipeline is saturated, before any log row is written.
+ *
+ * Saturation signals:
+ * - executor-queue: the async executor queue is above the configured utilization
+ * - provider-bulkhead: more provider calls than allowed are already waiting for a permit of the
+ *   channel; a bulkhead that is merely fully used still admits
+ * - db-pool: too many threads are waiting for a database connection
+ *
+ * Rejections are counted in the notification.admission.rejected metric, tagged by reason.
+ */
+@Component
+public class AdmissionControlAdapter implements AdmissionControlPort {
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlAdapter.class);
+
+    private final ThreadPoolTaskExecutor executor;
+    private final ProviderBulkhead providerBulkhead;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double maxQueueUtilization;
+    private final int maxPendingConnections;
+    private final int maxQueuedCallers;
+    private final long retryAfterSeconds;
+
+    public AdmissionControlAdapter(
+            @Qualifier("notificationTaskExecutor") ThreadPoolTaskExecutor executor,
+            ProviderBulkhead providerBulkhead,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${app.admission.enabled:true}") boolean enabled,
+            @Value("${app.admission.max-queue-utilization:0.9}") double maxQueueUtilization,
+            @Value("${app.admission.max-pending-connections:10}") int maxPendingConnections,
+            @Value("${app.admission.bulkhead.max-queued-callers:0}") int maxQueuedCallers,
+            @Value("${app.admission.retry-after:5s}") Duration retryAfter) {
+        this.executor = executor;
+        this.providerBulkhead = providerBulkhead;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxQueueUtilization = maxQueueUtilization;
+        this.maxPendingConnections = maxPendingConnections;
+        this.maxQueuedCallers = maxQueuedCallers;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    }
+
+    @Override
+    public Decision evaluate(Channel channel) {
+        var reason = saturatedResource(channel);
+        return reason == null ? Decision.admit() : reject(reason);
+    }
+
+    @Override
+    public boolean isSaturated(Channel channel) {
+        return saturatedResource(channel) != null;
+    }
+
+    @Override
+    public void recordRejection(String reason) {
+        Counter.builder("notification.admission.rejected")
+                .description("Notifications rejected because the pipeline was saturated")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    private Decision reject(String reason) {
+        logger.warn("Admission rejected: reason={}", reason);
+        recordRejection(reason);
+        return Decision.reject(reason, retryAfterSeconds);
+    }
+
+    /**
+     * @return the first saturated resource for the channel, null when there is headroom
+     */
+    private String saturatedResource(Channel channel) {
+        if (!enabled) {
+            return null;
+        }
+        if (isExecutorQueueSaturated()) {
+            return "executor-queue";
+        }
+        if (providerBulkhead.queuedCallers(channel) > maxQueuedCallers) {
+            return "provider-bulkhead";
+        }
+        if (isDatabasePoolSaturated()) {
+            return "db-pool";
+        }
+        return null;
+    }
+
+    private boolean isExecutorQueueSaturated() {
+        if (executor.getQueueCapacity() <= 0) {
+            return false;
+        }
+        return executor.getQueueSize() >= executor.getQueueCapacity() * maxQueueUtilization;
+    }
+
+    private boolean isDatabasePoolSaturated() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return false;
+            }
+            var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            return pool != null && pool.getThreadsAwaitingConnection() >= maxPendingConnections;
+        } catch (Exception e) {
+            logger.debug("Unable to inspect database pool: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.vibe.notification.infrastructure.adapter.admission;
+
+import com.vibe.notification.domain.exception.NotificationException;
+import com.vibe.notification.domain.exception.ProviderUnavailableException;
+import com.vibe.notification.domain.model.Channel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead limiting concurrent calls to each notification provider.
+ * A slow provider can only tie up its own permits, and callers queueing for a permit are an
+ * admission control signal so new work is rejected before it queues up behind them.
+ */
+@Component
+public class ProviderBulkhead {
+
+    private final Map<Channel, Semaphore> permits = new EnumMap<>(Channel.class);
+    private final long maxWaitMs;
+
+    public ProviderBulkhead(
+            @Value("${app.admission.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${app.admission.bulkhead.max-wait:2s}") Duration maxWait) {
+        for (Channel channel : Channel.values()) {
+            permits.put(channel, new Semaphore(maxConcurrentCalls));
+        }
+        this.maxWaitMs = maxWait.toMillis();
+    }
+
+    /**
+     * Run a provider call inside the channel's bulkhead
+     */
+    public <T> T execute(Channel channel, Supplier<T> call) {
+        var semaphore = permits.get(channel);
+        try {
+            if (!semaphore.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new ProviderUnavailableException("Provider bulkhead full for channel " + channel);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException("Interrupted waiting for provider bulkhead of channel " + channel, e);
+        }
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Run a provider call without a result inside the channel's bulkhead
+     */
+    public void execute(Channel channel, Runnable call) {
+        execute(channel, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public int availablePermits(Channel channel) {
+        return permits.get(channel).availablePermits();
+    }
+
+    /**
+     * Estimated number of provider calls waiting for a permit of the channel
+     */
+    public int queuedCallers(Channel channel) {
+        return permits.get(channel).getQueueLength();
+    }
+}
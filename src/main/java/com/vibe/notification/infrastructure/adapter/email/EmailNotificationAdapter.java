@@ -3,14 +3,26 @@ package com.vibe.notification.infrastructure.adapter.email;
 import com.vibe.notification.application.port.EmailNotificationPort;
 import com.vibe.notification.domain.dto.TemplateDTO;
 import com.vibe.notification.domain.exception.NotificationException;
+import com.vibe.notification.domain.exception.ProviderUnavailableException;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.infrastructure.adapter.admission.ProviderBulkhead;
+import jakarta.mail.MessagingException;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSenderFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+
 /**
  * Email notification adapter implementing EmailNotificationPort
+ * SMTP connection errors and 4xx replies are reported as transient (ProviderUnavailableException)
+ * so the notification is retried; 5xx replies and other failures are permanent.
  */
 @Component
 public class EmailNotificationAdapter implements EmailNotificationPort {
@@ -18,10 +30,15 @@ public class EmailNotificationAdapter implements EmailNotificationPort {
 
     private final JavaMailSender mailSender;
     private final EmailProperties emailProperties;
+    private final ProviderBulkhead providerBulkhead;
 
-    public EmailNotificationAdapter(JavaMailSender mailSender, EmailProperties emailProperties) {
+    public EmailNotificationAdapter(
+            JavaMailSender mailSender,
+            EmailProperties emailProperties,
+            ProviderBulkhead providerBulkhead) {
         this.mailSender = mailSender;
         this.emailProperties = emailProperties;
+        this.providerBulkhead = providerBulkhead;
     }
 
     /**
@@ -38,10 +55,51 @@ public class EmailNotificationAdapter implements EmailNotificationPort {
             message.setSubject(renderedSubject != null ? renderedSubject : "[No Subject]");
             message.setText(renderedContent);
 
-            mailSender.send(message);
+            providerBulkhead.execute(Channel.EMAIL, () -> mailSender.send(message));
             logger.info("Email sent successfully to: {}", recipient);
+        } catch (ProviderUnavailableException e) {
+            throw e;
+        } catch (MailSendException e) {
+            if (isPermanentSmtpFailure(e)) {
+                throw new NotificationException("Failed to send email: " + e.getMessage(), e);
+            }
+            throw new ProviderUnavailableException("Failed to send email: " + e.getMessage(), e);
         } catch (Exception e) {
             throw new NotificationException("Failed to send email: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * A send failure is permanent when the SMTP server rejected it with a 5xx reply
+     * (e.g. unknown mailbox). Connection errors and 4xx replies are worth retrying.
+     */
+    static boolean isPermanentSmtpFailure(MailSendException e) {
+        var failures = new ArrayList<Throwable>();
+        failures.add(e);
+        failures.addAll(e.getFailedMessages().values());
+        for (Throwable failure : failures) {
+            for (Throwable t = failure; t != null; t = nextCause(t)) {
+                if (smtpReturnCode(t) >= 500) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int smtpReturnCode(Throwable t) {
+        return switch (t) {
+            case SMTPSendFailedException sendFailed -> sendFailed.getReturnCode();
+            case SMTPAddressFailedException addressFailed -> addressFailed.getReturnCode();
+            case SMTPSenderFailedException senderFailed -> senderFailed.getReturnCode();
+            default -> -1;
+        };
+    }
+
+    private static Throwable nextCause(Throwable t) {
+        var next = t instanceof MessagingException messagingException
+            ? messagingException.getNextException()
+            : t.getCause();
+        return next == t ? null : next;
+    }
 }
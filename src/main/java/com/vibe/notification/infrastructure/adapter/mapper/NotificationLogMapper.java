@@ -18,7 +18,7 @@ public class NotificationLogMapper {
                 entity.getId(),
                 entity.getTraceId(),
                 entity.getSlug(),
-                "",  // language not in entity, use empty string
+                entity.getLanguage(),
                 entity.getChannel(),
                 entity.getRecipient(),
                 entity.getVariables(),
@@ -26,7 +26,10 @@ public class NotificationLogMapper {
                 entity.getErrorMessage(),
                 entity.getSentAt(),
                 entity.getCreatedAt(),
-                entity.getCreatedAt()  // updatedAt not in entity, use createdAt
+                entity.getCreatedAt(),  // updatedAt not in entity, use createdAt
+                entity.getClientId(),
+                entity.getNextAttemptAt(),
+                entity.getAttemptCount()
         );
     }
 
@@ -45,6 +48,11 @@ public class NotificationLogMapper {
         );
         entity.setErrorMessage(dto.getErrorMessage());
         entity.setSentAt(dto.getSentAt());
+        entity.setLanguage(dto.getLanguage());
+        entity.setClientId(dto.getClientId());
+        entity.setNextAttemptAt(dto.getNextAttemptAt());
+        entity.setAttemptCount(dto.getAttemptCount());
+        entity.setCreatedAt(dto.getCreatedAt());
         return entity;
     }
 }
@@ -13,7 +13,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Custom message recoverer that adds error information to messages before sending to DLQ.
- * Also publishes RETRY_EXHAUSTED status event when a message fails all retries.
+ * Also publishes RETRY_EXHAUSTED status event when a single notification request fails all
+ * retries; messages without a trace_id (such as envelopes) are dead-lettered without one.
  * 
  * Adds custom headers:
  * - x-last-error: The error message
@@ -46,6 +47,18 @@ public class DlqMessageRecoverer implements MessageRecoverer {
         this.objectMapper = objectMapper;
     }
 
+    /**
+     * Recoverer for queues whose messages are not single notification requests; no status
+     * event is published
+     */
+    public DlqMessageRecoverer(
+            RabbitTemplate rabbitTemplate,
+            String exchange,
+            String routingKey,
+            String originalQueue) {
+        this(rabbitTemplate, exchange, routingKey, originalQueue, null, null);
+    }
+
     @Override
     public void recover(Message message, Throwable cause) {
         // Add custom headers
@@ -57,12 +70,25 @@ public class DlqMessageRecoverer implements MessageRecoverer {
         properties.setHeader("x-last-error-timestamp", System.currentTimeMillis());
         properties.setHeader("x-original-queue", originalQueue);
         
-        logger.warn("Sending message to DLQ after max retries. Error: {}", errorMessage);
-        
+        logger.warn("Sending message from {} to DLQ after max retries. Error: {}", originalQueue, errorMessage);
+
+        if (notificationStatusProducer != null) {
+            publishRetryExhausted(message, errorMessage);
+        }
+
+        // Send to DLQ via the dead letter exchange
+        rabbitTemplate.send(exchange, routingKey, message);
+    }
+
+    private void publishRetryExhausted(Message message, String errorMessage) {
         // Extract trace_id and channel from the message to publish RETRY_EXHAUSTED status
         try {
             String messageBody = new String(message.getBody(), "UTF-8");
             NotificationRequestMessage requestMessage = objectMapper.readValue(messageBody, NotificationRequestMessage.class);
+            if (requestMessage.traceId() == null || requestMessage.traceId().isBlank()) {
+                logger.debug("Message from {} is not a single notification request, no status published", originalQueue);
+                return;
+            }
             
             // Publish RETRY_EXHAUSTED status
             NotificationStatusEvent event = NotificationStatusEvent.retryExhausted(
@@ -79,8 +105,5 @@ public class DlqMessageRecoverer implements MessageRecoverer {
             // Log but don't fail - DLQ recovery is more important
             logger.error("Failed to publish RETRY_EXHAUSTED status: {}", e.getMessage(), e);
         }
-        
-        // Send to DLQ via the dead letter exchange
-        rabbitTemplate.send(exchange, routingKey, message);
     }
 }
@@ -1,45 +1,196 @@
 package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
 
 import com.vibe.notification.application.port.IdempotencyPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Idempotency adapter implementing IdempotencyPort
- * Ensures idempotent message processing by tracking which messages have been processed
+ * Ensures idempotent message processing by tracking which messages have been processed.
+ *
+ * Claims are a single INSERT ... ON CONFLICT DO NOTHING: the primary key decides the winner,
+ * so concurrent claims of the same ID on different nodes cannot both succeed.
+ *
+ * A bounded LRU of keys claimed by this node answers repeated claims (redeliveries, client
+ * retries) without a round trip. Only own claims are cached: a claim is only ever released
+ * by the node that made it, so a cached key can never be stale except through expiry,
+ * which cache-ttl keeps well inside the idempotency window.
  */
 @Component
 public class IdempotencyAdapter implements IdempotencyPort {
     private static final Logger logger = LoggerFactory.getLogger(IdempotencyAdapter.class);
 
-    private final ProcessedMessageRepository processedMessageRepository;
+    private static final String CLAIM_SQL =
+        "INSERT INTO processed_messages (trace_id, created_at) VALUES (?, CURRENT_TIMESTAMP) ON CONFLICT (trace_id) DO NOTHING";
+
+    private static final String CLAIM_ALL_SQL = """
+        INSERT INTO processed_messages (trace_id, created_at)
+        SELECT DISTINCT id, CURRENT_TIMESTAMP FROM unnest(?::text[]) AS t(id)
+        ON CONFLICT (trace_id) DO NOTHING
+        RETURNING trace_id
+        """;
+
+    private static final String RELEASE_SQL = "DELETE FROM processed_messages WHERE trace_id = ?";
+
+    private static final String PURGE_SQL = """
+        DELETE FROM processed_messages
+        WHERE trace_id IN (
+            SELECT trace_id FROM processed_messages
+            WHERE created_at < ?
+            ORDER BY created_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        """;
 
-    public IdempotencyAdapter(ProcessedMessageRepository processedMessageRepository) {
-        this.processedMessageRepository = processedMessageRepository;
+    private static final String SIZE_SQL = """
+        SELECT GREATEST(c.reltuples, 0)::bigint, pg_total_relation_size(c.oid)
+        FROM pg_class c
+        WHERE c.oid = 'processed_messages'::regclass
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int cacheMaxSize;
+    private final long cacheTtlNanos;
+    private final Map<String, Long> claimedAt;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public IdempotencyAdapter(
+        JdbcTemplate jdbcTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${app.idempotency.cache.max-size:10000}") int cacheMaxSize,
+        @Value("${app.idempotency.cache.ttl:10m}") Duration cacheTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheMaxSize = cacheMaxSize;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.claimedAt = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > IdempotencyAdapter.this.cacheMaxSize;
+            }
+        };
+        this.cacheHits = Counter.builder("notification.idempotency.cache")
+            .tag("result", "hit")
+            .description("Idempotency claims answered from the local cache")
+            .register(meterRegistry);
+        this.cacheMisses = Counter.builder("notification.idempotency.cache")
+            .tag("result", "miss")
+            .description("Idempotency claims that went to the database")
+            .register(meterRegistry);
+        meterRegistry.gauge("notification.idempotency.cache.size", claimedAt, IdempotencyAdapter::cacheSize);
     }
 
     /**
-     * Check if a message with the given ID has been processed
+     * Claim a message ID; false if it was processed before
      */
     @Override
-    public boolean isMessageAlreadyProcessed(String messageId) {
-        boolean exists = processedMessageRepository.existsById(messageId);
-        logger.debug("Checking if message {} has been processed: {}", messageId, exists);
-        return exists;
+    public boolean tryClaim(String messageId) {
+        if (isCached(messageId)) {
+            logger.debug("Claiming message {}: already processed (cached)", messageId);
+            return false;
+        }
+        boolean claimed = jdbcTemplate.update(CLAIM_SQL, messageId) == 1;
+        if (claimed) {
+            cache(messageId);
+        }
+        logger.debug("Claiming message {}: {}", messageId, claimed ? "claimed" : "already processed");
+        return claimed;
     }
 
     /**
-     * Mark a message as processed
+     * Claim a batch of message IDs with one multi-row insert
      */
     @Override
-    public void markMessageAsProcessed(String messageId) {
+    public Set<String> tryClaimAll(Collection<String> messageIds) {
+        var uncached = new ArrayList<String>(messageIds.size());
+        for (String messageId : messageIds) {
+            if (!isCached(messageId)) {
+                uncached.add(messageId);
+            }
+        }
+        if (uncached.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> claimed = new HashSet<>();
+        jdbcTemplate.query(
+            con -> {
+                var ps = con.prepareStatement(CLAIM_ALL_SQL);
+                ps.setArray(1, con.createArrayOf("text", uncached.toArray()));
+                return ps;
+            },
+            rs -> {
+                claimed.add(rs.getString(1));
+            });
+        claimed.forEach(this::cache);
+        logger.debug("Claimed {} of {} messages", claimed.size(), messageIds.size());
+        return claimed;
+    }
+
+    @Override
+    public void releaseClaim(String messageId) {
+        synchronized (claimedAt) {
+            claimedAt.remove(messageId);
+        }
         try {
-            ProcessedMessage processedMessage = new ProcessedMessage(messageId);
-            processedMessageRepository.save(processedMessage);
-            logger.info("Message marked as processed: {}", messageId);
+            jdbcTemplate.update(RELEASE_SQL, messageId);
+            logger.info("Released claim of message {}", messageId);
         } catch (Exception e) {
-            logger.error("Failed to mark message as processed: {}", messageId, e);
+            logger.error("Failed to release claim of message {}", messageId, e);
+        }
+    }
+
+    @Override
+    public int purgeClaimedBefore(LocalDateTime cutoff, int batchSize) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(cutoff), batchSize);
+    }
+
+    @Override
+    public StoreSize storeSize() {
+        return jdbcTemplate.queryForObject(SIZE_SQL,
+            (rs, rowNum) -> new StoreSize(rs.getLong(1), rs.getLong(2)));
+    }
+
+    private boolean isCached(String messageId) {
+        boolean hit;
+        synchronized (claimedAt) {
+            Long cachedAt = claimedAt.get(messageId);
+            hit = cachedAt != null && System.nanoTime() - cachedAt < cacheTtlNanos;
+            if (cachedAt != null && !hit) {
+                claimedAt.remove(messageId);
+            }
+        }
+        (hit ? cacheHits : cacheMisses).increment();
+        return hit;
+    }
+
+    private void cache(String messageId) {
+        if (cacheMaxSize <= 0) {
+            return;
+        }
+        synchronized (claimedAt) {
+            claimedAt.put(messageId, System.nanoTime());
+        }
+    }
+
+    private static double cacheSize(Map<String, Long> claimedAt) {
+        synchronized (claimedAt) {
+            return claimedAt.size();
         }
     }
 }
@@ -0,0 +1,46 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConsumerChannelRegistry;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+
+/**
+ * Message recoverer for acknowledge-mode MANUAL.
+ *
+ * The container does not ack on its own in MANUAL mode, so once the delegate has republished
+ * the message to a retry tier or the DLQ the original delivery is acked through the
+ * ManualAckTracker. If the delegate fails the delivery is nacked and requeued, so the
+ * message is never lost. Runs on the consumer thread, where the consumer channel is bound.
+ */
+public class ManualAckMessageRecoverer implements MessageRecoverer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ManualAckMessageRecoverer.class);
+
+    private final MessageRecoverer delegate;
+    private final ManualAckTracker ackTracker;
+
+    public ManualAckMessageRecoverer(MessageRecoverer delegate, ManualAckTracker ackTracker) {
+        this.delegate = delegate;
+        this.ackTracker = ackTracker;
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        var channel = ConsumerChannelRegistry.getConsumerChannel();
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        try {
+            delegate.recover(message, cause);
+        } catch (RuntimeException e) {
+            logger.error("Failed to recover message, requeueing delivery tag {}: {}", deliveryTag, e.getMessage(), e);
+            if (channel != null) {
+                ackTracker.reject(channel, deliveryTag, true);
+            }
+            return;
+        }
+        if (channel != null) {
+            ackTracker.complete(channel, deliveryTag);
+        }
+    }
+}
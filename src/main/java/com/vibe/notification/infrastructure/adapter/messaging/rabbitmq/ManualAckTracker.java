@@ -0,0 +1,156 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Tracks delivery tags of messages consumed with acknowledge-mode MANUAL and acks them
+ * once their work has completed, coalescing acks into multi-acks.
+ *
+ * Completion happens out of order on the async executor, but basicAck(tag, multiple=true)
+ * acknowledges every tag up to and including tag. A completed tag is therefore only acked
+ * once every lower tag has completed too. Completed tags are flushed when ack-batch-size of
+ * them are ackable or when nothing else is in flight on the channel, so an idle consumer
+ * never holds acks back. The number of unacked messages per consumer is bounded by the
+ * prefetch count.
+ *
+ * A channel's entry is removed as soon as nothing is in flight or waiting for an ack on it,
+ * so channels of restarted consumers do not accumulate.
+ */
+@Component
+@ConditionalOnProperty(name = "app.feature.rabbitmq.enabled", havingValue = "true")
+public class ManualAckTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ManualAckTracker.class);
+
+    private final Map<Channel, ChannelAcks> channels = new ConcurrentHashMap<>();
+    private final int ackBatchSize;
+
+    public ManualAckTracker(@Value("${app.rabbitmq.listener.ack-batch-size:10}") int ackBatchSize) {
+        this.ackBatchSize = Math.max(1, ackBatchSize);
+    }
+
+    /**
+     * Register a delivered message whose work has started.
+     * Must be called on the consumer thread, in delivery order.
+     */
+    public void begin(Channel channel, long deliveryTag) {
+        update(channel, acks -> acks.inFlight.add(deliveryTag));
+    }
+
+    /**
+     * Mark a message as done (delivered, failed for good, retried or dead-lettered) and
+     * send any acks that became possible
+     */
+    public void complete(Channel channel, long deliveryTag) {
+        update(channel, acks -> {
+            acks.inFlight.remove(deliveryTag);
+            acks.completed.add(deliveryTag);
+            flush(channel, acks);
+        });
+    }
+
+    /**
+     * Reject a message that could not be completed; requeued messages are redelivered
+     */
+    public void reject(Channel channel, long deliveryTag, boolean requeue) {
+        update(channel, acks -> {
+            acks.inFlight.remove(deliveryTag);
+            try {
+                channel.basicNack(deliveryTag, false, requeue);
+            } catch (Exception e) {
+                // The broker redelivers unacked messages once the channel is gone
+                logger.warn("Failed to nack delivery tag {}: {}", deliveryTag, e.getMessage());
+                discard(channel, acks);
+                return;
+            }
+            flush(channel, acks);
+        });
+    }
+
+    /**
+     * Number of messages started but not yet completed on the channel
+     */
+    public int inFlight(Channel channel) {
+        var acks = channels.get(channel);
+        if (acks == null) {
+            return 0;
+        }
+        synchronized (acks) {
+            return acks.inFlight.size();
+        }
+    }
+
+    /**
+     * Number of channels with messages in flight or acks pending
+     */
+    int trackedChannels() {
+        return channels.size();
+    }
+
+    /**
+     * Apply a change to the channel's acks under its lock and drop the entry once it is empty.
+     * An entry removed concurrently is retired, so a caller holding it retries with a fresh one.
+     */
+    private void update(Channel channel, Consumer<ChannelAcks> change) {
+        while (true) {
+            var acks = channels.computeIfAbsent(channel, c -> new ChannelAcks());
+            synchronized (acks) {
+                if (acks.retired) {
+                    continue;
+                }
+                change.accept(acks);
+                if (acks.inFlight.isEmpty() && acks.completed.isEmpty()) {
+                    retire(channel, acks);
+                }
+                return;
+            }
+        }
+    }
+
+    private void flush(Channel channel, ChannelAcks acks) {
+        var ackable = acks.inFlight.isEmpty()
+            ? acks.completed
+            : acks.completed.headSet(acks.inFlight.first(), false);
+        if (ackable.isEmpty() || (ackable.size() < ackBatchSize && !acks.inFlight.isEmpty())) {
+            return;
+        }
+        long upTo = ackable.last();
+        boolean multiple = ackable.size() > 1;
+        try {
+            channel.basicAck(upTo, multiple);
+            ackable.clear();
+        } catch (Exception e) {
+            // Tags are only valid on their channel; the broker redelivers everything unacked
+            logger.warn("Failed to ack up to delivery tag {}: {}", upTo, e.getMessage());
+            discard(channel, acks);
+        }
+    }
+
+    private void discard(Channel channel, ChannelAcks acks) {
+        if (!channel.isOpen()) {
+            retire(channel, acks);
+        }
+    }
+
+    private void retire(Channel channel, ChannelAcks acks) {
+        acks.retired = true;
+        channels.remove(channel, acks);
+    }
+
+    private static final class ChannelAcks {
+        private final NavigableSet<Long> inFlight = new TreeSet<>();
+        private final NavigableSet<Long> completed = new TreeSet<>();
+        private boolean retired;
+    }
+}
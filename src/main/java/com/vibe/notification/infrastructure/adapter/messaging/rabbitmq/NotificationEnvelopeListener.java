@@ -0,0 +1,220 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import com.rabbitmq.client.Channel;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.vibe.notification.application.NotificationApplicationService;
+import com.vibe.notification.domain.service.TemplateResolutionService;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * RabbitMQ listener for multi-recipient envelope messages.
+ * Consumes NotificationEnvelopeMessage from the notification.request.envelope queue and expands
+ * it server-side into one notification per recipient.
+ *
+ * Processing Flow:
+ * 1. Envelope validation (template reference, recipients) → invalid envelope = DLQ, no retry
+ * 2. Per-recipient validation → invalid or repeated entries are dead-lettered/skipped individually
+ * 3. Template resolved once for the whole envelope
+ * 4. Recipients are sent in chunks of chunk-size through sendNotificationBatch, at most
+ *    parallelism chunks at a time across all consumers
+ * 5. The envelope is acknowledged once every chunk has been persisted
+ *
+ * Failures never fail the whole envelope: every affected recipient is recovered as its own
+ * NotificationRequestMessage through the tiered retry recoverer, so it is retried on the
+ * notification.request queue or dead-lettered on its own. Per-recipient trace IDs keep
+ * redelivered envelopes idempotent.
+ * Only a failure of the envelope itself, such as an invalid envelope, reaches the container's
+ * recoverer, which sends the envelope straight to the DLQ (see
+ * RabbitMqConfiguration#envelopeRabbitListenerContainerFactory).
+ */
+@Component
+@ConditionalOnProperty(name = "app.feature.rabbitmq.enabled", havingValue = "true")
+@DependsOn({"envelopeQueue", "deadLetterQueue", "deadLetterExchange"})
+public class NotificationEnvelopeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationEnvelopeListener.class);
+
+    private final NotificationApplicationService notificationApplicationService;
+    private final TemplateResolutionService templateResolutionService;
+    private final MessageConverter messageConverter;
+    private final MessageRecoverer notificationRequestRecoverer;
+    private final ManualAckTracker ackTracker;
+    private final boolean manualAck;
+    private final int chunkSize;
+    private final int maxRecipients;
+    private final ThreadPoolTaskExecutor expansionExecutor;
+
+    public NotificationEnvelopeListener(
+        NotificationApplicationService notificationApplicationService,
+        TemplateResolutionService templateResolutionService,
+        MessageConverter messageConverter,
+        MessageRecoverer notificationRequestRecoverer,
+        ManualAckTracker ackTracker,
+        @Value("${spring.rabbitmq.listener.simple.acknowledge-mode:AUTO}") AcknowledgeMode acknowledgeMode,
+        @Value("${app.rabbitmq.envelope.chunk-size:100}") int chunkSize,
+        @Value("${app.rabbitmq.envelope.parallelism:4}") int parallelism,
+        @Value("${app.rabbitmq.envelope.max-recipients:10000}") int maxRecipients
+    ) {
+        this.notificationApplicationService = notificationApplicationService;
+        this.templateResolutionService = templateResolutionService;
+        this.messageConverter = messageConverter;
+        this.notificationRequestRecoverer = notificationRequestRecoverer;
+        this.ackTracker = ackTracker;
+        this.manualAck = acknowledgeMode == AcknowledgeMode.MANUAL;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRecipients = maxRecipients;
+        this.expansionExecutor = new ThreadPoolTaskExecutor();
+        this.expansionExecutor.setCorePoolSize(parallelism);
+        this.expansionExecutor.setMaxPoolSize(parallelism);
+        this.expansionExecutor.setThreadNamePrefix("envelope-");
+        this.expansionExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expansionExecutor.shutdown();
+    }
+
+    /**
+     * Listens for envelope messages on the notification.request.envelope queue.
+     *
+     * @param envelope the envelope carrying one template reference and many recipients
+     * @param channel the consumer channel, used for acks in MANUAL mode
+     * @param deliveryTag the delivery tag of the message on that channel
+     */
+    @RabbitListener(queues = RabbitMqConfiguration.NOTIFICATION_REQUEST_ENVELOPE, containerFactory = "envelopeRabbitListenerContainerFactory")
+    public void handleEnvelope(
+        @Payload NotificationEnvelopeMessage envelope,
+        Channel channel,
+        @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag
+    ) {
+        if (manualAck) {
+            // Exceptions propagate to the retry interceptor, whose recoverer completes the tag
+            ackTracker.begin(channel, deliveryTag);
+        }
+
+        try {
+            validateEnvelope(envelope);
+        } catch (IllegalArgumentException e) {
+            // A malformed envelope cannot be expanded - log and skip retry
+            logger.error("Validation error processing envelope: {}", e.getMessage());
+            throw new AmqpRejectAndDontRequeueException("Validation failed: " + e.getMessage(), e);
+        }
+
+        List<NotificationRequestMessage> items = expand(envelope);
+
+        // Validate template existence once for every recipient
+        try {
+            templateResolutionService.resolveTemplate(envelope.slug(), envelope.language(), envelope.channel());
+        } catch (RuntimeException e) {
+            logger.warn("Template validation failed for envelope slug={}, recovering {} recipients: {}",
+                envelope.slug(), items.size(), e.getMessage());
+            items.forEach(item -> recover(item, e));
+            complete(channel, deliveryTag);
+            return;
+        }
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            var chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            chunks.add(CompletableFuture.runAsync(() -> sendChunk(chunk), expansionExecutor));
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+        logger.info("Envelope processed: slug={}, recipients={}, accepted={}",
+            envelope.slug(), envelope.recipients().size(), items.size());
+        complete(channel, deliveryTag);
+    }
+
+    /**
+     * Valid, distinct recipients of the envelope as single requests; invalid entries are dead-lettered
+     */
+    private List<NotificationRequestMessage> expand(NotificationEnvelopeMessage envelope) {
+        List<NotificationRequestMessage> items = new ArrayList<>(envelope.recipients().size());
+        var seen = new HashSet<String>();
+        for (var entry : envelope.recipients()) {
+            if (entry == null) {
+                logger.warn("Skipping empty recipient entry in envelope slug={}", envelope.slug());
+                continue;
+            }
+            var item = envelope.toRequestMessage(entry);
+            try {
+                NotificationRequestListener.validateMessage(item);
+            } catch (IllegalArgumentException e) {
+                logger.error("Validation error for envelope recipient with trace_id {}: {}", item.traceId(), e.getMessage());
+                recover(item, new AmqpRejectAndDontRequeueException("Validation failed: " + e.getMessage(), e));
+                continue;
+            }
+            if (!seen.add(item.traceId())) {
+                logger.debug("Duplicate trace_id {} in envelope, skipping", item.traceId());
+                continue;
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    private void sendChunk(List<NotificationRequestMessage> chunk) {
+        try {
+            notificationApplicationService.sendNotificationBatch(
+                chunk.stream().map(NotificationRequestListener::toSendRequest).toList());
+        } catch (RuntimeException e) {
+            logger.warn("Envelope chunk failed, recovering {} recipients: {}", chunk.size(), e.getMessage());
+            chunk.forEach(item -> recover(item, e));
+        }
+    }
+
+    /**
+     * Hand a single recipient to the retry tiers (or the DLQ) as a standalone request message
+     */
+    private void recover(NotificationRequestMessage item, Throwable cause) {
+        var properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        notificationRequestRecoverer.recover(messageConverter.toMessage(item, properties), cause);
+    }
+
+    private void complete(Channel channel, long deliveryTag) {
+        if (manualAck) {
+            ackTracker.complete(channel, deliveryTag);
+        }
+    }
+
+    private void validateEnvelope(NotificationEnvelopeMessage envelope) {
+        if (envelope.slug() == null || envelope.slug().isBlank()) {
+            throw new IllegalArgumentException("slug is required");
+        }
+        if (envelope.language() == null || envelope.language().isBlank()) {
+            throw new IllegalArgumentException("language is required");
+        }
+        if (envelope.channel() == null) {
+            throw new IllegalArgumentException("channel is required");
+        }
+        if (envelope.recipients() == null || envelope.recipients().isEmpty()) {
+            throw new IllegalArgumentException("recipients are required");
+        }
+        if (envelope.recipients().size() > maxRecipients) {
+            throw new IllegalArgumentException("at most " + maxRecipients + " recipients are allowed");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.TemplateVariables;
+import java.util.List;
+
+/**
+ * Message payload for multi-recipient notification requests received via RabbitMQ.
+ * Carries one template reference for many recipients, so broadcast producers publish a
+ * single message instead of one NotificationRequestMessage per recipient.
+ * Published to the notification.request exchange with routing key notification.request.envelope.
+ *
+ * @param slug the unique identifier of the template to use for rendering
+ * @param language the ISO 639-1 language code (e.g., "en", "id", "es")
+ * @param channel the notification channel (EMAIL or WHATSAPP)
+ * @param clientId optional client identifier for routing status callbacks to client-specific queues
+ * @param recipients one entry per recipient
+ */
+public record NotificationEnvelopeMessage(
+    String slug,
+    String language,
+    Channel channel,
+    String clientId,
+    List<Recipient> recipients
+) {
+
+    /**
+     * A single recipient of an envelope
+     *
+     * @param traceId unique identifier for idempotent processing of this recipient
+     * @param recipient the message recipient (phone number for WhatsApp, email address for Email)
+     * @param variables a map of template variables for this recipient
+     */
+    public record Recipient(
+        String traceId,
+        String recipient,
+        TemplateVariables variables
+    ) {
+    }
+
+    /**
+     * The single-recipient request for one entry of this envelope
+     */
+    public NotificationRequestMessage toRequestMessage(Recipient entry) {
+        return new NotificationRequestMessage(
+            entry.traceId(),
+            entry.recipient(),
+            slug,
+            language,
+            channel,
+            entry.variables(),
+            clientId
+        );
+    }
+}
@@ -0,0 +1,137 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import com.vibe.notification.application.NotificationApplicationService;
+import com.vibe.notification.application.dto.SendNotificationRequest;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.service.TemplateResolutionService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batch-consuming RabbitMQ listener for inbound notification requests.
+ * Replaces NotificationRequestListener when app.rabbitmq.listener.batch.enabled=true.
+ *
+ * The container hands over up to batch-size messages at once (see
+ * batchRabbitListenerContainerFactory), and the batch is processed with bulk DB operations:
+ * - Templates are resolved once per distinct (slug, language, channel)
+ * - All trace_ids are claimed in processed_messages with one multi-row insert
+ * - PENDING logs are written with one JDBC batch
+ *
+ * Failures are handled per message through the same recoverer as the single-message
+ * listener: invalid messages go straight to the DLQ, template-not-found and other errors
+ * go through the retry tiers. The rest of the batch is unaffected.
+ */
+@Component
+@ConditionalOnProperty(name = "app.feature.rabbitmq.enabled", havingValue = "true")
+@ConditionalOnProperty(name = "app.rabbitmq.listener.batch.enabled", havingValue = "true")
+@DependsOn({"mainQueue", "deadLetterQueue", "deadLetterExchange"})
+public class NotificationRequestBatchListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRequestBatchListener.class);
+
+    private final NotificationApplicationService notificationApplicationService;
+    private final TemplateResolutionService templateResolutionService;
+    private final MessageConverter messageConverter;
+    private final MessageRecoverer notificationRequestRecoverer;
+
+    public NotificationRequestBatchListener(
+        NotificationApplicationService notificationApplicationService,
+        TemplateResolutionService templateResolutionService,
+        MessageConverter messageConverter,
+        MessageRecoverer notificationRequestRecoverer
+    ) {
+        this.notificationApplicationService = notificationApplicationService;
+        this.templateResolutionService = templateResolutionService;
+        this.messageConverter = messageConverter;
+        this.notificationRequestRecoverer = notificationRequestRecoverer;
+    }
+
+    /**
+     * Listens for batches of notification request messages on the notification.request queue.
+     *
+     * @param messages the raw messages of one consumer batch
+     */
+    @RabbitListener(queues = RabbitMqConfiguration.NOTIFICATION_REQUEST, containerFactory = "batchRabbitListenerContainerFactory")
+    public void handleNotificationRequests(List<Message> messages) {
+        logger.debug("Received notification request batch: size={}", messages.size());
+
+        List<Message> accepted = new ArrayList<>(messages.size());
+        List<SendNotificationRequest> requests = new ArrayList<>(messages.size());
+        Map<TemplateKey, Optional<RuntimeException>> templateFailures = new HashMap<>();
+
+        for (Message message : messages) {
+            NotificationRequestMessage request;
+            try {
+                request = convert(message);
+                NotificationRequestListener.validateMessage(request);
+            } catch (RuntimeException e) {
+                // Malformed or invalid messages are client errors - no retry
+                logger.error("Validation error processing batched message: {}", e.getMessage());
+                notificationRequestRecoverer.recover(message, new AmqpRejectAndDontRequeueException("Validation failed: " + e.getMessage(), e));
+                continue;
+            }
+
+            // Validate template existence once per distinct key; failures are retried through the delay queues
+            var key = new TemplateKey(request.slug(), request.language(), request.channel());
+            var failure = templateFailures.computeIfAbsent(key, this::resolveTemplate);
+            if (failure.isPresent()) {
+                notificationRequestRecoverer.recover(message, failure.get());
+                continue;
+            }
+
+            accepted.add(message);
+            requests.add(NotificationRequestListener.toSendRequest(request));
+        }
+
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        try {
+            notificationApplicationService.sendNotificationBatch(requests);
+            logger.info("Notification request batch processed: received={}, accepted={}", messages.size(), requests.size());
+        } catch (RuntimeException e) {
+            // Admission is checked before anything is persisted; retry every message individually
+            logger.warn("Notification request batch failed, recovering {} messages: {}", accepted.size(), e.getMessage());
+            accepted.forEach(message -> notificationRequestRecoverer.recover(message, e));
+        }
+    }
+
+    private NotificationRequestMessage convert(Message message) {
+        message.getMessageProperties().setInferredArgumentType(NotificationRequestMessage.class);
+        if (!(messageConverter.fromMessage(message) instanceof NotificationRequestMessage request)) {
+            throw new IllegalArgumentException("payload is not a notification request");
+        }
+        return request;
+    }
+
+    /**
+     * @return empty if the template resolves, otherwise the failure to recover with
+     */
+    private Optional<RuntimeException> resolveTemplate(TemplateKey key) {
+        try {
+            templateResolutionService.resolveTemplate(key.slug(), key.language(), key.channel());
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            return Optional.of(e);
+        }
+    }
+
+    private record TemplateKey(String slug, String language, Channel channel) {
+    }
+}
@@ -1,14 +1,22 @@
 package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
 
+import com.rabbitmq.client.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import com.vibe.notification.application.NotificationApplicationService;
+import com.vibe.notification.application.dto.NotificationResponse;
 import com.vibe.notification.application.dto.SendNotificationRequest;
+import com.vibe.notification.domain.service.LogVariablesPolicy;
 import com.vibe.notification.domain.service.TemplateResolutionService;
 
 /**
@@ -20,53 +28,78 @@ import com.vibe.notification.domain.service.TemplateResolutionService;
  * - Early template validation: Validates template existence BEFORE message acknowledgment
  *   This enables RabbitMQ retry interceptor to catch exceptions and retry with exponential backoff
  * - Graceful error handling: Logs parsing errors without failing the consumer
- * - Conditional enablement: Only active when app.feature.rabbitmq.enabled=true
+ * - Conditional enablement: Only active when app.feature.rabbitmq.enabled=true and
+ *   batch consumption is off (see NotificationRequestBatchListener)
  *
  * Processing Flow:
  * 1. Message received
  * 2. Basic validation (required fields) → validation error = no retry
- * 3. Idempotency check (trace_id already processed?) → skip if duplicate
- * 4. Template validation (BEFORE acknowledgment) → template not found = RETRY
- * 5. If template valid → message acknowledged → async processing spawned
+ * 3. Template validation (BEFORE acknowledgment) → template not found = RETRY
+ * 4. Idempotency claim (single INSERT ... ON CONFLICT on trace_id) → skip if duplicate
+ * 5. Message acknowledged → async processing spawned
  * 6. [Async] Rendering, sending
  *
  * Retry Mechanism (uses existing RabbitMQ infrastructure):
  * - Template not found → Exception thrown from listener
  * - Retry interceptor catches exception
- * - Exponential backoff: 1s, 2s, 4s (configured in RabbitMqConfiguration)
+ * - TieredRetryMessageRecoverer republishes to delay queues: 1s, 2s, 4s (configured in RabbitMqConfiguration)
+ *   The consumer thread never sleeps; the attempt count is carried in the x-retry-attempt header
  * - Max 4 attempts (1 initial + 3 retries)
- * - After max retries → DlqMessageRecoverer sends to Dead Letter Queue
+ * - After the last tier → DlqMessageRecoverer sends to Dead Letter Queue
  * - DLQ message includes error headers (x-last-error, x-last-error-timestamp)
+ *
+ * Acknowledgement:
+ * - AUTO (default): the container acks as soon as the notification is queued for async processing
+ * - MANUAL: the delivery is acked through ManualAckTracker only once the notification has been
+ *   delivered, failed for good, scheduled for a durable retry, or persisted to the outbox.
+ *   Retry/DLQ republishing acks through ManualAckMessageRecoverer. A crash in between leaves
+ *   the message unacked, so the broker redelivers it
  */
 @Component
 @ConditionalOnProperty(name = "app.feature.rabbitmq.enabled", havingValue = "true")
+@ConditionalOnProperty(name = "app.rabbitmq.listener.batch.enabled", havingValue = "false", matchIfMissing = true)
 @DependsOn({"mainQueue", "deadLetterQueue", "deadLetterExchange"})
 public class NotificationRequestListener {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationRequestListener.class);
+    private static final String ALREADY_PROCESSED = "ALREADY_PROCESSED";
 
     private final NotificationApplicationService notificationApplicationService;
-    private final ProcessedMessageRepository processedMessageRepository;
     private final TemplateResolutionService templateResolutionService;
+    private final ManualAckTracker ackTracker;
+    private final boolean manualAck;
 
     public NotificationRequestListener(
         NotificationApplicationService notificationApplicationService,
-        ProcessedMessageRepository processedMessageRepository,
-        TemplateResolutionService templateResolutionService
+        TemplateResolutionService templateResolutionService,
+        ManualAckTracker ackTracker,
+        @Value("${spring.rabbitmq.listener.simple.acknowledge-mode:AUTO}") AcknowledgeMode acknowledgeMode
     ) {
         this.notificationApplicationService = notificationApplicationService;
-        this.processedMessageRepository = processedMessageRepository;
         this.templateResolutionService = templateResolutionService;
+        this.ackTracker = ackTracker;
+        this.manualAck = acknowledgeMode == AcknowledgeMode.MANUAL;
     }
 
     /**
      * Listens for notification request messages on the notification.request.queue.
-     * Ensures idempotent processing by checking if the trace_id has been processed.
+     * Ensures idempotent processing by claiming the trace_id exactly once, in the application service.
      *
      * @param message the notification request message containing recipient, template slug, language, and variables
+     * @param channel the consumer channel, used for acks in MANUAL mode
+     * @param deliveryTag the delivery tag of the message on that channel
      */
     @RabbitListener(queues = RabbitMqConfiguration.NOTIFICATION_REQUEST)
-    public void handleNotificationRequest(NotificationRequestMessage message) {
+    public void handleNotificationRequest(
+        @Payload NotificationRequestMessage message,
+        Channel channel,
+        @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag
+    ) {
+        if (manualAck) {
+            // Exceptions propagate to the retry interceptor, whose recoverer completes the tag
+            ackTracker.begin(channel, deliveryTag);
+        }
+
         try {
             // Validate incoming message (validation errors should not be retried)
             validateMessage(message);
@@ -76,69 +109,38 @@ public class NotificationRequestListener {
             throw new org.springframework.amqp.AmqpRejectAndDontRequeueException("Validation failed: " + e.getMessage(), e);
         }
         
-        // Check if message has already been processed using trace_id
-        if (isMessageAlreadyProcessed(message.traceId())) {
-            logger.debug("Message with trace_id {} already processed, skipping", message.traceId());
-            return;
-        }
-
         // Validate template existence BEFORE message acknowledgment
         // This enables RabbitMQ retry interceptor to catch template-not-found exceptions
-        // and retry with exponential backoff (1s, 2s, 4s) using existing infrastructure
+        // and retry through the delay queues (1s, 2s, 4s) using existing infrastructure
         logger.debug("Validating template existence: slug={}, language={}, channel={}", message.slug(), message.language(), message.channel());
         templateResolutionService.resolveTemplate(message.slug(), message.language(), message.channel());
         logger.debug("Template validation passed for slug={}", message.slug());
 
         // Convert to application request and process
-        // Use message's trace_id as idempotency key
-        SendNotificationRequest request = new SendNotificationRequest(
-            message.recipient(),
-            message.slug(),
-            message.language(),
-            message.channel(),
-            message.variables(),
-            java.util.Optional.of(message.traceId()),
-            java.util.Optional.ofNullable(message.clientId())
-        );
-
-        // Send notification asynchronously
-        notificationApplicationService.sendNotification(request);
+        SendNotificationRequest request = toSendRequest(message);
+
+        if (manualAck) {
+            // Ack once the notification can no longer be lost; the PENDING row covers exceptional completion
+            notificationApplicationService.submitNotification(request).whenComplete((response, error) -> {
+                if (error != null) {
+                    logger.warn("Notification processing failed for trace_id {}: {}", message.traceId(), error.getMessage());
+                }
+                ackTracker.complete(channel, deliveryTag);
+            });
+            return;
+        }
 
-        // Mark message as processed
-        markMessageAsProcessed(message.traceId());
+        // Send notification asynchronously; the trace_id is claimed atomically inside
+        NotificationResponse response = notificationApplicationService.sendNotification(request);
+        if (ALREADY_PROCESSED.equals(response.status())) {
+            logger.debug("Message with trace_id {} already processed, skipping", message.traceId());
+            return;
+        }
 
         logger.info("Notification request processed successfully. Trace ID: {}, Recipient: {}, Template: {}",
             message.traceId(), message.recipient(), message.slug());
     }
 
-    /**
-     * Checks if a message with the given trace_id has already been processed.
-     *
-     * @param traceId the unique message identifier
-     * @return true if the message was previously processed, false otherwise
-     */
-    private boolean isMessageAlreadyProcessed(String traceId) {
-        return processedMessageRepository.existsById(traceId);
-    }
-
-    /**
-     * Records that a message has been successfully processed.
-     * Uses saveAndFlush to immediately persist and prevent race conditions.
-     *
-     * @param traceId the unique message identifier
-     */
-    private void markMessageAsProcessed(String traceId) {
-        try {
-            // Check again before saving to handle race conditions
-            if (!processedMessageRepository.existsById(traceId)) {
-                processedMessageRepository.saveAndFlush(new ProcessedMessage(traceId));
-            }
-        } catch (Exception e) {
-            // Silently ignore if message was already saved by another thread
-            logger.debug("Message with trace_id {} already marked as processed", traceId);
-        }
-    }
-
     /**
      * Validates the incoming message payload.
      * Ensures all required fields are present and valid.
@@ -146,7 +148,7 @@ public class NotificationRequestListener {
      * @param message the message to validate
      * @throws IllegalArgumentException if validation fails
      */
-    private void validateMessage(NotificationRequestMessage message) {
+    static void validateMessage(NotificationRequestMessage message) {
         if (message.traceId() == null || message.traceId().isBlank()) {
             throw new IllegalArgumentException("trace_id is required");
         }
@@ -165,6 +167,22 @@ public class NotificationRequestListener {
         if (message.variables() == null) {
             throw new IllegalArgumentException("variables map is required");
         }
+        LogVariablesPolicy.requireNoReservedKey(message.variables());
     }
-}
 
+    /**
+     * Converts a message to an application request.
+     * Uses the message's trace_id as idempotency key.
+     */
+    static SendNotificationRequest toSendRequest(NotificationRequestMessage message) {
+        return new SendNotificationRequest(
+            message.recipient(),
+            message.slug(),
+            message.language(),
+            message.channel(),
+            message.variables(),
+            java.util.Optional.of(message.traceId()),
+            java.util.Optional.ofNullable(message.clientId())
+        );
+    }
+}
@@ -1,7 +1,7 @@
 package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
 
 import com.vibe.notification.domain.model.Channel;
-import java.util.Map;
+import com.vibe.notification.domain.model.TemplateVariables;
 
 /**
  * Message payload for notification requests received via RabbitMQ.
@@ -22,7 +22,7 @@ public record NotificationRequestMessage(
     String slug,
     String language,
     Channel channel,
-    Map<String, Object> variables,
+    TemplateVariables variables,
     String clientId
 ) {
 }
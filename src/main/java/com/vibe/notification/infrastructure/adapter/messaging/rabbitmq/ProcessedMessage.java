@@ -1,8 +1,16 @@
 package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
 
 /**
  * Entity representing a processed notification request.
@@ -11,10 +19,18 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "processed_messages")
-public class ProcessedMessage {
+public class ProcessedMessage implements Persistable<String> {
     @Id
     private String traceId;
 
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    // The trace ID is assigned by the client: without this flag save() would SELECT before every INSERT
+    @Transient
+    private boolean newEntity = true;
+
     public ProcessedMessage() {
     }
 
@@ -22,6 +38,11 @@ public class ProcessedMessage {
         this.traceId = traceId;
     }
 
+    @Override
+    public String getId() {
+        return traceId;
+    }
+
     public String getTraceId() {
         return traceId;
     }
@@ -29,4 +50,19 @@ public class ProcessedMessage {
     public void setTraceId(String traceId) {
         this.traceId = traceId;
     }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
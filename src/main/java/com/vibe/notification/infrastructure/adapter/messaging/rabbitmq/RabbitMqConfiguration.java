@@ -6,18 +6,18 @@ import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFacto
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.backoff.ExponentialBackOffPolicy;
-import org.springframework.retry.policy.SimpleRetryPolicy;
-import org.springframework.retry.support.RetryTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * RabbitMQ configuration for inbound notification requests with retry mechanism
@@ -25,11 +25,16 @@ import java.util.Map;
  * Configures the queue, DLQ, and retry policy for resilient message processing.
  *
  * Features:
- * - Exponential backoff retry (1s, 2s, 4s) across 4 total attempts (1 initial +
- * 3 retries)
+ * - Tiered delay-queue retries (1s, 2s, 4s) across 4 total attempts (1 initial +
+ * 3 retries); failed messages wait in TTL queues, not on consumer threads
  * - Dead Letter Queue (DLQ) for failed messages
  * - Differentiation between transient errors (retryable) and validation errors
  * (non-retryable)
+ * - spring.rabbitmq.listener.simple.* (prefetch, concurrency, acknowledge-mode) applied
+ * to the listener container; with acknowledge-mode MANUAL, deliveries are acked only
+ * once their work has completed or the message has been republished for retry/DLQ
+ * - Multi-recipient envelopes on their own queue, bound to the same exchange
+ * - Optional batch consumption (app.rabbitmq.listener.batch.enabled) for bulk DB operations
  *
  * This configuration is conditionally enabled via the feature toggle:
  * {@code app.feature.rabbitmq.enabled=true}
@@ -39,6 +44,7 @@ import java.util.Map;
 public class RabbitMqConfiguration {
 
     public static final String NOTIFICATION_REQUEST = "notification.request";
+    public static final String NOTIFICATION_REQUEST_ENVELOPE = "notification.request.envelope";
     public static final String NOTIFICATION_DL = "notification.dl";
     public static final String NOTIFICATION_STATUS_EXCHANGE = "notification.status.exchange";
     public static final String NOTIFICATION_STATUS_ROUTING_KEY = "status.updated";
@@ -92,6 +98,33 @@ public class RabbitMqConfiguration {
                 .with(NOTIFICATION_REQUEST);
     }
 
+    /**
+     * Declares the Envelope Queue.
+     * Stores multi-recipient envelope messages published to the main exchange.
+     *
+     * @return the configured envelope queue bean
+     */
+    @Bean
+    public Queue envelopeQueue() {
+        return QueueBuilder.durable(NOTIFICATION_REQUEST_ENVELOPE)
+                .withArgument("x-dead-letter-exchange", NOTIFICATION_DL)
+                .withArgument("x-dead-letter-routing-key", NOTIFICATION_DL)
+                .build();
+    }
+
+    /**
+     * Binds the Envelope Queue to the Main Exchange.
+     *
+     * @return the binding bean
+     */
+    @Bean
+    public Binding envelopeBinding() {
+        return BindingBuilder
+                .bind(envelopeQueue())
+                .to(mainExchange())
+                .with(NOTIFICATION_REQUEST_ENVELOPE);
+    }
+
     /**
      * Declares the Dead Letter Exchange (DLX).
      * Messages that fail after max retries will be routed here.
@@ -151,60 +184,151 @@ public class RabbitMqConfiguration {
     }
 
     /**
-     * Configures the listener container factory with retry policy.
-     * Implements exponential backoff with max 3 attempts.
+     * Declares one retry tier queue per configured delay.
+     * Each tier holds failed messages for its TTL and then dead-letters them back to
+     * the main exchange, so retries wait in RabbitMQ instead of on a consumer thread.
+     *
+     * @return the tier queues
+     */
+    @Bean
+    public Declarables retryTierQueues(@Value("${app.rabbitmq.retry.delays:1s,2s,4s}") List<Duration> retryDelays) {
+        return new Declarables(retryDelays.stream()
+                .map(delay -> QueueBuilder.durable(retryQueueName(delay))
+                        .withArgument("x-message-ttl", delay.toMillis())
+                        .withArgument("x-dead-letter-exchange", NOTIFICATION_REQUEST)
+                        .withArgument("x-dead-letter-routing-key", NOTIFICATION_REQUEST)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Name of the retry tier queue for the given delay, e.g. notification.request.retry.1000ms
+     */
+    public static String retryQueueName(Duration delay) {
+        return NOTIFICATION_REQUEST + ".retry." + delay.toMillis() + "ms";
+    }
+
+    /**
+     * Configures the listener container factory with tiered retries.
+     * Boot's listener properties are applied first so prefetch, concurrency and
+     * acknowledge-mode from spring.rabbitmq.listener.simple take effect.
      *
      * @param connectionFactory the RabbitMQ connection factory
      * @return the configured container factory
      */
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            MessageRecoverer notificationRequestRecoverer,
+            ManualAckTracker ackTracker,
+            @Value("${spring.rabbitmq.listener.simple.acknowledge-mode:AUTO}") AcknowledgeMode acknowledgeMode) {
+
+        return recoveringContainerFactory(configurer, connectionFactory, messageConverter,
+                notificationRequestRecoverer, ackTracker, acknowledgeMode);
+    }
+
+    /**
+     * Configures the container factory for the envelope listener.
+     * Same settings as rabbitListenerContainerFactory, but a failed envelope goes straight
+     * to the DLQ marked with the envelope queue: the tier queues dead-letter to
+     * notification.request, where an envelope would be read as a single request. Recipients
+     * that fail are recovered by the listener as single requests and retried on their own.
+     *
+     * @return the configured envelope container factory
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory envelopeRabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
             ConnectionFactory connectionFactory,
             MessageConverter messageConverter,
             RabbitTemplate rabbitTemplate,
-            NotificationStatusProducer notificationStatusProducer,
-            ObjectMapper objectMapper) {
+            ManualAckTracker ackTracker,
+            @Value("${spring.rabbitmq.listener.simple.acknowledge-mode:AUTO}") AcknowledgeMode acknowledgeMode) {
+
+        // An envelope has no trace_id of its own, so no RETRY_EXHAUSTED status is published
+        MessageRecoverer envelopeRecoverer = new DlqMessageRecoverer(
+                rabbitTemplate,
+                NOTIFICATION_DL,
+                NOTIFICATION_DL,
+                NOTIFICATION_REQUEST_ENVELOPE);
+
+        return recoveringContainerFactory(configurer, connectionFactory, messageConverter,
+                envelopeRecoverer, ackTracker, acknowledgeMode);
+    }
+
+    private SimpleRabbitListenerContainerFactory recoveringContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            MessageRecoverer messageRecoverer,
+            ManualAckTracker ackTracker,
+            AcknowledgeMode acknowledgeMode) {
 
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
-        factory.setConnectionFactory(connectionFactory);
+        configurer.configure(factory, connectionFactory);
         factory.setMessageConverter(messageConverter);
 
         // Configure retry interceptor
-        factory.setAdviceChain(retryInterceptor(rabbitTemplate, notificationStatusProducer, objectMapper));
+        if (acknowledgeMode == AcknowledgeMode.MANUAL) {
+            // The container never acks in MANUAL mode, including after the recoverer ran
+            messageRecoverer = new ManualAckMessageRecoverer(messageRecoverer, ackTracker);
+        }
+        factory.setAdviceChain(retryInterceptor(messageRecoverer));
 
         return factory;
     }
 
     /**
-     * Creates a retry interceptor with exponential backoff policy.
+     * Configures the container factory for the batch request listener.
+     * The consumer collects up to batch-size messages, or whatever arrived within
+     * receive-timeout, and hands them to the listener as one list. The listener recovers
+     * failed messages individually, so no retry interceptor is installed and the batch is
+     * acked as a whole (AUTO) once the listener returns.
      *
-     * @return the configured retry interceptor
+     * Only active when app.rabbitmq.listener.batch.enabled=true
+     *
+     * @return the configured batch container factory
      */
-    private org.aopalliance.intercept.MethodInterceptor retryInterceptor(
+    @Bean
+    @ConditionalOnProperty(name = "app.rabbitmq.listener.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            @Value("${app.rabbitmq.listener.batch.size:100}") int batchSize,
+            @Value("${app.rabbitmq.listener.batch.receive-timeout:200ms}") Duration receiveTimeout,
+            @Value("${spring.rabbitmq.listener.simple.prefetch:250}") int prefetch) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        // A batch needs at least batch-size messages buffered on the consumer
+        factory.setPrefetchCount(Math.max(batchSize, prefetch));
+
+        return factory;
+    }
+
+    /**
+     * Creates the recoverer that republishes failed messages to the next retry tier
+     * and sends them to the DLQ once every tier has been used.
+     *
+     * @return the notification request recoverer
+     */
+    @Bean
+    public MessageRecoverer notificationRequestRecoverer(
             RabbitTemplate rabbitTemplate,
             NotificationStatusProducer notificationStatusProducer,
-            ObjectMapper objectMapper) {
-        RetryTemplate retryTemplate = new RetryTemplate();
-
-        // Exponential backoff: 1s, 2s, 4s
-        ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
-        backOffPolicy.setInitialInterval(1000L); // 1 second
-        backOffPolicy.setMultiplier(2.0); // Double each time
-        backOffPolicy.setMaxInterval(4000L); // Max 4 seconds
-        retryTemplate.setBackOffPolicy(backOffPolicy);
-
-        // Max 4 attempts total (1 initial + 3 retries) to achieve 1s, 2s, 4s backoff
-        // sequence
-        // Don't retry validation errors (AmqpRejectAndDontRequeueException)
-        Map<Class<? extends Throwable>, Boolean> retryableExceptions = new HashMap<>();
-        retryableExceptions.put(Exception.class, true);
-        retryableExceptions.put(org.springframework.amqp.AmqpRejectAndDontRequeueException.class, false);
-
-        SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(4, retryableExceptions);
-        retryTemplate.setRetryPolicy(retryPolicy);
-
+            ObjectMapper objectMapper,
+            @Value("${app.rabbitmq.retry.delays:1s,2s,4s}") List<Duration> retryDelays) {
         // Custom message recoverer that adds error headers to DLQ messages and publishes RETRY_EXHAUSTED status
-        DlqMessageRecoverer messageRecoverer = new DlqMessageRecoverer(
+        DlqMessageRecoverer dlqRecoverer = new DlqMessageRecoverer(
                 rabbitTemplate,
                 NOTIFICATION_DL,
                 NOTIFICATION_DL,
@@ -212,9 +336,23 @@ public class RabbitMqConfiguration {
                 notificationStatusProducer,
                 objectMapper);
 
+        // Retries 1s, 2s, 4s by default; the DLQ recoverer only runs after the last tier
+        return new TieredRetryMessageRecoverer(
+                rabbitTemplate,
+                retryDelays.stream().map(RabbitMqConfiguration::retryQueueName).toList(),
+                dlqRecoverer);
+    }
+
+    /**
+     * Creates a retry interceptor that makes a single in-place attempt and hands failures
+     * to the tiered recoverer, which republishes them to the next delay queue.
+     *
+     * @return the configured retry interceptor
+     */
+    private org.aopalliance.intercept.MethodInterceptor retryInterceptor(MessageRecoverer messageRecoverer) {
         return org.springframework.amqp.rabbit.config.RetryInterceptorBuilder
                 .stateless()
-                .retryOperations(retryTemplate)
+                .maxAttempts(1)
                 .recoverer(messageRecoverer)
                 .build();
     }
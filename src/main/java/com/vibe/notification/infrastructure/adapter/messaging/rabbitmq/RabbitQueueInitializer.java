@@ -1,12 +1,17 @@
 package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
 
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Initializer for RabbitMQ queues.
  * 
@@ -31,11 +36,16 @@ public class RabbitQueueInitializer {
         RabbitMqConfiguration.NOTIFICATION_DL
     };
 
-    RabbitQueueInitializer(RabbitAdmin rabbitAdmin) {
+    RabbitQueueInitializer(
+            RabbitAdmin rabbitAdmin,
+            @Value("${app.rabbitmq.retry.delays:1s,2s,4s}") List<Duration> retryDelays) {
         logger.info("Initializing RabbitMQ queue cleanup...");
-        
+
+        var queues = new ArrayList<>(List.of(OLD_QUEUES));
+        retryDelays.stream().map(RabbitMqConfiguration::retryQueueName).forEach(queues::add);
+
         // Delete old queue versions
-        for (String queueName : OLD_QUEUES) {
+        for (String queueName : queues) {
             try {
                 rabbitAdmin.deleteQueue(queueName);
                 logger.info("Deleted old queue: {}", queueName);
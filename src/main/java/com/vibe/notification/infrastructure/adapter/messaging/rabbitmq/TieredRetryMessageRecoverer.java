@@ -0,0 +1,87 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Message recoverer that retries failed messages through per-delay queues instead of
+ * sleeping on the consumer thread.
+ *
+ * Attempt n is republished to the n-th retry tier queue. Each tier queue has a message TTL
+ * and dead-letters expired messages back to notification.request, so the consumer that
+ * failed moves straight on to the next message. The attempt count travels in the
+ * x-retry-attempt header. Once every tier is used, or for non-retryable failures
+ * (AmqpRejectAndDontRequeueException), the message goes to the DLQ recoverer.
+ */
+public class TieredRetryMessageRecoverer implements MessageRecoverer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredRetryMessageRecoverer.class);
+
+    public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final List<String> tierQueues;
+    private final MessageRecoverer dlqRecoverer;
+
+    public TieredRetryMessageRecoverer(
+            RabbitTemplate rabbitTemplate,
+            List<String> tierQueues,
+            MessageRecoverer dlqRecoverer) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.tierQueues = List.copyOf(tierQueues);
+        this.dlqRecoverer = dlqRecoverer;
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        int attempt = retryAttempt(message);
+        if (isNonRetryable(cause) || attempt >= tierQueues.size()) {
+            dlqRecoverer.recover(message, cause);
+            return;
+        }
+
+        String tierQueue = tierQueues.get(attempt);
+        message.getMessageProperties().setHeader(RETRY_ATTEMPT_HEADER, attempt + 1);
+        logger.warn("Message processing failed, scheduling retry {} of {} via {}: {}",
+                attempt + 1, tierQueues.size(), tierQueue, cause != null ? cause.getMessage() : "Unknown error");
+
+        // Default exchange routes by queue name; the tier queue dead-letters back to notification.request
+        rabbitTemplate.send("", tierQueue, message);
+    }
+
+    /**
+     * Number of retries this message has already been through
+     */
+    static int retryAttempt(Message message) {
+        Object header = message.getMessageProperties().getHeader(RETRY_ATTEMPT_HEADER);
+        if (header instanceof Number number) {
+            return number.intValue();
+        }
+        if (header != null) {
+            try {
+                return Integer.parseInt(header.toString());
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring malformed {} header: {}", RETRY_ATTEMPT_HEADER, header);
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isNonRetryable(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof AmqpRejectAndDontRequeueException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
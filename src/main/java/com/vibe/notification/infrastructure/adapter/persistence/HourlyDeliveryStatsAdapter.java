@@ -0,0 +1,184 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.DeliveryStatsKey;
+import com.vibe.notification.domain.model.HourlyDeliveryStats;
+import com.vibe.notification.domain.model.NotificationStatus;
+import com.vibe.notification.domain.port.DeliveryStatsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivery statistics adapter implementing DeliveryStatsPort with in-memory hourly counters
+ * and the notification_stats_hourly rollup table.
+ *
+ * Outcomes are counted per (hour, channel, slug, client) in LongAdders; flush() drains the
+ * counters and adds them to the rollup with one batched upsert. Every node flushes its own
+ * counts and the upsert adds to what is stored, so no coordination between nodes is needed.
+ * Counts of a failed flush are put back and written by the next one.
+ */
+@Component
+public class HourlyDeliveryStatsAdapter implements DeliveryStatsPort {
+    private static final Logger logger = LoggerFactory.getLogger(HourlyDeliveryStatsAdapter.class);
+    private static final String NO_CLIENT = "";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO notification_stats_hourly (bucket_start, channel, slug, client_id, sent_count, failed_count)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (bucket_start, channel, slug, client_id) DO UPDATE SET
+                sent_count = notification_stats_hourly.sent_count + EXCLUDED.sent_count,
+                failed_count = notification_stats_hourly.failed_count + EXCLUDED.failed_count
+            """;
+
+    private final ConcurrentHashMap<Bucket, Counts> counters = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter flushFailures;
+
+    public HourlyDeliveryStatsAdapter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushFailures = Counter.builder("notification.stats.flush.failures")
+                .description("Delivery statistics flushes that failed and were retried later")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordOutcome(DeliveryStatsKey key, NotificationStatus status, LocalDateTime completedAt) {
+        var counts = counters.computeIfAbsent(new Bucket(completedAt.truncatedTo(ChronoUnit.HOURS), key), b -> new Counts());
+        switch (status) {
+            case SUCCESS -> counts.sent.increment();
+            case FAILED -> counts.failed.increment();
+            default -> {
+                // PENDING is not an outcome
+            }
+        }
+    }
+
+    /**
+     * Counters of the current and previous hour are drained but kept, since outcomes are still
+     * being added to them; older ones are removed. sumThenReset never loses an increment: one
+     * that races with the drain is written by the next flush.
+     */
+    @Override
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            var keepFrom = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+            var drained = new ArrayList<Drained>();
+            for (var entry : counters.entrySet()) {
+                var bucket = entry.getKey();
+                var counts = bucket.hour().isBefore(keepFrom) ? counters.remove(bucket) : entry.getValue();
+                long sent = counts.sent.sumThenReset();
+                long failed = counts.failed.sumThenReset();
+                if (sent > 0 || failed > 0) {
+                    drained.add(new Drained(bucket, sent, failed));
+                }
+            }
+            if (drained.isEmpty()) {
+                return 0;
+            }
+            try {
+                write(drained);
+                return drained.size();
+            } catch (DataAccessException e) {
+                flushFailures.increment();
+                logger.warn("Flushing {} delivery statistics rows failed, retrying with the next flush: {}",
+                        drained.size(), e.getMessage());
+                drained.forEach(this::restore);
+                return 0;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Write what is left before the DataSource goes away
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Override
+    public List<HourlyDeliveryStats> findHourly(LocalDateTime from, LocalDateTime to, Channel channel, String slug, String clientId) {
+        var sql = new StringBuilder("""
+                SELECT bucket_start, channel, slug, client_id, sent_count, failed_count
+                FROM notification_stats_hourly
+                WHERE bucket_start >= ? AND bucket_start < ?""");
+        var args = new ArrayList<Object>(List.of(Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        if (channel != null) {
+            sql.append(" AND channel = ?");
+            args.add(channel.name());
+        }
+        if (slug != null) {
+            sql.append(" AND slug = ?");
+            args.add(slug);
+        }
+        if (clientId != null) {
+            sql.append(" AND client_id = ?");
+            args.add(clientId);
+        }
+        sql.append(" ORDER BY bucket_start, channel, slug, client_id");
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new HourlyDeliveryStats(
+                rs.getTimestamp("bucket_start").toLocalDateTime(),
+                Channel.from(rs.getString("channel")),
+                rs.getString("slug"),
+                NO_CLIENT.equals(rs.getString("client_id")) ? null : rs.getString("client_id"),
+                rs.getLong("sent_count"),
+                rs.getLong("failed_count")), args.toArray());
+    }
+
+    private void write(List<Drained> drained) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, drained, drained.size(), (ps, row) -> {
+            var key = row.bucket().key();
+            ps.setTimestamp(1, Timestamp.valueOf(row.bucket().hour()));
+            ps.setString(2, key.channel().name());
+            ps.setString(3, key.slug());
+            ps.setString(4, key.clientId() != null ? key.clientId() : NO_CLIENT);
+            ps.setLong(5, row.sent());
+            ps.setLong(6, row.failed());
+        });
+    }
+
+    private void restore(Drained row) {
+        var counts = counters.computeIfAbsent(row.bucket(), b -> new Counts());
+        counts.sent.add(row.sent());
+        counts.failed.add(row.failed());
+    }
+
+    /**
+     * Outcomes counted but not written yet, for tests and diagnostics
+     */
+    long pendingCount() {
+        return counters.values().stream().mapToLong(c -> c.sent.sum() + c.failed.sum()).sum();
+    }
+
+    private record Bucket(LocalDateTime hour, DeliveryStatsKey key) {
+    }
+
+    private record Drained(Bucket bucket, long sent, long failed) {
+    }
+
+    private static final class Counts {
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+}
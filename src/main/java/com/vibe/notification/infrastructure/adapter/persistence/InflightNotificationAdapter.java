@@ -0,0 +1,79 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.NotificationRequest;
+import com.vibe.notification.domain.model.TemplateVariables;
+import com.vibe.notification.domain.port.InflightNotificationPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Marker adapter implementing InflightNotificationPort with the unlogged notification_inflight
+ * table. Variables are stored as the request's JSON bytes, without parsing them.
+ */
+@Component
+public class InflightNotificationAdapter implements InflightNotificationPort {
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_inflight (log_id, trace_id, recipient, slug, language, channel, variables,
+                client_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String DELETE_SQL = "DELETE FROM notification_inflight WHERE log_id = ?";
+    private static final String FIND_SQL = """
+            SELECT log_id, trace_id, recipient, slug, language, channel, variables, client_id, created_at
+            FROM notification_inflight
+            WHERE created_at < ?
+            ORDER BY created_at
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<InflightNotification> rowMapper;
+
+    public InflightNotificationAdapter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowMapper = (rs, rowNum) -> new InflightNotification(
+                rs.getObject("log_id", UUID.class),
+                rs.getObject("trace_id", UUID.class),
+                new NotificationRequest(
+                        rs.getString("recipient"),
+                        rs.getString("slug"),
+                        rs.getString("language"),
+                        Channel.fromString(rs.getString("channel")),
+                        TemplateVariables.fromJson(rs.getBytes("variables"), objectMapper),
+                        rs.getString("client_id")),
+                rs.getTimestamp("created_at").toLocalDateTime());
+    }
+
+    @Override
+    public void add(InflightNotification notification) {
+        var request = notification.request();
+        jdbcTemplate.update(INSERT_SQL,
+                notification.logId(),
+                notification.traceId(),
+                request.recipient(),
+                request.slug(),
+                request.language(),
+                request.channel().name(),
+                request.variables().toJson(),
+                request.clientId(),
+                Timestamp.valueOf(notification.createdAt()));
+    }
+
+    @Override
+    public void remove(UUID logId) {
+        jdbcTemplate.update(DELETE_SQL, logId);
+    }
+
+    @Override
+    public List<InflightNotification> findCreatedBefore(LocalDateTime createdBefore, int limit) {
+        return jdbcTemplate.query(FIND_SQL, rowMapper, Timestamp.valueOf(createdBefore), limit);
+    }
+}
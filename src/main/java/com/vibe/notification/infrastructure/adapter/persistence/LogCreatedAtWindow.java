@@ -0,0 +1,38 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * The created_at range a notification log with a given id can be in, for statements that only
+ * know the id. notification_logs is partitioned by created_at, so adding
+ * {@code created_at BETWEEN ? AND ?} lets PostgreSQL prune every partition outside the range.
+ *
+ * UUIDv7 log ids carry the millisecond they were generated at, and created_at is taken from the
+ * local clock right before or after. The window allows a day either way, which absorbs time zone
+ * changes and batches that share one created_at, and still covers at most two monthly partitions.
+ * Other ids (random UUIDs, ids from before UUIDv7) carry no time and get an unbounded window.
+ */
+record LogCreatedAtWindow(Timestamp from, Timestamp to) {
+    static final Duration TOLERANCE = Duration.ofDays(1);
+
+    private static final int VERSION_7 = 7;
+    private static final LogCreatedAtWindow UNBOUNDED = new LogCreatedAtWindow(
+            Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)),
+            Timestamp.valueOf(LocalDateTime.of(9999, 12, 31, 0, 0)));
+
+    static LogCreatedAtWindow of(UUID id) {
+        if (id.version() != VERSION_7) {
+            return UNBOUNDED;
+        }
+        var generatedAt = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16), ZoneId.systemDefault());
+        return new LogCreatedAtWindow(
+                Timestamp.valueOf(generatedAt.minus(TOLERANCE)),
+                Timestamp.valueOf(generatedAt.plus(TOLERANCE)));
+    }
+}
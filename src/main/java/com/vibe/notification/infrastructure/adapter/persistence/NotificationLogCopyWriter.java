@@ -0,0 +1,110 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Streams new notification logs into notification_logs with COPY ... FROM STDIN (CSV).
+ *
+ * Rows are encoded straight into the COPY stream, so memory use does not grow with the number
+ * of rows, and the server parses and inserts them without per-row statement overhead. COPY is a
+ * single statement: if it fails, no row of the batch is inserted.
+ */
+class NotificationLogCopyWriter {
+    static final String COPY_SQL = """
+            COPY notification_logs (id, trace_id, recipient, slug, language, channel, variables,
+                status, error_message, sent_at, client_id, next_attempt_at, attempt_count, created_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private NotificationLogCopyWriter() {
+    }
+
+    /**
+     * @return the number of rows inserted
+     * @throws SQLException if the connection is not a PostgreSQL connection or COPY fails
+     */
+    static long copy(Connection connection, List<NotificationLogDTO> logs) throws SQLException {
+        var pgConnection = connection.unwrap(PGConnection.class);
+        var copyStream = new PGCopyOutputStream(pgConnection, COPY_SQL, BUFFER_SIZE);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            var now = LocalDateTime.now();
+            for (var log : logs) {
+                appendRow(writer, log, now);
+            }
+            writer.flush();
+            return copyStream.endCopy();
+        } catch (IOException | SQLException | RuntimeException e) {
+            if (copyStream.isActive()) {
+                copyStream.cancelCopy();
+            }
+            throw e instanceof SQLException sqlException ? sqlException : new SQLException("COPY into notification_logs failed", e);
+        }
+    }
+
+    /**
+     * One CSV line. Non-null values are always quoted, so an unquoted empty field is NULL and
+     * a quoted empty field is an empty string, as COPY expects.
+     */
+    static void appendRow(Writer writer, NotificationLogDTO log, LocalDateTime now) throws IOException {
+        field(writer, log.getId());
+        separator(writer);
+        field(writer, log.getTraceId());
+        separator(writer);
+        field(writer, log.getRecipient());
+        separator(writer);
+        field(writer, log.getSlug());
+        separator(writer);
+        field(writer, log.getLanguage());
+        separator(writer);
+        field(writer, log.getChannel());
+        separator(writer);
+        field(writer, log.getVariables());
+        separator(writer);
+        field(writer, log.getStatus());
+        separator(writer);
+        field(writer, log.getErrorMessage());
+        separator(writer);
+        field(writer, log.getSentAt());
+        separator(writer);
+        field(writer, log.getClientId());
+        separator(writer);
+        field(writer, log.getNextAttemptAt());
+        separator(writer);
+        field(writer, log.getAttemptCount());
+        separator(writer);
+        field(writer, log.getCreatedAt() != null ? log.getCreatedAt() : now);
+        writer.write('\n');
+    }
+
+    private static void separator(Writer writer) throws IOException {
+        writer.write(',');
+    }
+
+    private static void field(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        var text = value.toString();
+        writer.write('"');
+        if (text.indexOf('"') < 0) {
+            writer.write(text);
+        } else {
+            writer.write(text.replace("\"", "\"\""));
+        }
+        writer.write('"');
+    }
+}
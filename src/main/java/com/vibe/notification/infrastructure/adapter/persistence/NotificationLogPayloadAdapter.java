@@ -0,0 +1,115 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.domain.port.LogPayloadPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Payload adapter implementing LogPayloadPort with the notification_log_payloads table.
+ * Variables are stored gzip-compressed; JSON of repetitive template variables typically
+ * shrinks several times.
+ */
+@Component
+public class NotificationLogPayloadAdapter implements LogPayloadPort {
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_log_payloads (log_id, log_created_at, kind, variables_gzip)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (log_id, kind) DO NOTHING
+            """;
+    private static final String FIND_SQL =
+            "SELECT variables_gzip FROM notification_log_payloads WHERE log_id = ? AND kind <> 'MASKED'";
+
+    /**
+     * The log lookup matches (id, created_at), so it is pruned to one partition of notification_logs.
+     * A MASKED payload of the same log stays.
+     */
+    private static final String PURGE_SQL = """
+            DELETE FROM notification_log_payloads
+            WHERE kind = 'DELIVERY_COPY' AND log_id IN (
+                SELECT p.log_id FROM notification_log_payloads p
+                WHERE p.kind = 'DELIVERY_COPY' AND p.created_at < ?
+                  AND NOT EXISTS (
+                      SELECT 1 FROM notification_logs l
+                      WHERE l.id = p.log_id AND l.created_at = p.log_created_at AND l.status = 'PENDING')
+                ORDER BY p.created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            """;
+
+    /**
+     * Same pruned log lookup as PURGE_SQL; rows are found through idx_log_payloads_log_created_at
+     */
+    private static final String DELETE_ORPHANED_SQL = """
+            DELETE FROM notification_log_payloads
+            WHERE log_id IN (
+                SELECT p.log_id FROM notification_log_payloads p
+                WHERE p.log_created_at < ?
+                  AND NOT EXISTS (
+                      SELECT 1 FROM notification_logs l
+                      WHERE l.id = p.log_id AND l.created_at = p.log_created_at)
+                ORDER BY p.log_created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationLogPayloadAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void storeAll(List<Payload> payloads) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, payloads, payloads.size(), (ps, payload) -> {
+            ps.setObject(1, payload.logId());
+            ps.setTimestamp(2, Timestamp.valueOf(payload.logCreatedAt()));
+            ps.setString(3, payload.kind().name());
+            ps.setBytes(4, gzip(payload.json()));
+        });
+    }
+
+    @Override
+    public Optional<byte[]> find(UUID logId) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> gunzip(rs.getBytes(1)), logId).stream().findFirst();
+    }
+
+    @Override
+    public int purgeDeliveryCopies(LocalDateTime createdBefore, int batchSize) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(createdBefore), batchSize);
+    }
+
+    @Override
+    public int deleteOrphaned(LocalDateTime logsCreatedBefore, int batchSize) {
+        return jdbcTemplate.update(DELETE_ORPHANED_SQL, Timestamp.valueOf(logsCreatedBefore), batchSize);
+    }
+
+    static byte[] gzip(byte[] data) {
+        var buffer = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (var out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static byte[] gunzip(byte[] data) {
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,41 +1,350 @@
 package com.vibe.notification.infrastructure.adapter.persistence;
 
 import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.NotificationLogSearch;
 import com.vibe.notification.domain.port.NotificationLogPort;
 import com.vibe.notification.infrastructure.adapter.mapper.NotificationLogMapper;
+import com.vibe.notification.infrastructure.adapter.persistence.StatusWriteBehindBuffer.StatusTransition;
 import com.vibe.notification.infrastructure.persistence.entity.NotificationLogEntity;
 import com.vibe.notification.infrastructure.persistence.repository.NotificationLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Persistence adapter implementing NotificationLogPort
  * Maps between domain DTOs and infrastructure entities
+ *
+ * With app.status-write-behind.enabled=true final status transitions are queued in a
+ * StatusWriteBehindBuffer and written in JDBC batches. Reads through this adapter see queued
+ * transitions immediately; other nodes see them after at most flush-interval, which must stay
+ * well below the outbox lease and the stale-PENDING threshold. The outcome of a queued
+ * transition is reported only after the flush, so status events and statistics lag by up to
+ * flush-interval.
+ *
+ * insertAll streams batches of at least app.bulk-insert.copy-threshold logs with COPY and
+ * falls back to batched INSERTs if COPY is unavailable or fails.
+ *
+ * The primary key is (id, created_at) because the table is partitioned by created_at, so the
+ * database does not keep ids unique across partitions. Ids come from the IdGenerator and do not
+ * collide in practice; insertIfAbsent, the only path that inserts a known id again, checks the
+ * id on its own. Statements that only know the id bound created_at with a LogCreatedAtWindow
+ * so they touch the partitions the log can be in instead of all of them.
  */
 @Component
 public class NotificationLogPersistenceAdapter implements NotificationLogPort {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationLogPersistenceAdapter.class);
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_logs (id, trace_id, recipient, slug, language, channel, variables,
+                status, error_message, sent_at, client_id, next_attempt_at, attempt_count, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, CAST(? AS JSONB), ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_IF_ABSENT_SQL = INSERT_SQL + "ON CONFLICT (id, created_at) DO NOTHING";
+    private static final String EXISTS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM notification_logs WHERE id = ? AND created_at BETWEEN ? AND ?)";
+    private static final String COMPLETE_SQL = """
+            UPDATE notification_logs SET status = ?, error_message = ?, sent_at = ?
+            WHERE id = ? AND created_at BETWEEN ? AND ? AND status = 'PENDING'
+            """;
+    private static final String RESCHEDULE_SQL = """
+            UPDATE notification_logs SET error_message = ?, next_attempt_at = ?, attempt_count = attempt_count + 1
+            WHERE id = ? AND created_at BETWEEN ? AND ? AND status = 'PENDING' AND attempt_count = ?
+            """;
+    private static final String RENEW_LEASE_SQL = """
+            UPDATE notification_logs SET next_attempt_at = ?
+            WHERE id = ANY(?) AND created_at BETWEEN ? AND ? AND status = 'PENDING' AND next_attempt_at = ?
+            RETURNING id
+            """;
+
     private final NotificationLogRepository repository;
     private final NotificationLogMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter lostTransitions;
+    private final Counter copyFallbacks;
+    private final StatusWriteBehindBuffer writeBehind;
+    private final int copyThreshold;
 
     public NotificationLogPersistenceAdapter(
             NotificationLogRepository repository,
-            NotificationLogMapper mapper) {
+            NotificationLogMapper mapper,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.status-write-behind.enabled:false}") boolean writeBehindEnabled,
+            @Value("${app.status-write-behind.batch-size:500}") int writeBehindBatchSize,
+            @Value("${app.status-write-behind.flush-interval:200ms}") Duration writeBehindFlushInterval,
+            @Value("${app.status-write-behind.capacity:10000}") int writeBehindCapacity,
+            @Value("${app.bulk-insert.copy-threshold:100}") int copyThreshold) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lostTransitions = Counter.builder("notification.status.write-behind.lost")
+                .description("Batched status transitions not applied because the log was no longer PENDING")
+                .register(meterRegistry);
+        this.copyFallbacks = Counter.builder("notification.logs.copy.fallback")
+                .description("Bulk log inserts that fell back from COPY to batched INSERTs")
+                .register(meterRegistry);
+        this.copyThreshold = copyThreshold;
+        this.writeBehind = writeBehindEnabled
+                ? new StatusWriteBehindBuffer(this::writeTransitions, meterRegistry,
+                        writeBehindBatchSize, writeBehindFlushInterval, writeBehindCapacity)
+                : null;
+    }
+
+    /**
+     * Write all queued status transitions before the DataSource goes away
+     */
+    @PreDestroy
+    public void flushWriteBehind() {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
     }
 
+    /**
+     * The mapped entity is new (see NotificationLogEntity#isNew), so save() persists without a SELECT
+     */
     @Override
-    public NotificationLogDTO save(NotificationLogDTO dto) {
+    public NotificationLogDTO insert(NotificationLogDTO dto) {
         NotificationLogEntity entity = mapper.dtoToEntity(dto);
         NotificationLogEntity saved = repository.save(entity);
         return mapper.entityToDto(saved);
     }
 
+    @Override
+    public void insertAll(List<NotificationLogDTO> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        if (copyThreshold > 0 && logs.size() >= copyThreshold) {
+            try {
+                jdbcTemplate.execute((ConnectionCallback<Long>) connection -> NotificationLogCopyWriter.copy(connection, logs));
+                return;
+            } catch (DataAccessException e) {
+                // COPY is all-or-nothing, so nothing of this batch was inserted
+                copyFallbacks.increment();
+                logger.warn("COPY of {} notification logs failed, falling back to batched INSERTs: {}", logs.size(), e.getMessage());
+            }
+        }
+        batchInsert(logs);
+    }
+
+    /**
+     * Plain JDBC batch: JPA would issue a SELECT per row for the assigned UUID ids
+     */
+    private void batchInsert(List<NotificationLogDTO> logs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, logs, logs.size(), NotificationLogPersistenceAdapter::setInsertParameters);
+    }
+
+    /**
+     * ON CONFLICT only sees a log with the same created_at, so a log with the same id under
+     * another created_at is looked for first
+     */
+    @Override
+    public boolean insertIfAbsent(NotificationLogDTO log) {
+        var window = LogCreatedAtWindow.of(log.getId());
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, log.getId(), window.from(), window.to()))) {
+            return false;
+        }
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, ps -> setInsertParameters(ps, log)) > 0;
+    }
+
+    private static void setInsertParameters(PreparedStatement ps, NotificationLogDTO log) throws SQLException {
+        ps.setObject(1, log.getId());
+        ps.setObject(2, log.getTraceId());
+        ps.setString(3, log.getRecipient());
+        ps.setString(4, log.getSlug());
+        ps.setString(5, log.getLanguage());
+        ps.setString(6, log.getChannel());
+        ps.setString(7, log.getVariables() != null ? log.getVariables().toString() : null);
+        ps.setString(8, log.getStatus());
+        ps.setString(9, log.getErrorMessage());
+        ps.setTimestamp(10, toTimestamp(log.getSentAt()));
+        ps.setString(11, log.getClientId());
+        ps.setTimestamp(12, toTimestamp(log.getNextAttemptAt()));
+        ps.setInt(13, log.getAttemptCount());
+        ps.setTimestamp(14, toTimestamp(log.getCreatedAt() != null ? log.getCreatedAt() : LocalDateTime.now()));
+    }
+
     @Override
     public Optional<NotificationLogDTO> findById(UUID id) {
-        return repository.findById(id)
-                .map(mapper::entityToDto);
+        var window = LogCreatedAtWindow.of(id);
+        return repository.findByIdCreatedBetween(id, window.from().toLocalDateTime(), window.to().toLocalDateTime())
+                .map(mapper::entityToDto)
+                .map(this::withQueuedTransition);
+    }
+
+    @Override
+    public List<NotificationLogDTO> findByTraceIds(Collection<UUID> traceIds) {
+        if (traceIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findByTraceIdIn(traceIds).stream()
+                .map(mapper::entityToDto)
+                .map(this::withQueuedTransition)
+                .toList();
+    }
+
+    /**
+     * Equality filters plus a row comparison on (created_at, id), ordered to match the
+     * (filter, created_at, id) indexes from V7: every page is a bounded index range scan,
+     * however deep the client pages
+     */
+    @Override
+    public List<NotificationLogDTO> search(NotificationLogSearch search) {
+        var sql = new StringBuilder(NotificationLogQueries.SUMMARY_COLUMNS);
+        var args = new ArrayList<Object>();
+        NotificationLogQueries.appendFilters(sql, args, search);
+        if (search.after() != null) {
+            sql.append(" AND (created_at, id) < (?, ?)");
+            args.add(toTimestamp(search.after().createdAt()));
+            args.add(search.after().id());
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(search.limit());
+        return jdbcTemplate.query(sql.toString(), NotificationLogQueries.SUMMARY_ROW_MAPPER, args.toArray()).stream()
+                .map(this::withQueuedTransition)
+                .toList();
+    }
+
+    /**
+     * With write-behind the transition is queued and the result completes on the flusher thread
+     * once the batch is written; a transition that turns out to be lost completes with false
+     */
+    @Override
+    public CompletableFuture<Boolean> completeIfPending(UUID id, String status, String errorMessage, LocalDateTime completedAt) {
+        if (writeBehind != null) {
+            if (writeBehind.isUnflushed(id)) {
+                return CompletableFuture.completedFuture(false);
+            }
+            var transition = new StatusTransition(id, status, errorMessage, completedAt);
+            if (writeBehind.offer(transition)) {
+                return transition.applied();
+            }
+        }
+        var window = LogCreatedAtWindow.of(id);
+        return CompletableFuture.completedFuture(jdbcTemplate.update(COMPLETE_SQL,
+                status, errorMessage, toTimestamp(completedAt), id, window.from(), window.to()) > 0);
+    }
+
+    @Override
+    public boolean rescheduleIfPending(UUID id, int expectedAttemptCount, String errorMessage, LocalDateTime nextAttemptAt) {
+        if (writeBehind != null && writeBehind.isUnflushed(id)) {
+            return false;
+        }
+        var window = LogCreatedAtWindow.of(id);
+        return jdbcTemplate.update(RESCHEDULE_SQL,
+                errorMessage, toTimestamp(nextAttemptAt), id, window.from(), window.to(), expectedAttemptCount) > 0;
+    }
+
+    @Override
+    public List<NotificationLogDTO> claimPending(int batchSize, Duration lease) {
+        var now = LocalDateTime.now();
+        return repository.claimDuePending(now, now.plus(lease), batchSize).stream()
+                .map(mapper::entityToDto)
+                .filter(this::isStillPending)
+                .toList();
+    }
+
+    /**
+     * The created_at bounds of the batch let PostgreSQL prune partitions the logs cannot be in
+     */
+    @Override
+    public Set<UUID> renewLease(Collection<NotificationLogDTO> logs, LocalDateTime leasedUntil, LocalDateTime renewedUntil) {
+        if (logs.isEmpty()) {
+            return Set.of();
+        }
+        var ids = logs.stream().map(NotificationLogDTO::getId).toArray(UUID[]::new);
+        var oldest = logs.stream().map(NotificationLogDTO::getCreatedAt).min(LocalDateTime::compareTo).orElseThrow();
+        var newest = logs.stream().map(NotificationLogDTO::getCreatedAt).max(LocalDateTime::compareTo).orElseThrow();
+        Set<UUID> renewed = new HashSet<>();
+        jdbcTemplate.query(
+                con -> {
+                    var ps = con.prepareStatement(RENEW_LEASE_SQL);
+                    ps.setTimestamp(1, toTimestamp(renewedUntil));
+                    ps.setArray(2, con.createArrayOf("uuid", ids));
+                    ps.setTimestamp(3, toTimestamp(oldest));
+                    ps.setTimestamp(4, toTimestamp(newest));
+                    ps.setTimestamp(5, toTimestamp(leasedUntil));
+                    return ps;
+                },
+                rs -> {
+                    renewed.add(rs.getObject(1, UUID.class));
+                });
+        return renewed;
+    }
+
+    @Override
+    public List<NotificationLogDTO> claimStalePending(Duration staleAfter, int batchSize, Duration lease) {
+        var now = LocalDateTime.now();
+        return repository.claimStalePending(now.minus(staleAfter), now, now.plus(lease), batchSize).stream()
+                .map(mapper::entityToDto)
+                .filter(this::isStillPending)
+                .toList();
+    }
+
+    @Override
+    public List<NotificationLogDTO> claimDueRetries(int batchSize, Duration lease) {
+        var now = LocalDateTime.now();
+        return repository.claimDueRetries(now, now.plus(lease), batchSize).stream()
+                .map(mapper::entityToDto)
+                .filter(this::isStillPending)
+                .toList();
+    }
+
+    private int[] writeTransitions(List<StatusTransition> transitions) {
+        int[] counts = jdbcTemplate.batchUpdate(COMPLETE_SQL, transitions, transitions.size(), (ps, transition) -> {
+            ps.setString(1, transition.status());
+            ps.setString(2, transition.errorMessage());
+            ps.setTimestamp(3, toTimestamp(transition.completedAt()));
+            var window = LogCreatedAtWindow.of(transition.id());
+            ps.setObject(4, transition.id());
+            ps.setTimestamp(5, window.from());
+            ps.setTimestamp(6, window.to());
+        })[0];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                lostTransitions.increment();
+                logger.warn("Batched status transition to {} not applied, log is not PENDING: logId={}",
+                        transitions.get(i).status(), transitions.get(i).id());
+            }
+        }
+        return counts;
+    }
+
+    private NotificationLogDTO withQueuedTransition(NotificationLogDTO log) {
+        return writeBehind != null ? writeBehind.overlay(log) : log;
+    }
+
+    /**
+     * Claimed rows whose final status is still queued are left alone; their lease runs out
+     * only after the transition has been written
+     */
+    private boolean isStillPending(NotificationLogDTO log) {
+        return writeBehind == null || !writeBehind.isUnflushed(log.getId());
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
     }
 }
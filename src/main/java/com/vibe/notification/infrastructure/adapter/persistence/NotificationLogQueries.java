@@ -0,0 +1,72 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.NotificationLogSearch;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SQL shared by the notification log search and export: the column list without variables,
+ * its row mapper, and the filter conditions of a NotificationLogSearch
+ */
+final class NotificationLogQueries {
+    static final String SUMMARY_COLUMNS = """
+            SELECT id, trace_id, recipient, slug, language, channel, status, error_message, sent_at,
+                client_id, next_attempt_at, attempt_count, created_at
+            FROM notification_logs
+            """;
+
+    static final RowMapper<NotificationLogDTO> SUMMARY_ROW_MAPPER = (rs, rowNum) -> new NotificationLogDTO(
+            rs.getObject("id", UUID.class),
+            rs.getObject("trace_id", UUID.class),
+            rs.getString("slug"),
+            rs.getString("language"),
+            rs.getString("channel"),
+            rs.getString("recipient"),
+            null,
+            rs.getString("status"),
+            rs.getString("error_message"),
+            toLocalDateTime(rs.getTimestamp("sent_at")),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            rs.getString("client_id"),
+            toLocalDateTime(rs.getTimestamp("next_attempt_at")),
+            rs.getInt("attempt_count"));
+
+    private NotificationLogQueries() {
+    }
+
+    /**
+     * Append " WHERE TRUE AND ..." with one condition per filter that is set; the cursor and
+     * limit of the search are left to the caller
+     */
+    static void appendFilters(StringBuilder sql, List<Object> args, NotificationLogSearch search) {
+        sql.append("WHERE TRUE");
+        appendFilter(sql, args, "recipient = ?", search.recipient());
+        appendFilter(sql, args, "slug = ?", search.slug());
+        appendFilter(sql, args, "status = ?", search.status() != null ? search.status().name() : null);
+        appendFilter(sql, args, "channel = ?", search.channel() != null ? search.channel().name() : null);
+        appendFilter(sql, args, "client_id = ?", search.clientId());
+        appendFilter(sql, args, "created_at >= ?", toTimestamp(search.from()));
+        appendFilter(sql, args, "created_at < ?", toTimestamp(search.to()));
+    }
+
+    static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static void appendFilter(StringBuilder sql, List<Object> args, String condition, Object value) {
+        if (value != null) {
+            sql.append(" AND ").append(condition);
+            args.add(value);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
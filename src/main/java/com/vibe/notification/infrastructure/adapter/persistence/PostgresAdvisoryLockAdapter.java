@@ -0,0 +1,62 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Cluster lock adapter implementing ClusterLockPort with PostgreSQL session advisory locks.
+ * The lock is held on a dedicated connection for the duration of the task, so the task's own
+ * queries run in ordinary short transactions. If the node dies the connection drops and
+ * PostgreSQL releases the lock.
+ */
+@Component
+public class PostgresAdvisoryLockAdapter implements ClusterLockPort {
+    private static final Logger logger = LoggerFactory.getLogger(PostgresAdvisoryLockAdapter.class);
+
+    private final DataSource dataSource;
+
+    public PostgresAdvisoryLockAdapter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public <T> Optional<T> runExclusively(String lockName, Supplier<T> task) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!tryLock(connection, lockName)) {
+                logger.debug("Lock {} is held by another node, skipping", lockName);
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(task.get());
+            } finally {
+                unlock(connection, lockName);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to use advisory lock " + lockName, e);
+        }
+    }
+
+    private boolean tryLock(Connection connection, String lockName) throws SQLException {
+        try (var statement = connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")) {
+            statement.setString(1, lockName);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection, String lockName) throws SQLException {
+        try (var statement = connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))")) {
+            statement.setString(1, lockName);
+            statement.execute();
+        }
+    }
+}
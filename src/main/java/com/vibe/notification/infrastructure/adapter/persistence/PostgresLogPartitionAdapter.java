@@ -0,0 +1,184 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.application.port.LogPartitionPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Log partition adapter implementing LogPartitionPort with PostgreSQL declarative partitioning.
+ * Partitions are named notification_logs_pYYYYMM and cover [first day of month, first day of
+ * next month). Partitions with other names (such as notification_logs_default) are left alone.
+ *
+ * Attaching or detaching a partition locks notification_logs. A lock request that waits queues
+ * every later insert behind it, so a long-running read such as a log export would stall all
+ * writes. Every statement therefore runs with app.log-partitions.lock-timeout and fails instead
+ * of waiting longer; the maintainer tries again on its next pass.
+ *
+ * Partitions are retired with DETACH PARTITION CONCURRENTLY, which only blocks other DDL, and
+ * then dropped on their own. PostgreSQL refuses the concurrent form while a default partition
+ * exists; the plain DETACH is used then. A concurrent detach interrupted after its first step
+ * leaves the partition pending and is finished with DETACH PARTITION FINALIZE.
+ */
+@Component
+public class PostgresLogPartitionAdapter implements LogPartitionPort {
+    static final String TABLE = "notification_logs";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile(TABLE + "_p(\\d{6})");
+
+    private static final String IS_PARTITIONED_SQL =
+        "SELECT EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass(?) AND relkind = 'p')";
+
+    /**
+     * Attached partitions, and monthly tables left detached by a pass that failed before DROP
+     */
+    private static final String PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_class c
+        JOIN pg_class parent ON parent.oid = to_regclass(?) AND parent.relnamespace = c.relnamespace
+        LEFT JOIN pg_inherits i ON i.inhrelid = c.oid
+        WHERE c.relkind = 'r'
+          AND (i.inhparent = parent.oid OR (i.inhrelid IS NULL AND NOT c.relispartition))
+        """;
+
+    /**
+     * No row when the table has no default partition
+     */
+    private static final String DEFAULT_PARTITION_SQL =
+        "SELECT partdefid::regclass::text FROM pg_partitioned_table WHERE partrelid = to_regclass(?) AND partdefid <> 0";
+
+    /**
+     * Null when the table is not a partition of notification_logs (any more)
+     */
+    private static final String DETACH_PENDING_SQL =
+        "SELECT inhdetachpending FROM pg_inherits WHERE inhrelid = to_regclass(?) AND inhparent = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String lockTimeout;
+
+    public PostgresLogPartitionAdapter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.log-partitions.lock-timeout:3s}") Duration lockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockTimeout = "'" + Math.max(1, lockTimeout.toMillis()) + "ms'";
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, TABLE));
+    }
+
+    @Override
+    public List<YearMonth> monthlyPartitions() {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, TABLE).stream()
+            .map(PostgresLogPartitionAdapter::monthOf)
+            .filter(Objects::nonNull)
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * PostgreSQL refuses to create a partition whose range the default partition already holds
+     * rows of. Those rows are moved in the same transaction: the default partition is detached,
+     * the month is created, its rows are copied over and deleted from the default partition,
+     * which is then attached again. Writes wait for the lock meanwhile, so this is only meant
+     * for the few rows that land there while a partition is missing.
+     */
+    @Override
+    public long createMonthlyPartition(YearMonth month) {
+        // Identifiers and bounds are derived from the YearMonth and the catalog only, never from input text
+        var partition = partitionName(month);
+        var from = "'" + month.atDay(1) + "'";
+        var to = "'" + month.plusMonths(1).atDay(1) + "'";
+        var create = "CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + TABLE
+            + " FOR VALUES FROM (" + from + ") TO (" + to + ")";
+        return transactionTemplate.execute(status -> {
+            setLocalLockTimeout();
+            var defaultPartition = defaultPartition();
+            var inMonth = " WHERE created_at >= " + from + " AND created_at < " + to;
+            if (defaultPartition == null || !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + defaultPartition + inMonth + ")", Boolean.class))) {
+                jdbcTemplate.execute(create);
+                return 0L;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + defaultPartition);
+            jdbcTemplate.execute(create);
+            long moved = jdbcTemplate.update("INSERT INTO " + partition + " SELECT * FROM " + defaultPartition + inMonth);
+            jdbcTemplate.update("DELETE FROM " + defaultPartition + inMonth);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + defaultPartition + " DEFAULT");
+            return moved;
+        });
+    }
+
+    @Override
+    public void dropMonthlyPartition(YearMonth month) {
+        var partition = partitionName(month);
+        Boolean detachPending = jdbcTemplate.query(DETACH_PENDING_SQL,
+            rs -> rs.next() ? rs.getBoolean(1) : null, partition, TABLE);
+        if (Boolean.TRUE.equals(detachPending)) {
+            detachOutsideTransaction("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition + " FINALIZE");
+        } else if (detachPending != null) {
+            if (defaultPartition() != null) {
+                executeWithLockTimeout("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+            } else {
+                detachOutsideTransaction("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition + " CONCURRENTLY");
+            }
+        }
+        executeWithLockTimeout("DROP TABLE IF EXISTS " + partition);
+    }
+
+    private String defaultPartition() {
+        return jdbcTemplate.query(DEFAULT_PARTITION_SQL, rs -> rs.next() ? rs.getString(1) : null, TABLE);
+    }
+
+    private void executeWithLockTimeout(String ddl) {
+        transactionTemplate.executeWithoutResult(status -> {
+            setLocalLockTimeout();
+            jdbcTemplate.execute(ddl);
+        });
+    }
+
+    private void setLocalLockTimeout() {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeout);
+    }
+
+    /**
+     * DETACH CONCURRENTLY and FINALIZE cannot run in a transaction block, so the timeout is set
+     * for the session and reset before the connection goes back to the pool
+     */
+    private void detachOutsideTransaction(String ddl) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (var statement = connection.createStatement()) {
+                statement.execute("SET lock_timeout = " + lockTimeout);
+                try {
+                    statement.execute(ddl);
+                } finally {
+                    statement.execute("RESET lock_timeout");
+                }
+            }
+            return null;
+        });
+    }
+
+    static String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX);
+    }
+
+    static YearMonth monthOf(String partitionName) {
+        var matcher = MONTHLY_PARTITION.matcher(partitionName);
+        return matcher.matches() ? YearMonth.parse(matcher.group(1), SUFFIX) : null;
+    }
+}
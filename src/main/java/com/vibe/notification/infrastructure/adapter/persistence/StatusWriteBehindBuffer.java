@@ -0,0 +1,254 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Write-behind stage for final status transitions of notification logs.
+ *
+ * Worker threads only append to a lock-free queue; a single flusher thread writes the queued
+ * transitions as JDBC batches, as soon as batch-size transitions are queued and at least every
+ * flush-interval, which caps how long a transition stays unflushed. Close flushes everything
+ * that is left.
+ *
+ * Queued transitions stay visible to readers on this node through {@link #overlay} until they
+ * are written. Each transition carries a future that the flusher completes once its batch is
+ * written, with whether the UPDATE applied, so callers act on the confirmed outcome only.
+ * When capacity transitions are already queued, offer refuses and the caller writes directly,
+ * so a slow database pushes back instead of growing the queue.
+ *
+ * A failed batch is retried on the next flushes. After MAX_BATCH_ATTEMPTS failures its
+ * transitions are written one by one, so a single row the database keeps rejecting cannot
+ * hold up every later transition; a transition that still fails completes exceptionally.
+ */
+class StatusWriteBehindBuffer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(StatusWriteBehindBuffer.class);
+    static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final Queue<StatusTransition> queue = new ConcurrentLinkedQueue<>();
+    private final Map<UUID, StatusTransition> unflushed = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Function<List<StatusTransition>, int[]> writer;
+    private final int batchSize;
+    private final int capacity;
+    private final ScheduledExecutorService flusher;
+    private final Counter failedTransitions;
+    // Only touched by the flusher thread, or by close once the flusher has stopped
+    private List<StatusTransition> failedBatch = List.of();
+    private int failedBatchAttempts;
+
+    /**
+     * @param writer writes a batch and returns the update count of each transition
+     */
+    StatusWriteBehindBuffer(
+            Function<List<StatusTransition>, int[]> writer,
+            MeterRegistry meterRegistry,
+            int batchSize,
+            Duration flushInterval,
+            int capacity) {
+        this.writer = writer;
+        this.batchSize = Math.max(1, batchSize);
+        this.capacity = Math.max(this.batchSize, capacity);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "status-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("notification.status.write-behind.queued", size, AtomicInteger::get)
+            .description("Status transitions waiting to be written to notification_logs")
+            .register(meterRegistry);
+        this.failedTransitions = Counter.builder("notification.status.write-behind.failed")
+            .description("Status transitions not written because the database rejected them, even on their own")
+            .register(meterRegistry);
+        long intervalMs = Math.max(1, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue a transition for the next flush
+     *
+     * @return false if the buffer is full and the caller has to write the transition itself
+     */
+    boolean offer(StatusTransition transition) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        unflushed.put(transition.id(), transition);
+        queue.add(transition);
+        if (size.get() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if a transition of this log is queued and not yet written
+     */
+    boolean isUnflushed(UUID logId) {
+        return unflushed.containsKey(logId);
+    }
+
+    /**
+     * The log as it will be once its queued transition is written
+     */
+    NotificationLogDTO overlay(NotificationLogDTO log) {
+        return Optional.ofNullable(unflushed.get(log.getId()))
+            .map(transition -> transition.applyTo(log))
+            .orElse(log);
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Stop the flusher and write everything that is still queued on the calling thread
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Status write-behind flusher did not stop in time");
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+        if (size.get() > 0) {
+            logger.error("{} status transitions could not be written on shutdown", size.get());
+            var notWritten = new IllegalStateException("Status write-behind closed before the transition was written");
+            failedBatch.forEach(transition -> transition.applied().completeExceptionally(notWritten));
+            queue.forEach(transition -> transition.applied().completeExceptionally(notWritten));
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("Status write-behind flush failed, {} transitions kept for the next flush: {}",
+                size.get(), e.getMessage(), e);
+        }
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        List<StatusTransition> batch;
+        while (!(batch = nextBatch()).isEmpty()) {
+            failedBatch = batch;
+            if (failedBatchAttempts < MAX_BATCH_ATTEMPTS) {
+                failedBatchAttempts++;
+                int[] counts = writer.apply(batch);
+                release(batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).applied().complete(isApplied(counts[i]));
+                }
+            } else {
+                logger.warn("Status write-behind batch failed {} times, writing its {} transitions one by one",
+                    failedBatchAttempts, batch.size());
+                batch.forEach(this::writeAlone);
+            }
+            failedBatch = List.of();
+            failedBatchAttempts = 0;
+        }
+    }
+
+    private void writeAlone(StatusTransition transition) {
+        try {
+            int[] counts = writer.apply(List.of(transition));
+            release(List.of(transition));
+            transition.applied().complete(isApplied(counts[0]));
+        } catch (RuntimeException e) {
+            release(List.of(transition));
+            failedTransitions.increment();
+            logger.error("Status transition to {} could not be written, dropping it: logId={}, error={}",
+                transition.status(), transition.id(), e.getMessage());
+            transition.applied().completeExceptionally(e);
+        }
+    }
+
+    private void release(List<StatusTransition> written) {
+        for (var transition : written) {
+            unflushed.remove(transition.id(), transition);
+        }
+        size.addAndGet(-written.size());
+    }
+
+    /**
+     * SUCCESS_NO_INFO (-2) means the driver did not report a count, not that nothing changed
+     */
+    private static boolean isApplied(int updateCount) {
+        return updateCount != 0;
+    }
+
+    private List<StatusTransition> nextBatch() {
+        if (!failedBatch.isEmpty()) {
+            return failedBatch;
+        }
+        var batch = new ArrayList<StatusTransition>(Math.min(batchSize, size.get()));
+        StatusTransition transition;
+        while (batch.size() < batchSize && (transition = queue.poll()) != null) {
+            batch.add(transition);
+        }
+        return batch;
+    }
+
+    /**
+     * A final status to be written to a PENDING log
+     *
+     * @param applied completed by the flusher with whether the UPDATE applied
+     */
+    record StatusTransition(UUID id, String status, String errorMessage, LocalDateTime completedAt,
+                            CompletableFuture<Boolean> applied) {
+
+        StatusTransition(UUID id, String status, String errorMessage, LocalDateTime completedAt) {
+            this(id, status, errorMessage, completedAt, new CompletableFuture<>());
+        }
+
+        NotificationLogDTO applyTo(NotificationLogDTO log) {
+            return new NotificationLogDTO(
+                log.getId(),
+                log.getTraceId(),
+                log.getSlug(),
+                log.getLanguage(),
+                log.getChannel(),
+                log.getRecipient(),
+                log.getVariables(),
+                status,
+                errorMessage,
+                completedAt,
+                log.getCreatedAt(),
+                completedAt,
+                log.getClientId(),
+                log.getNextAttemptAt(),
+                log.getAttemptCount()
+            );
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.vibe.notification.infrastructure.adapter.whatsapp;
 import com.vibe.notification.application.port.WhatsAppNotificationPort;
 import com.vibe.notification.domain.dto.TemplateDTO;
 import com.vibe.notification.domain.exception.NotificationException;
+import com.vibe.notification.domain.model.Channel;
 import com.vibe.notification.domain.model.TemplateType;
+import com.vibe.notification.infrastructure.adapter.admission.ProviderBulkhead;
 import com.vibe.notification.infrastructure.external.watzap.WatzapClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +20,11 @@ public class WhatsAppNotificationAdapter implements WhatsAppNotificationPort {
     private static final Logger logger = LoggerFactory.getLogger(WhatsAppNotificationAdapter.class);
 
     private final WatzapClient watzapClient;
+    private final ProviderBulkhead providerBulkhead;
 
-    public WhatsAppNotificationAdapter(WatzapClient watzapClient) {
+    public WhatsAppNotificationAdapter(WatzapClient watzapClient, ProviderBulkhead providerBulkhead) {
         this.watzapClient = watzapClient;
+        this.providerBulkhead = providerBulkhead;
     }
 
     /**
@@ -46,14 +50,14 @@ public class WhatsAppNotificationAdapter implements WhatsAppNotificationPort {
     }
 
     private void sendTextMessage(String phoneNumber, String message) {
-        var response = watzapClient.sendTextMessage(phoneNumber, message);
+        var response = providerBulkhead.execute(Channel.WHATSAPP, () -> watzapClient.sendTextMessage(phoneNumber, message));
         if (!response.isSuccess()) {
             throw new NotificationException("Failed to send text message: " + response.message());
         }
     }
 
     private void sendImageMessage(String phoneNumber, String imageUrl, String caption) {
-        var response = watzapClient.sendImageMessage(phoneNumber, imageUrl, caption);
+        var response = providerBulkhead.execute(Channel.WHATSAPP, () -> watzapClient.sendImageMessage(phoneNumber, imageUrl, caption));
         if (!response.isSuccess()) {
             throw new NotificationException("Failed to send image message: " + response.message());
         }
@@ -0,0 +1,57 @@
+package com.vibe.notification.infrastructure.config;
+
+import com.vibe.notification.infrastructure.config.observability.TraceContextTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Bounded executor for @Async notification processing.
+ *
+ * It is defined whether or not OpenTelemetry is enabled, so its queue bound and the admission
+ * control on it always apply; with app.feature.otel.enabled=true tasks also carry the trace
+ * context of the submitting thread.
+ */
+@Configuration
+public class AsyncExecutorConfig implements AsyncConfigurer {
+
+    @Value("${otel.async.core-pool-size:5}")
+    private int corePoolSize;
+
+    @Value("${otel.async.max-pool-size:10}")
+    private int maxPoolSize;
+
+    @Value("${otel.async.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.feature.otel.enabled:true}")
+    private boolean otelEnabled;
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return notificationTaskExecutor();
+    }
+
+    /**
+     * The @Async executor, exposed as a bean so admission control can inspect its queue depth
+     * and so it is shut down gracefully with the application context. It is not primary:
+     * spring.task.execution.mode=force keeps Boot's applicationTaskExecutor for everything
+     * else, such as MVC async requests, so inject this one by name.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notificationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("async-notification-");
+        if (otelEnabled) {
+            executor.setTaskDecorator(new TraceContextTaskDecorator());
+        }
+        return executor;
+    }
+}
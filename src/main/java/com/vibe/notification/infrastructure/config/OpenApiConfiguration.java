@@ -1,13 +1,16 @@
 package com.vibe.notification.infrastructure.config;
 
+import com.vibe.notification.domain.model.TemplateVariables;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.tags.Tag;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -21,6 +24,11 @@ import java.util.Arrays;
 @Configuration
 public class OpenApiConfiguration {
 
+    static {
+        // Template variables are a free-form JSON object on the wire
+        SpringDocUtils.getConfig().replaceWithSchema(TemplateVariables.class, new ObjectSchema());
+    }
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
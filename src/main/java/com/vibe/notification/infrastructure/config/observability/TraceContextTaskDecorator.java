@@ -0,0 +1,26 @@
+package com.vibe.notification.infrastructure.config.observability;
+
+import io.opentelemetry.context.Context;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * TaskDecorator that propagates OpenTelemetry context to async threads.
+ *
+ * The OpenTelemetry context is captured per-task from the calling thread using
+ * Context.current(), so each async task runs under the parent context it was
+ * submitted from.
+ */
+public class TraceContextTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        // Capture current context from the calling thread
+        Context currentContext = Context.current();
+
+        // Return wrapped runnable that restores context in the async thread
+        return () -> {
+            try (var ignored = currentContext.makeCurrent()) {
+                runnable.run();
+            }
+        };
+    }
+}
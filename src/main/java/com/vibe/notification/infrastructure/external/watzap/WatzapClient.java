@@ -1,18 +1,22 @@
 package com.vibe.notification.infrastructure.external.watzap;
 
 import com.vibe.notification.domain.exception.NotificationException;
+import com.vibe.notification.domain.exception.ProviderUnavailableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.util.retry.Retry;
+import reactor.core.Exceptions;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Watzap.id API client with timeout handling
@@ -70,7 +74,11 @@ public class WatzapClient {
     }
 
     /**
-     * Generic request sender with timeout and retry logic
+     * Generic request sender with timeout handling.
+     * Failures are classified instead of retried in-request: 5xx, 429, timeouts and connection
+     * or request errors are transient (ProviderUnavailableException) and rescheduled by the caller.
+     * Everything else is permanent, in particular a 2xx body that cannot be decoded: with
+     * wait_until_send the message has already gone out, and a retry would send it again.
      */
     private WatzapResponse sendRequest(String endpoint, Map<String, Object> requestBody) {
         try {
@@ -81,12 +89,21 @@ public class WatzapClient {
                     .retrieve()
                     .bodyToMono(WatzapResponse.class)
                     .timeout(Duration.ofMillis(watzapProperties.getTimeout().getReadMs()))
-                    .retryWhen(Retry.backoff(2, Duration.ofMillis(500)))
                     .block();
         } catch (WebClientResponseException e) {
-            throw new NotificationException(
-                    "Watzap API error: " + e.getStatusCode() + " " + e.getResponseBodyAsString(), e);
-        } catch (Exception e) {
+            // Also raised, with the 2xx status, when a successful response body cannot be decoded
+            var message = "Watzap API error: " + e.getStatusCode() + " " + e.getResponseBodyAsString();
+            if (e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                throw new ProviderUnavailableException(message, e);
+            }
+            throw new NotificationException(message, e);
+        } catch (WebClientRequestException e) {
+            throw new ProviderUnavailableException("Watzap API request failed: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            // block() wraps the checked TimeoutException of timeout()
+            if (Exceptions.unwrap(e) instanceof TimeoutException) {
+                throw new ProviderUnavailableException("Watzap API call timed out", e);
+            }
             throw new NotificationException("Watzap API call failed: " + e.getMessage(), e);
         }
     }
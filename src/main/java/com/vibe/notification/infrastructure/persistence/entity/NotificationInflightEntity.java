@@ -0,0 +1,58 @@
+package com.vibe.notification.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Marker of a sync notification in single-write mode (V10).
+ * Reads and writes go through SQL in InflightNotificationAdapter; the mapping keeps
+ * Hibernate-managed schemas in line with the migration (Hibernate creates it as a logged table).
+ */
+@Entity
+@Table(name = "notification_inflight", indexes = {
+    @Index(name = "idx_notification_inflight_created_at", columnList = "created_at")
+})
+public class NotificationInflightEntity {
+
+    @Id
+    @Column(name = "log_id")
+    private UUID logId;
+
+    @Column(name = "trace_id", nullable = false)
+    private UUID traceId;
+
+    @Column(name = "recipient", nullable = false, length = 100)
+    private String recipient;
+
+    @Column(name = "slug", nullable = false, length = 50)
+    private String slug;
+
+    @Column(name = "language", length = 5)
+    private String language;
+
+    @Column(name = "channel", nullable = false, length = 20)
+    private String channel;
+
+    @Column(name = "variables", nullable = false)
+    private byte[] variables;
+
+    @Column(name = "client_id", length = 100)
+    private String clientId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public UUID getLogId() {
+        return logId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
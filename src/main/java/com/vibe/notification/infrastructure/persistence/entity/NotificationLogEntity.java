@@ -1,7 +1,7 @@
 package com.vibe.notification.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -9,11 +9,13 @@ import java.util.UUID;
 @Entity
 @Table(name = "notification_logs", indexes = {
     @Index(name = "idx_logs_trace_id", columnList = "trace_id"),
-    @Index(name = "idx_logs_recipient", columnList = "recipient"),
-    @Index(name = "idx_logs_status", columnList = "status"),
-    @Index(name = "idx_logs_created_at", columnList = "created_at")
+    @Index(name = "idx_logs_recipient_created_at", columnList = "recipient, created_at, id"),
+    @Index(name = "idx_logs_slug_status_created_at", columnList = "slug, status, created_at, id"),
+    @Index(name = "idx_logs_client_created_at", columnList = "client_id, created_at, id"),
+    @Index(name = "idx_logs_status_created_at", columnList = "status, created_at, id"),
+    @Index(name = "idx_logs_created_at_id", columnList = "created_at, id")
 })
-public class NotificationLogEntity {
+public class NotificationLogEntity implements Persistable<UUID> {
     
     @Id
     @Column(name = "id")
@@ -28,6 +30,9 @@ public class NotificationLogEntity {
     @Column(name = "slug", nullable = false)
     private String slug;
 
+    @Column(name = "language", length = 5)
+    private String language;
+
     @Column(name = "channel", nullable = false)
     private String channel;
 
@@ -44,10 +49,25 @@ public class NotificationLogEntity {
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
 
-    @CreationTimestamp
+    @Column(name = "client_id", length = 100)
+    private String clientId;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "attempt_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int attemptCount;
+
+    // Assigned by the application: the side store keys payloads by (log_id, log_created_at), so the
+    // row must carry exactly the created_at the payload was stored with
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // ids are assigned by the application, so Spring Data cannot tell new rows from existing ones
+    // by the id alone; without this flag save() would merge and SELECT before every INSERT
+    @Transient
+    private boolean newEntity = true;
+
     // Constructors
     public NotificationLogEntity() {}
 
@@ -95,6 +115,14 @@ public class NotificationLogEntity {
         this.slug = slug;
     }
 
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
     public String getChannel() {
         return channel;
     }
@@ -135,7 +163,53 @@ public class NotificationLogEntity {
         this.sentAt = sentAt;
     }
 
+    public String getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(String clientId) {
+        this.clientId = clientId;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(int attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PrePersist
+    void defaultCreatedAt() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
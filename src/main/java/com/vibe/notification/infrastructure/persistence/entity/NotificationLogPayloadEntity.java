@@ -0,0 +1,48 @@
+package com.vibe.notification.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row of the notification log payload side store (V9).
+ * Reads and writes go through SQL in NotificationLogPayloadAdapter; the mapping keeps
+ * Hibernate-managed schemas in line with the migration.
+ */
+@Entity
+@Table(name = "notification_log_payloads", indexes = {
+    @Index(name = "idx_log_payloads_delivery_copies", columnList = "created_at"),
+    @Index(name = "idx_log_payloads_log_created_at", columnList = "log_created_at")
+})
+public class NotificationLogPayloadEntity {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "log_created_at", nullable = false)
+    private LocalDateTime logCreatedAt;
+
+    @Column(name = "variables_gzip", nullable = false)
+    private byte[] variablesGzip;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public Key getId() {
+        return id;
+    }
+
+    @Embeddable
+    public record Key(
+        @Column(name = "log_id") UUID logId,
+        @Column(name = "kind", nullable = false, length = 20) String kind
+    ) implements Serializable {
+    }
+}
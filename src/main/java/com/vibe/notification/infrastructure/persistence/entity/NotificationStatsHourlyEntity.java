@@ -0,0 +1,50 @@
+package com.vibe.notification.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the hourly delivery statistics rollup (V8).
+ * Reads and upserts go through SQL in HourlyDeliveryStatsAdapter; the mapping keeps
+ * Hibernate-managed schemas in line with the migration.
+ */
+@Entity
+@Table(name = "notification_stats_hourly")
+public class NotificationStatsHourlyEntity {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "sent_count", nullable = false)
+    private long sentCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    public Key getId() {
+        return id;
+    }
+
+    public long getSentCount() {
+        return sentCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    @Embeddable
+    public record Key(
+        @Column(name = "bucket_start", nullable = false) LocalDateTime bucketStart,
+        @Column(name = "channel", nullable = false, length = 20) String channel,
+        @Column(name = "slug", nullable = false) String slug,
+        @Column(name = "client_id", nullable = false) String clientId
+    ) implements Serializable {
+    }
+}
@@ -2,19 +2,41 @@ package com.vibe.notification.infrastructure.persistence.repository;
 
 import com.vibe.notification.infrastructure.persistence.entity.NotificationLogEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface NotificationLogRepository extends JpaRepository<NotificationLogEntity, UUID> {
     
+    /**
+     * Find a log by id within a created_at range, so only the partitions of that range are searched
+     */
+    @Query(value = """
+            SELECT * FROM notification_logs
+            WHERE id = :id AND created_at BETWEEN :createdFrom AND :createdTo
+            """, nativeQuery = true)
+    Optional<NotificationLogEntity> findByIdCreatedBetween(@Param("id") UUID id,
+                                                           @Param("createdFrom") LocalDateTime createdFrom,
+                                                           @Param("createdTo") LocalDateTime createdTo);
+
     /**
      * Find all logs by trace_id
      */
     List<NotificationLogEntity> findByTraceId(UUID traceId);
 
+    /**
+     * Find all logs for a set of trace_ids in a single IN query
+     */
+    List<NotificationLogEntity> findByTraceIdIn(Collection<UUID> traceIds);
+
     /**
      * Find logs by recipient
      */
@@ -24,4 +46,65 @@ public interface NotificationLogRepository extends JpaRepository<NotificationLog
      * Find logs by status
      */
     List<NotificationLogEntity> findByStatus(String status);
+
+    /**
+     * Claim up to {@code limit} due PENDING logs by pushing their next_attempt_at out to {@code leaseUntil}.
+     * FOR UPDATE SKIP LOCKED lets workers on every node claim concurrently without blocking
+     * each other or claiming the same row; an unfinished claim becomes due again once the lease expires.
+     * The claimed rows are matched on the whole (id, created_at) primary key, so each one is updated
+     * in its own partition only.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE notification_logs SET next_attempt_at = :leaseUntil
+            WHERE (id, created_at) IN (
+                SELECT id, created_at FROM notification_logs
+                WHERE status = 'PENDING' AND next_attempt_at <= :now
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<NotificationLogEntity> claimDuePending(@Param("now") LocalDateTime now,
+                                                @Param("leaseUntil") LocalDateTime leaseUntil,
+                                                @Param("limit") int limit);
+
+    /**
+     * Claim up to {@code limit} PENDING logs created before {@code createdBefore} whose lease has expired,
+     * oldest first. Scans by status and created_at so it stays cheap when few rows are stuck.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE notification_logs SET next_attempt_at = :leaseUntil
+            WHERE (id, created_at) IN (
+                SELECT id, created_at FROM notification_logs
+                WHERE status = 'PENDING' AND created_at < :createdBefore
+                  AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+                ORDER BY created_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<NotificationLogEntity> claimStalePending(@Param("createdBefore") LocalDateTime createdBefore,
+                                                  @Param("now") LocalDateTime now,
+                                                  @Param("leaseUntil") LocalDateTime leaseUntil,
+                                                  @Param("limit") int limit);
+
+    /**
+     * Claim up to {@code limit} rescheduled PENDING logs (attempt_count > 0) whose retry is due
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE notification_logs SET next_attempt_at = :leaseUntil
+            WHERE (id, created_at) IN (
+                SELECT id, created_at FROM notification_logs
+                WHERE status = 'PENDING' AND next_attempt_at <= :now AND attempt_count > 0
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<NotificationLogEntity> claimDueRetries(@Param("now") LocalDateTime now,
+                                                @Param("leaseUntil") LocalDateTime leaseUntil,
+                                                @Param("limit") int limit);
 }
@@ -0,0 +1,75 @@
+package com.vibe.notification.presentation.controller;
+
+import com.vibe.notification.application.DeliveryStatsService;
+import com.vibe.notification.application.dto.DeliveryStatsResponse;
+import com.vibe.notification.application.port.ApiKeyValidationPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST Controller for delivery statistics
+ */
+@RestController
+@RequestMapping("/api/v1/notifications/stats")
+@Tag(name = "Notification Engine", description = "APIs for sending notifications")
+public class DeliveryStatsController {
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryStatsController.class);
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    private final DeliveryStatsService deliveryStatsService;
+    private final ApiKeyValidationPort apiKeyValidationPort;
+
+    public DeliveryStatsController(DeliveryStatsService deliveryStatsService, ApiKeyValidationPort apiKeyValidationPort) {
+        this.deliveryStatsService = deliveryStatsService;
+        this.apiKeyValidationPort = apiKeyValidationPort;
+    }
+
+    /**
+     * Hourly delivery statistics endpoint
+     * GET /api/v1/notifications/stats/hourly?from=&to=&channel=&slug=&clientId=
+     */
+    @GetMapping("/hourly")
+    @Operation(summary = "Get hourly delivery statistics",
+               description = "Returns sent and failed counts per hour, channel, template and client, oldest first. " +
+                       "Served from a pre-aggregated rollup, so the cost does not depend on the number of notifications. " +
+                       "Counts lag behind deliveries by up to the configured flush interval. " +
+                       "Requires API Key authentication.")
+    @SecurityRequirement(name = "X-API-Key")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hourly statistics for the range"),
+        @ApiResponse(responseCode = "400", description = "Missing or invalid time range, or invalid channel"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing API Key")
+    })
+    public ResponseEntity<List<DeliveryStatsResponse>> getHourlyStats(
+        @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Parameter(description = "Start of the range (ISO date-time), rounded down to the hour") LocalDateTime from,
+        @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Parameter(description = "End of the range (ISO date-time, exclusive), rounded up to the hour") LocalDateTime to,
+        @RequestParam(value = "channel", required = false) @Parameter(description = "EMAIL or WHATSAPP") String channel,
+        @RequestParam(value = "slug", required = false) @Parameter(description = "Template identifier") String slug,
+        @RequestParam(value = "clientId", required = false) @Parameter(description = "Client identifier used when sending") String clientId,
+        @RequestHeader(value = API_KEY_HEADER, required = false) @Parameter(description = "Valid API Key for authentication", required = true) String apiKey) {
+        if (!apiKeyValidationPort.validateApiKey(apiKey)) {
+            logger.warn("Delivery stats request rejected: unauthorized API key");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(deliveryStatsService.getHourlyStats(from, to, channel, slug, clientId));
+    }
+}
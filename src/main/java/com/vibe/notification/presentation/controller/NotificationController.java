@@ -1,21 +1,39 @@
 package com.vibe.notification.presentation.controller;
 
 import com.vibe.notification.application.NotificationApplicationService;
+import com.vibe.notification.application.NotificationQueryService;
+import com.vibe.notification.application.NotificationStatusStreamService;
+import com.vibe.notification.application.dto.NotificationLogPageResponse;
 import com.vibe.notification.application.dto.SendNotificationRequest;
 import com.vibe.notification.application.dto.NotificationResponse;
+import com.vibe.notification.application.dto.NotificationStatusResponse;
+import com.vibe.notification.application.port.ApiKeyValidationPort;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
+import com.vibe.notification.domain.model.NotificationStatusEvent;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * REST Controller for Notification API
@@ -25,11 +43,26 @@ import java.util.Optional;
 @Tag(name = "Notification Engine", description = "APIs for sending notifications")
 public class NotificationController {
     private static final Logger logger = LoggerFactory.getLogger(NotificationController.class);
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final int MAX_CLIENT_ID_LENGTH = 100;
 
     private final NotificationApplicationService notificationApplicationService;
+    private final NotificationQueryService notificationQueryService;
+    private final NotificationStatusStreamService statusStreamService;
+    private final ApiKeyValidationPort apiKeyValidationPort;
+    private final Duration streamTimeout;
 
-    public NotificationController(NotificationApplicationService notificationApplicationService) {
+    public NotificationController(
+        NotificationApplicationService notificationApplicationService,
+        NotificationQueryService notificationQueryService,
+        NotificationStatusStreamService statusStreamService,
+        ApiKeyValidationPort apiKeyValidationPort,
+        @Value("${app.status-stream.timeout:30m}") Duration streamTimeout) {
         this.notificationApplicationService = notificationApplicationService;
+        this.notificationQueryService = notificationQueryService;
+        this.statusStreamService = statusStreamService;
+        this.apiKeyValidationPort = apiKeyValidationPort;
+        this.streamTimeout = streamTimeout;
     }
 
     /**
@@ -42,7 +75,8 @@ public class NotificationController {
                        "By default, processes asynchronously and returns 202 Accepted immediately. " +
                        "Use ?sync=true for synchronous processing (waits max 15s) and returns 200 OK with final provider status. " +
                        "Variable substitution is performed using the provided variables map. " +
-                       "Supports optional Idempotency-Key header for idempotent request processing - if provided, ensures the request is processed only once.")
+                       "Supports optional Idempotency-Key header for idempotent request processing - if provided, ensures the request is processed only once. " +
+                       "Pass X-Client-Id to receive the final status on the status stream (GET /stream?clientId=) instead of holding a sync request.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Notification processed successfully (sync mode only) - Final provider status (SENT/FAILED) included in response",
                      content = @Content(schema = @Schema(implementation = NotificationResponse.class))),
@@ -56,7 +90,9 @@ public class NotificationController {
         @Parameter(name = "sync", description = "If true, waits for notification processing to complete (max 15s) and returns final status. If false (default), returns immediately with ACCEPTED status.")
         @RequestParam(value = "sync", defaultValue = "false") boolean sync,
         @Parameter(name = "Idempotency-Key", description = "Optional unique identifier for idempotent request processing. If provided, ensures the request is processed only once.")
-        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @Parameter(name = "X-Client-Id", description = "Optional client identifier (max 100 characters). Status events of this notification are pushed to status stream subscribers of the same client.")
+        @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
         logger.info("Received notification request (sync={}): {}", sync, request.recipient());
         
         // Create a new request with idempotency key if provided
@@ -66,7 +102,8 @@ public class NotificationController {
             request.language(),
             request.channel(),
             request.variables(),
-            Optional.ofNullable(idempotencyKey)
+            Optional.ofNullable(idempotencyKey),
+            clientId(clientId)
         );
         
         var response = notificationApplicationService.sendNotificationWithSync(enrichedRequest, sync);
@@ -79,6 +116,149 @@ public class NotificationController {
         }
     }
 
+    private static Optional<String> clientId(String header) {
+        if (header == null || header.isBlank()) {
+            return Optional.empty();
+        }
+        if (header.length() > MAX_CLIENT_ID_LENGTH) {
+            throw new IllegalArgumentException("X-Client-Id must be at most " + MAX_CLIENT_ID_LENGTH + " characters");
+        }
+        return Optional.of(header);
+    }
+
+    /**
+     * Status event stream endpoint (Server-Sent Events)
+     * GET /api/v1/notifications/stream?clientId=
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream notification status updates",
+               description = "Opens a Server-Sent Events stream that pushes a 'status' event for every notification of the given client " +
+                       "as soon as it reaches SUCCESS or FAILED. One connection replaces polling or holding sync requests. " +
+                       "Slow consumers have a bounded buffer: old events are dropped or the stream is closed, depending on configuration. " +
+                       "Clients should reconnect when the stream ends. " +
+                       "Requires API Key authentication. Streams are limited per client and in total; further ones are rejected with 429.")
+    @SecurityRequirement(name = "X-API-Key")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened"),
+        @ApiResponse(responseCode = "400", description = "Missing or too long clientId"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing API Key"),
+        @ApiResponse(responseCode = "429", description = "Too many streams open - retry after the Retry-After delay")
+    })
+    public ResponseEntity<SseEmitter> streamStatuses(
+        @RequestParam("clientId") @Parameter(description = "Client identifier used when sending notifications (max 100 characters)") String clientId,
+        @RequestHeader(value = API_KEY_HEADER, required = false) @Parameter(description = "Valid API Key for authentication", required = true) String apiKey) {
+        if (!apiKeyValidationPort.validateApiKey(apiKey)) {
+            logger.warn("Status stream rejected: unauthorized API key");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        // Rejections are answered without a body: the client accepts only text/event-stream
+        if (clientId.isBlank() || clientId.length() > MAX_CLIENT_ID_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var emitter = new SseEmitter(streamTimeout.toMillis());
+        var sink = new NotificationStatusStreamService.StatusEventSink() {
+            @Override
+            public void send(NotificationStatusEvent event) throws Exception {
+                emitter.send(SseEmitter.event()
+                    .name("status")
+                    .id(event.traceId())
+                    .data(event, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        };
+        NotificationStatusStreamService.Subscription subscription;
+        try {
+            subscription = statusStreamService.subscribe(clientId, sink);
+        } catch (ServiceOverloadedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .build();
+        }
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * Notification log search endpoint
+     * GET /api/v1/notifications/logs?recipient=&slug=&status=&channel=&clientId=&from=&to=&cursor=&limit=
+     */
+    @GetMapping("/logs")
+    @Operation(summary = "Search notification logs",
+               description = "Returns one page of notification logs matching all given filters, newest first. " +
+                       "Pass the returned nextCursor as cursor to fetch the next page; nextCursor is null on the last page. " +
+                       "Pages are keyset-paginated, so deep pages are as cheap as the first one. " +
+                       "Requires API Key authentication.")
+    @SecurityRequirement(name = "X-API-Key")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "One page of matching notifications",
+                     content = @Content(schema = @Schema(implementation = NotificationLogPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter, time range, cursor, or limit"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing API Key")
+    })
+    public ResponseEntity<NotificationLogPageResponse> searchLogs(
+        @RequestParam(value = "recipient", required = false) @Parameter(description = "Exact recipient (email address or phone number)") String recipient,
+        @RequestParam(value = "slug", required = false) @Parameter(description = "Template identifier") String slug,
+        @RequestParam(value = "status", required = false) @Parameter(description = "PENDING, SUCCESS or FAILED") String status,
+        @RequestParam(value = "channel", required = false) @Parameter(description = "EMAIL or WHATSAPP") String channel,
+        @RequestParam(value = "clientId", required = false) @Parameter(description = "Client identifier used when sending") String clientId,
+        @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Parameter(description = "Created at or after (ISO date-time)") LocalDateTime from,
+        @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Parameter(description = "Created before (ISO date-time)") LocalDateTime to,
+        @RequestParam(value = "cursor", required = false) @Parameter(description = "nextCursor of the previous page") String cursor,
+        @RequestParam(value = "limit", defaultValue = "50") @Parameter(description = "Page size") int limit,
+        @RequestHeader(value = API_KEY_HEADER, required = false) @Parameter(description = "Valid API Key for authentication", required = true) String apiKey) {
+        if (!apiKeyValidationPort.validateApiKey(apiKey)) {
+            logger.warn("Log search rejected: unauthorized API key");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(notificationQueryService.searchLogs(
+            recipient, slug, status, channel, clientId, from, to, cursor, limit));
+    }
+
+    /**
+     * Notification status lookup endpoint
+     * GET /api/v1/notifications/{id}
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get notification status",
+               description = "Returns the current delivery status of a notification by the logId returned from the send endpoint. " +
+                       "Recently updated statuses are served from an in-memory cache, so this endpoint is safe to poll.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notification found",
+                     content = @Content(schema = @Schema(implementation = NotificationStatusResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid notification ID format"),
+        @ApiResponse(responseCode = "404", description = "Notification not found")
+    })
+    public ResponseEntity<NotificationStatusResponse> getNotificationStatus(
+        @PathVariable @Parameter(description = "Notification log ID returned by the send endpoint") UUID id) {
+        return ResponseEntity.ok(notificationQueryService.getStatus(id));
+    }
+
+    /**
+     * Bulk notification status lookup endpoint
+     * GET /api/v1/notifications?traceIds=...
+     */
+    @GetMapping
+    @Operation(summary = "Get notification statuses by trace IDs",
+               description = "Returns the current delivery status of every notification matching the given comma-separated trace IDs. " +
+                       "Trace IDs that are not found are omitted from the result.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statuses for the matching notifications"),
+        @ApiResponse(responseCode = "400", description = "Missing, malformed, or too many trace IDs")
+    })
+    public ResponseEntity<List<NotificationStatusResponse>> getNotificationStatuses(
+        @RequestParam("traceIds") @Parameter(description = "Comma-separated trace IDs returned by the send endpoint") List<UUID> traceIds) {
+        return ResponseEntity.ok(notificationQueryService.getStatusesByTraceIds(traceIds));
+    }
+
     /**
      * Health check endpoint
      * GET /api/v1/notifications/health
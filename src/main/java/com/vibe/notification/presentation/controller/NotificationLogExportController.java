@@ -0,0 +1,115 @@
+package com.vibe.notification.presentation.controller;
+
+import com.vibe.notification.application.NotificationLogExportService;
+import com.vibe.notification.application.port.ApiKeyValidationPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST Controller for bulk notification log exports
+ * Exports contain recipients and error messages, so they require the X-API-Key header
+ */
+@RestController
+@RequestMapping("/api/v1/notifications/logs")
+@Tag(name = "Notification Engine", description = "APIs for sending notifications")
+public class NotificationLogExportController {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationLogExportController.class);
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final NotificationLogExportService exportService;
+    private final ApiKeyValidationPort apiKeyValidationPort;
+
+    public NotificationLogExportController(
+        NotificationLogExportService exportService,
+        ApiKeyValidationPort apiKeyValidationPort) {
+        this.exportService = exportService;
+        this.apiKeyValidationPort = apiKeyValidationPort;
+    }
+
+    /**
+     * Notification log export endpoint
+     * GET /api/v1/notifications/logs/export?format=ndjson|csv&gzip=&recipient=&slug=&status=&channel=&clientId=&from=&to=
+     *
+     * Rows are written to the response while they are read, so the response is committed before
+     * the export finishes. An export that fails halfway is cut off: the connection is closed
+     * without a proper end of body (and without the gzip trailer), so clients can tell it is incomplete.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export notification logs",
+               description = "Streams every notification log matching all given filters, oldest first, as NDJSON (one JSON object per line) " +
+                       "or CSV with a header row. Template variables are not exported. With gzip=true the file is gzip-compressed. " +
+                       "The export is read with a database cursor and written as it is read, so it can cover months of logs; " +
+                       "exports running longer than the configured maximum duration are aborted. " +
+                       "Requires API Key authentication. Only a few exports run at a time; further ones are rejected with 429.")
+    @SecurityRequirement(name = "X-API-Key")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed as an attachment"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter, time range, or format"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing API Key"),
+        @ApiResponse(responseCode = "429", description = "Too many exports running - retry after the Retry-After delay")
+    })
+    public void exportLogs(
+        @RequestParam(value = "format", defaultValue = "ndjson") @Parameter(description = "ndjson or csv") String format,
+        @RequestParam(value = "gzip", defaultValue = "false") @Parameter(description = "Gzip-compress the export") boolean gzip,
+        @RequestParam(value = "recipient", required = false) @Parameter(description = "Exact recipient (email address or phone number)") String recipient,
+        @RequestParam(value = "slug", required = false) @Parameter(description = "Template identifier") String slug,
+        @RequestParam(value = "status", required = false) @Parameter(description = "PENDING, SUCCESS or FAILED") String status,
+        @RequestParam(value = "channel", required = false) @Parameter(description = "EMAIL or WHATSAPP") String channel,
+        @RequestParam(value = "clientId", required = false) @Parameter(description = "Client identifier used when sending") String clientId,
+        @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Parameter(description = "Created at or after (ISO date-time)") LocalDateTime from,
+        @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Parameter(description = "Created before (ISO date-time)") LocalDateTime to,
+        @RequestHeader(value = API_KEY_HEADER, required = false) @Parameter(description = "Valid API Key for authentication", required = true) String apiKey,
+        HttpServletResponse response) throws IOException {
+        if (!apiKeyValidationPort.validateApiKey(apiKey)) {
+            logger.warn("Log export rejected: unauthorized API key");
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+
+        // Validate and reserve a slot before the first byte is written, while a 400 or 429 can still be returned
+        var exportFormat = NotificationLogExportService.Format.from(format);
+        var filters = exportService.exportFilters(recipient, slug, status, channel, clientId, from, to);
+
+        var slot = exportService.acquireSlot();
+        try {
+            var filename = "notification-logs." + exportFormat.fileExtension() + (gzip ? ".gz" : "");
+            response.setContentType(gzip ? "application/gzip" : exportFormat.contentType() + ";charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+
+            if (gzip) {
+                var compressed = new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE);
+                exportService.export(filters, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                OutputStream body = response.getOutputStream();
+                exportService.export(filters, exportFormat, body);
+            }
+        } finally {
+            slot.close();
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.vibe.notification.presentation.error;
 
 import com.vibe.notification.domain.exception.NotificationException;
+import com.vibe.notification.domain.exception.NotificationLogNotFoundException;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
 import com.vibe.notification.domain.exception.TemplateNotFoundException;
 import com.vibe.notification.domain.exception.TemplateValidationException;
 import com.vibe.notification.domain.exception.TemplateAlreadyExistsException;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
@@ -28,6 +34,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
+    @ExceptionHandler(NotificationLogNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleNotificationLogNotFound(NotificationLogNotFoundException ex) {
+        logger.warn("Notification not found: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
     @ExceptionHandler(TemplateValidationException.class)
     public ResponseEntity<Map<String, Object>> handleTemplateValidation(TemplateValidationException ex) {
         logger.warn("Template validation failed: {}", ex.getMessage());
@@ -40,6 +52,15 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceOverloaded(ServiceOverloadedException ex) {
+        logger.warn("Request rejected: {}", ex.getMessage());
+        var response = buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(response.getBody());
+    }
+
     @ExceptionHandler(NotificationException.class)
     public ResponseEntity<Map<String, Object>> handleNotificationException(NotificationException ex) {
         logger.error("Notification error: {}", ex.getMessage(), ex);
@@ -52,8 +73,29 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        logger.warn("Invalid value for parameter '{}': {}", ex.getName(), ex.getValue());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + ex.getName() + "'");
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<Map<String, Object>> handleMissingParameter(MissingServletRequestParameterException ex) {
+        logger.warn("Missing parameter '{}'", ex.getParameterName());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Missing parameter '" + ex.getParameterName() + "'");
+    }
+
+    /**
+     * A committed response (such as a log export that failed halfway) can no longer carry an
+     * error body; the exception is rethrown so the container aborts the connection instead of
+     * appending JSON to a partially written body
+     */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
+    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex, HttpServletResponse response) throws Exception {
+        if (response.isCommitted()) {
+            logger.error("Error after the response was committed, aborting it", ex);
+            throw ex;
+        }
         logger.error("Unexpected error", ex);
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
     }
@@ -0,0 +1,20 @@
+-- Sync requests in single-write mode (app.sync-single-write.enabled) write their notification
+-- log row once, with the outcome, after the provider call. Until then the request is held here,
+-- so a node crash between the call and the write is recovered: InflightRecoveryJob turns
+-- markers older than stale-after into PENDING logs, which are redelivered as usual.
+--
+-- UNLOGGED: markers are written and deleted without WAL. PostgreSQL empties the table after a
+-- database crash or failover, losing only the markers of requests in flight at that moment.
+CREATE UNLOGGED TABLE IF NOT EXISTS notification_inflight (
+    log_id UUID PRIMARY KEY,
+    trace_id UUID NOT NULL,
+    recipient VARCHAR(100) NOT NULL,
+    slug VARCHAR(50) NOT NULL,
+    language VARCHAR(5),
+    channel VARCHAR(20) NOT NULL,
+    variables BYTEA NOT NULL,
+    client_id VARCHAR(100),
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_inflight_created_at ON notification_inflight(created_at);
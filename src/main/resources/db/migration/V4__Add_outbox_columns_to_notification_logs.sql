@@ -0,0 +1,13 @@
+-- Outbox support: the PENDING notification_logs row is the durable work item.
+-- language/client_id let any node rebuild the request; next_attempt_at is the claim lease.
+ALTER TABLE notification_logs ADD COLUMN IF NOT EXISTS language VARCHAR(5);
+ALTER TABLE notification_logs ADD COLUMN IF NOT EXISTS client_id VARCHAR(100);
+ALTER TABLE notification_logs ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+
+-- Rows written before this migration fall back to the default template language
+-- and become claimable immediately
+UPDATE notification_logs SET language = 'en' WHERE language IS NULL;
+UPDATE notification_logs SET next_attempt_at = created_at WHERE status = 'PENDING' AND next_attempt_at IS NULL;
+
+-- Claim query only ever scans PENDING rows
+CREATE INDEX IF NOT EXISTS idx_logs_pending_next_attempt ON notification_logs(next_attempt_at) WHERE status = 'PENDING';
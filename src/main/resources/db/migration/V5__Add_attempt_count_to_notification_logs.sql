@@ -0,0 +1,3 @@
+-- Durable retries: number of delivery attempts that failed transiently.
+-- A retry is a PENDING row whose next_attempt_at lies in the future.
+ALTER TABLE notification_logs ADD COLUMN IF NOT EXISTS attempt_count INT NOT NULL DEFAULT 0;
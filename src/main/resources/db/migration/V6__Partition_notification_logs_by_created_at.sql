@@ -0,0 +1,77 @@
+-- Range-partition notification_logs by created_at, one partition per month.
+-- Retention drops whole partitions instead of deleting rows, and queries on recent
+-- notifications only touch recent partitions. Future partitions are pre-created by
+-- NotificationLogPartitionMaintainer; the default partition only catches rows outside them.
+--
+-- The primary key of a partitioned table must include the partition key, so it becomes
+-- (id, created_at). Nothing enforces id alone to be unique any more; that rests on how ids
+-- are generated: UUIDv7 with 74 random bits, or random UUIDv4 with app.ids.generator=random.
+--
+-- Downtime: the rename below takes an exclusive lock on notification_logs that is held until
+-- the migration commits, so every read and write of notification logs waits while all rows
+-- are copied in one transaction and the indexes are built. Expect roughly the time of a full
+-- copy of the table plus building the primary key and six indexes; rehearse on a restored copy of a large table and
+-- plan a maintenance window accordingly. The copy also needs free disk for a second copy of
+-- the table until the old one is dropped at commit.
+
+ALTER TABLE notification_logs RENAME TO notification_logs_legacy;
+ALTER TABLE notification_logs_legacy RENAME CONSTRAINT notification_logs_pkey TO notification_logs_legacy_pkey;
+ALTER INDEX IF EXISTS idx_logs_trace_id RENAME TO idx_logs_legacy_trace_id;
+ALTER INDEX IF EXISTS idx_logs_recipient RENAME TO idx_logs_legacy_recipient;
+ALTER INDEX IF EXISTS idx_logs_status RENAME TO idx_logs_legacy_status;
+ALTER INDEX IF EXISTS idx_logs_created_at RENAME TO idx_logs_legacy_created_at;
+ALTER INDEX IF EXISTS idx_logs_pending_next_attempt RENAME TO idx_logs_legacy_pending_next_attempt;
+
+CREATE TABLE notification_logs (
+    id UUID NOT NULL,
+    trace_id UUID NOT NULL,
+    recipient VARCHAR(100) NOT NULL,
+    slug VARCHAR(50) NOT NULL,
+    language VARCHAR(5),
+    channel VARCHAR(20) NOT NULL,
+    variables JSONB,
+    status VARCHAR(20) NOT NULL,
+    error_message TEXT,
+    sent_at TIMESTAMP,
+    client_id VARCHAR(100),
+    next_attempt_at TIMESTAMP,
+    attempt_count INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE notification_logs_default PARTITION OF notification_logs DEFAULT;
+
+-- One partition per month from the oldest existing row up to two months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE(
+        (SELECT MIN(created_at) FROM notification_logs_legacy), CURRENT_TIMESTAMP))::date;
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '2 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF notification_logs FOR VALUES FROM (%L) TO (%L)',
+            'notification_logs_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO notification_logs (id, trace_id, recipient, slug, language, channel, variables, status,
+    error_message, sent_at, client_id, next_attempt_at, attempt_count, created_at)
+SELECT id, trace_id, recipient, slug, language, channel, variables, status,
+    error_message, sent_at, client_id, next_attempt_at, attempt_count, COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM notification_logs_legacy;
+
+DROP TABLE notification_logs_legacy;
+
+-- Indexes on the parent are created on every partition, including future ones
+CREATE INDEX IF NOT EXISTS idx_logs_trace_id ON notification_logs(trace_id);
+CREATE INDEX IF NOT EXISTS idx_logs_recipient ON notification_logs(recipient);
+CREATE INDEX IF NOT EXISTS idx_logs_status ON notification_logs(status);
+CREATE INDEX IF NOT EXISTS idx_logs_created_at ON notification_logs(created_at);
+CREATE INDEX IF NOT EXISTS idx_logs_pending_next_attempt ON notification_logs(next_attempt_at) WHERE status = 'PENDING';
+-- Lookups by id no longer have a single-column unique index
+CREATE INDEX IF NOT EXISTS idx_logs_id ON notification_logs(id);
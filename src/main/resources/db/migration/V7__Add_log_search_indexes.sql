@@ -0,0 +1,22 @@
+-- Composite indexes for keyset-paginated log search (GET /api/v1/notifications/logs).
+-- Each one matches an equality filter followed by the (created_at, id) sort key, so a page is a
+-- single index range scan that stops after LIMIT rows - no sort, no OFFSET scan.
+-- Indexes on the partitioned parent cascade to every partition, including future ones.
+
+-- A recipient's history; supersedes idx_logs_recipient
+CREATE INDEX IF NOT EXISTS idx_logs_recipient_created_at ON notification_logs(recipient, created_at, id);
+DROP INDEX IF EXISTS idx_logs_recipient;
+
+-- Recent failures (or any status) for a template
+CREATE INDEX IF NOT EXISTS idx_logs_slug_status_created_at ON notification_logs(slug, status, created_at, id);
+
+-- A client's notifications
+CREATE INDEX IF NOT EXISTS idx_logs_client_created_at ON notification_logs(client_id, created_at, id);
+
+-- Status-only searches and the stale-PENDING sweep; supersedes idx_logs_status
+CREATE INDEX IF NOT EXISTS idx_logs_status_created_at ON notification_logs(status, created_at, id);
+DROP INDEX IF EXISTS idx_logs_status;
+
+-- Unfiltered and time-range-only searches; supersedes idx_logs_created_at
+CREATE INDEX IF NOT EXISTS idx_logs_created_at_id ON notification_logs(created_at, id);
+DROP INDEX IF EXISTS idx_logs_created_at;
@@ -0,0 +1,26 @@
+-- Hourly rollup of delivery outcomes, maintained by additive upserts from every node
+-- (see HourlyDeliveryStatsAdapter). Dashboards read this table instead of aggregating
+-- notification_logs, so their cost depends on the number of hours, not on log volume.
+-- client_id is '' for notifications without a client: primary key columns cannot be NULL.
+CREATE TABLE IF NOT EXISTS notification_stats_hourly (
+    bucket_start TIMESTAMP NOT NULL,
+    channel VARCHAR(20) NOT NULL,
+    slug VARCHAR(255) NOT NULL,
+    client_id VARCHAR(255) NOT NULL DEFAULT '',
+    sent_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (bucket_start, channel, slug, client_id)
+);
+
+-- Backfill from logs finished before this version; counts after this point come from the application
+INSERT INTO notification_stats_hourly (bucket_start, channel, slug, client_id, sent_count, failed_count)
+SELECT date_trunc('hour', sent_at),
+       channel,
+       slug,
+       COALESCE(client_id, ''),
+       COUNT(*) FILTER (WHERE status = 'SUCCESS'),
+       COUNT(*) FILTER (WHERE status = 'FAILED')
+FROM notification_logs
+WHERE status IN ('SUCCESS', 'FAILED') AND sent_at IS NOT NULL
+GROUP BY 1, 2, 3, 4
+ON CONFLICT (bucket_start, channel, slug, client_id) DO NOTHING;
@@ -0,0 +1,23 @@
+-- Template variables kept outside notification_logs (see LogVariablesPolicy):
+--   OFFLOADED      payloads above app.log-variables.offload-threshold; the log row keeps a marker
+--   DELIVERY_COPY  full variables of logs stored hashed or redacted, until the log is final
+--   MASKED         hashed or redacted variables above the threshold, next to the delivery copy
+-- A log has at most one payload of each kind.
+-- Payloads are gzip-compressed JSON, so large variable maps no longer bloat the hot table,
+-- its TOAST table or the WAL of every status update.
+CREATE TABLE IF NOT EXISTS notification_log_payloads (
+    log_id UUID NOT NULL,
+    log_created_at TIMESTAMP NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+    variables_gzip BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (log_id, kind)
+);
+
+-- Delivery copies waiting to be purged, oldest first
+CREATE INDEX IF NOT EXISTS idx_log_payloads_delivery_copies ON notification_log_payloads(created_at)
+    WHERE kind = 'DELIVERY_COPY';
+
+-- Partition retention drops old logs whole; their side store payloads are then deleted by
+-- log_created_at (NotificationLogPartitionMaintainer), which needs this index to stay a range scan
+CREATE INDEX IF NOT EXISTS idx_log_payloads_log_created_at ON notification_log_payloads(log_created_at);
@@ -0,0 +1,91 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.domain.port.LogPayloadPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Delivery Copy Purge Job Tests")
+class DeliveryCopyPurgeJobTest {
+
+    @Mock
+    private LogPayloadPort logPayloadPort;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeliveryCopyPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new DeliveryCopyPurgeJob(logPayloadPort, clusterLockPort, meterRegistry, 100, 3);
+    }
+
+    @Test
+    @DisplayName("Should purge in batches until a batch comes back short")
+    void shouldPurgeUntilShortBatch() {
+        // Given
+        givenLockAcquired();
+        when(logPayloadPort.purgeDeliveryCopies(any(), eq(100))).thenReturn(100, 40);
+
+        // When
+        int purged = job.purge();
+
+        // Then
+        assertEquals(140, purged);
+        verify(logPayloadPort, times(2)).purgeDeliveryCopies(any(), eq(100));
+        assertEquals(140.0, meterRegistry.counter("notification.log.payloads.purged").count());
+    }
+
+    @Test
+    @DisplayName("Should stop after the maximum number of batches per run")
+    void shouldCapBatchesPerRun() {
+        givenLockAcquired();
+        when(logPayloadPort.purgeDeliveryCopies(any(), eq(100))).thenReturn(100);
+
+        assertEquals(300, job.purge());
+        verify(logPayloadPort, times(3)).purgeDeliveryCopies(any(), eq(100));
+    }
+
+    @Test
+    @DisplayName("Should leave copies younger than the grace period alone")
+    void shouldApplyGracePeriod() {
+        givenLockAcquired();
+        var before = LocalDateTime.now().minus(DeliveryCopyPurgeJob.GRACE);
+
+        job.purge();
+
+        verify(logPayloadPort).purgeDeliveryCopies(argThat(cutoff -> !cutoff.isBefore(before)
+            && cutoff.isBefore(LocalDateTime.now().minus(DeliveryCopyPurgeJob.GRACE).plusSeconds(1))), eq(100));
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another node holds the lock")
+    void shouldSkipWhenLockHeld() {
+        when(clusterLockPort.runExclusively(eq(DeliveryCopyPurgeJob.LOCK_NAME), any())).thenReturn(Optional.empty());
+
+        assertEquals(-1, job.purge());
+        verifyNoInteractions(logPayloadPort);
+    }
+
+    private void givenLockAcquired() {
+        when(clusterLockPort.runExclusively(eq(DeliveryCopyPurgeJob.LOCK_NAME), any()))
+            .thenAnswer(invocation -> Optional.ofNullable(invocation.<Supplier<?>>getArgument(1).get()));
+    }
+}
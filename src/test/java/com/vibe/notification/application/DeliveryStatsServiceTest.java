@@ -0,0 +1,65 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.HourlyDeliveryStats;
+import com.vibe.notification.domain.port.DeliveryStatsPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Delivery Stats Service Tests")
+class DeliveryStatsServiceTest {
+
+    @Mock
+    private DeliveryStatsPort deliveryStatsPort;
+
+    private DeliveryStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DeliveryStatsService(deliveryStatsPort, Duration.ofDays(31));
+    }
+
+    @Test
+    @DisplayName("Should widen the range to whole hours and read the rollup")
+    void shouldReadRollupForWholeHours() {
+        // Given
+        var hour = LocalDateTime.of(2025, 1, 15, 10, 0);
+        when(deliveryStatsPort.findHourly(hour, hour.plusHours(2), Channel.EMAIL, null, null))
+            .thenReturn(List.of(new HourlyDeliveryStats(hour, Channel.EMAIL, "welcome", null, 42, 3)));
+
+        // When
+        var stats = service.getHourlyStats(hour.plusMinutes(15), hour.plusHours(1).plusMinutes(1), "email", " ", null);
+
+        // Then
+        assertEquals(1, stats.size());
+        assertEquals(42, stats.get(0).sent());
+        assertEquals(3, stats.get(0).failed());
+        assertEquals("welcome", stats.get(0).slug());
+    }
+
+    @Test
+    @DisplayName("Should reject empty and too long ranges without reading")
+    void shouldRejectInvalidRanges() {
+        var from = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.getHourlyStats(from, from, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> service.getHourlyStats(from, from.plusDays(32), null, null, null));
+        verify(deliveryStatsPort, never()).findHourly(any(), any(), any(), isNull(), isNull());
+    }
+}
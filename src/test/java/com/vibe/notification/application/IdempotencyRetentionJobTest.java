@@ -0,0 +1,94 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.application.port.IdempotencyPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Retention Job Tests")
+class IdempotencyRetentionJobTest {
+
+    @Mock
+    private IdempotencyPort idempotencyPort;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new IdempotencyRetentionJob(idempotencyPort, clusterLockPort, meterRegistry,
+            Duration.ofDays(7), 2, 3, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should delete in batches until a partial batch and report the store size")
+    void shouldPurgeUntilPartialBatch() {
+        // Given
+        holdLock();
+        when(idempotencyPort.purgeClaimedBefore(any(), eq(2))).thenReturn(2, 1);
+        when(idempotencyPort.storeSize()).thenReturn(new IdempotencyPort.StoreSize(42, 8192));
+
+        // When
+        int deleted = job.purge();
+
+        // Then
+        assertEquals(3, deleted);
+        verify(idempotencyPort, times(2)).purgeClaimedBefore(any(), eq(2));
+        assertEquals(3.0, meterRegistry.counter("notification.idempotency.retention.deleted").count());
+        assertEquals(42.0, meterRegistry.get("notification.idempotency.store.keys").gauge().value());
+        assertEquals(8192.0, meterRegistry.get("notification.idempotency.store.bytes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should stop after max batches per run")
+    void shouldStopAfterMaxBatches() {
+        // Given
+        holdLock();
+        when(idempotencyPort.purgeClaimedBefore(any(), eq(2))).thenReturn(2);
+        when(idempotencyPort.storeSize()).thenReturn(new IdempotencyPort.StoreSize(0, 0));
+
+        // When
+        int deleted = job.purge();
+
+        // Then
+        assertEquals(6, deleted);
+        verify(idempotencyPort, times(3)).purgeClaimedBefore(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another node holds the lock")
+    void shouldSkipWhenLockHeldElsewhere() {
+        // Given
+        when(clusterLockPort.runExclusively(eq(IdempotencyRetentionJob.LOCK_NAME), any())).thenReturn(Optional.empty());
+
+        // When
+        int deleted = job.purge();
+
+        // Then
+        assertEquals(-1, deleted);
+        verifyNoInteractions(idempotencyPort);
+    }
+
+    private void holdLock() {
+        when(clusterLockPort.runExclusively(eq(IdempotencyRetentionJob.LOCK_NAME), any()))
+            .thenAnswer(invocation -> Optional.ofNullable(invocation.<Supplier<?>>getArgument(1).get()));
+    }
+}
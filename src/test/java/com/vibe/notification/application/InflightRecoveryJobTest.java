@@ -0,0 +1,88 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.domain.service.NotificationDomainService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("In-flight Recovery Job Tests")
+class InflightRecoveryJobTest {
+    private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+    @Mock
+    private NotificationDomainService notificationDomainService;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InflightRecoveryJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new InflightRecoveryJob(notificationDomainService, clusterLockPort, meterRegistry, STALE_AFTER, 100, 3);
+    }
+
+    @Test
+    @DisplayName("Should recover in batches until a batch comes back short")
+    void shouldRecoverUntilShortBatch() {
+        // Given
+        givenLockAcquired();
+        when(notificationDomainService.recoverInflight(STALE_AFTER, 100)).thenReturn(100, 7);
+
+        // When
+        int recovered = job.recover();
+
+        // Then
+        assertEquals(107, recovered);
+        assertEquals(107.0, meterRegistry.counter("notification.inflight.recovered").count());
+    }
+
+    @Test
+    @DisplayName("Should stop after the maximum number of batches per run")
+    void shouldCapBatchesPerRun() {
+        givenLockAcquired();
+        when(notificationDomainService.recoverInflight(STALE_AFTER, 100)).thenReturn(100);
+
+        assertEquals(300, job.recover());
+        verify(notificationDomainService, times(3)).recoverInflight(STALE_AFTER, 100);
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another node holds the lock")
+    void shouldSkipWhenLockHeld() {
+        when(clusterLockPort.runExclusively(eq(InflightRecoveryJob.LOCK_NAME), any())).thenReturn(Optional.empty());
+
+        assertEquals(-1, job.recover());
+        verifyNoInteractions(notificationDomainService);
+    }
+
+    @Test
+    @DisplayName("Should survive a failing run")
+    void shouldSurviveFailure() {
+        givenLockAcquired();
+        when(notificationDomainService.recoverInflight(STALE_AFTER, 100)).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertEquals(0, job.recover());
+    }
+
+    private void givenLockAcquired() {
+        when(clusterLockPort.runExclusively(eq(InflightRecoveryJob.LOCK_NAME), any()))
+            .thenAnswer(invocation -> Optional.ofNullable(invocation.<Supplier<?>>getArgument(1).get()));
+    }
+}
@@ -0,0 +1,190 @@
+package com.vibe.notification.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vibe.notification.application.port.LogExportPort;
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
+import com.vibe.notification.domain.model.NotificationLogSearch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Log Export Service Tests")
+class NotificationLogExportServiceTest {
+
+    @Mock
+    private LogExportPort logExportPort;
+
+    private ObjectMapper objectMapper;
+    private NotificationLogExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new NotificationLogExportService(logExportPort, objectMapper, new SimpleMeterRegistry(), 2, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldExportNdjson() throws IOException {
+        // Given
+        var logs = List.of(log("user@example.com", null), log("other@example.com", "Mailbox unavailable"));
+        streamFromPort(logs);
+        var output = new ByteArrayOutputStream();
+
+        // When
+        long exported = exportService.export(filters(), NotificationLogExportService.Format.NDJSON, output);
+
+        // Then
+        assertEquals(2, exported);
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        var second = objectMapper.readTree(lines[1]);
+        assertEquals(logs.get(1).getId().toString(), second.get("logId").asText());
+        assertEquals("Mailbox unavailable", second.get("errorMessage").asText());
+        assertEquals("2025-01-15T10:30:00", second.get("createdAt").asText());
+        assertFalse(second.has("variables"));
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote fields that need it")
+    void shouldExportCsv() throws IOException {
+        // Given
+        var log = log("user@example.com", "Rejected: \"spam\", retry later");
+        streamFromPort(List.of(log));
+        var output = new ByteArrayOutputStream();
+
+        // When
+        exportService.export(filters(), NotificationLogExportService.Format.CSV, output);
+
+        // Then
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("logId,traceId,clientId,recipient,slug,language,channel,status,errorMessage,attemptCount,sentAt,createdAt", lines[0]);
+        assertEquals(log.getId() + "," + log.getTraceId() + ",billing-app,user@example.com,welcome,en,EMAIL,FAILED,"
+            + "\"Rejected: \"\"spam\"\", retry later\",1,,2025-01-15T10:30:00", lines[1]);
+    }
+
+    @Test
+    @DisplayName("Should prefix CSV text that a spreadsheet would run as a formula")
+    void shouldNeutraliseCsvFormulas() throws IOException {
+        // Given
+        var log = log("+6281234567890", "=HYPERLINK(\"http://evil.example\",\"click\")");
+        streamFromPort(List.of(log));
+        var output = new ByteArrayOutputStream();
+
+        // When
+        exportService.export(filters(), NotificationLogExportService.Format.CSV, output);
+
+        // Then - the quote goes inside the field, before RFC 4180 quoting
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(log.getId() + "," + log.getTraceId() + ",billing-app,'+6281234567890,welcome,en,EMAIL,FAILED,"
+            + "\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"click\"\")\",1,,2025-01-15T10:30:00", lines[1]);
+    }
+
+    @Test
+    @DisplayName("Should surface the write failure when the client goes away")
+    void shouldRethrowWriteFailure() {
+        // Given
+        var broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Enough rows to overflow the write buffer inside the export
+        when(logExportPort.exportLogs(any(), any())).thenAnswer(invocation -> {
+            Consumer<NotificationLogDTO> sink = invocation.getArgument(1);
+            for (int i = 0; i < 10_000; i++) {
+                sink.accept(log("user@example.com", null));
+            }
+            return 10_000L;
+        });
+
+        // When / Then
+        var exception = assertThrows(IOException.class,
+            () -> exportService.export(filters(), NotificationLogExportService.Format.NDJSON, broken));
+        assertEquals("Broken pipe", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should validate filters and format before exporting")
+    void shouldValidateBeforeExport() {
+        var now = LocalDateTime.now();
+        assertThrows(IllegalArgumentException.class,
+            () -> exportService.exportFilters(null, null, null, null, null, now, now.minusDays(1)));
+        assertThrows(IllegalArgumentException.class,
+            () -> exportService.exportFilters(null, null, "DELIVERED", null, null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> NotificationLogExportService.Format.from("xml"));
+        assertEquals(NotificationLogExportService.Format.CSV, NotificationLogExportService.Format.from("CSV"));
+        verifyNoInteractions(logExportPort);
+    }
+
+    @Test
+    @DisplayName("Should reject exports beyond the concurrency limit until a slot is released")
+    void shouldLimitConcurrentExports() {
+        // Given
+        var first = exportService.acquireSlot();
+        var second = exportService.acquireSlot();
+
+        // When / Then
+        var exception = assertThrows(ServiceOverloadedException.class, () -> exportService.acquireSlot());
+        assertEquals(30, exception.getRetryAfterSeconds());
+
+        // Closing a slot twice releases it only once
+        first.close();
+        first.close();
+        var third = exportService.acquireSlot();
+        assertThrows(ServiceOverloadedException.class, () -> exportService.acquireSlot());
+        second.close();
+        third.close();
+    }
+
+    private NotificationLogSearch filters() {
+        return exportService.exportFilters(null, "welcome", null, null, null, null, null);
+    }
+
+    private void streamFromPort(List<NotificationLogDTO> logs) {
+        when(logExportPort.exportLogs(eq(filters()), any())).thenAnswer(invocation -> {
+            Consumer<NotificationLogDTO> sink = invocation.getArgument(1);
+            logs.forEach(sink);
+            return (long) logs.size();
+        });
+    }
+
+    private static NotificationLogDTO log(String recipient, String errorMessage) {
+        var createdAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        return new NotificationLogDTO(UUID.randomUUID(), UUID.randomUUID(), "welcome", "en", "EMAIL", recipient,
+            null, "FAILED", errorMessage, null, createdAt, createdAt, "billing-app", null, 1);
+    }
+}
@@ -0,0 +1,225 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.application.port.LogPartitionPort;
+import com.vibe.notification.domain.port.LogPayloadPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Log Partition Maintainer Tests")
+class NotificationLogPartitionMaintainerTest {
+
+    @Mock
+    private LogPartitionPort logPartitionPort;
+
+    @Mock
+    private LogPayloadPort logPayloadPort;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationLogPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        maintainer = new NotificationLogPartitionMaintainer(logPartitionPort, logPayloadPort, clusterLockPort, meterRegistry, 2, 6, 100);
+    }
+
+    @Test
+    @DisplayName("Should create missing partitions up to months ahead")
+    void shouldCreateMissingPartitions() {
+        // Given
+        holdLock();
+        var current = YearMonth.now();
+        when(logPartitionPort.isPartitioned()).thenReturn(true);
+        when(logPartitionPort.monthlyPartitions()).thenReturn(List.of(current));
+
+        // When
+        int changed = maintainer.maintain();
+
+        // Then
+        assertEquals(2, changed);
+        verify(logPartitionPort).createMonthlyPartition(current.plusMonths(1));
+        verify(logPartitionPort).createMonthlyPartition(current.plusMonths(2));
+        verify(logPartitionPort, never()).createMonthlyPartition(current);
+        verify(logPartitionPort, never()).dropMonthlyPartition(any());
+        assertEquals(2.0, meterRegistry.counter("notification.log.partitions.created").count());
+    }
+
+    @Test
+    @DisplayName("Should drop only partitions older than the retention")
+    void shouldDropExpiredPartitions() {
+        // Given
+        holdLock();
+        var current = YearMonth.now();
+        when(logPartitionPort.isPartitioned()).thenReturn(true);
+        when(logPartitionPort.monthlyPartitions()).thenReturn(List.of(
+            current.minusMonths(8), current.minusMonths(7), current.minusMonths(6),
+            current, current.plusMonths(1), current.plusMonths(2)));
+
+        // When
+        int changed = maintainer.maintain();
+
+        // Then
+        assertEquals(2, changed);
+        verify(logPartitionPort).dropMonthlyPartition(current.minusMonths(8));
+        verify(logPartitionPort).dropMonthlyPartition(current.minusMonths(7));
+        verify(logPartitionPort, never()).dropMonthlyPartition(current.minusMonths(6));
+        verify(logPartitionPort, never()).createMonthlyPartition(any());
+        assertEquals(2.0, meterRegistry.counter("notification.log.partitions.dropped").count());
+    }
+
+    @Test
+    @DisplayName("Should delete the side store payloads of logs older than the retention in batches")
+    void shouldDeleteExpiredPayloads() {
+        // Given
+        holdLock();
+        var current = YearMonth.now();
+        var cutoff = current.minusMonths(6).atDay(1).atStartOfDay();
+        when(logPartitionPort.isPartitioned()).thenReturn(true);
+        when(logPartitionPort.monthlyPartitions()).thenReturn(List.of(current.minusMonths(7), current, current.plusMonths(1), current.plusMonths(2)));
+        when(logPayloadPort.deleteOrphaned(cutoff, 100)).thenReturn(100, 40);
+
+        // When
+        maintainer.maintain();
+
+        // Then
+        verify(logPartitionPort).dropMonthlyPartition(current.minusMonths(7));
+        verify(logPayloadPort, times(2)).deleteOrphaned(cutoff, 100);
+        assertEquals(140.0, meterRegistry.counter("notification.log.payloads.expired").count());
+    }
+
+    @Test
+    @DisplayName("Should keep every partition when retention is disabled")
+    void shouldKeepPartitionsWithoutRetention() {
+        // Given
+        maintainer = new NotificationLogPartitionMaintainer(logPartitionPort, logPayloadPort, clusterLockPort, meterRegistry, 1, 0, 100);
+        holdLock();
+        var current = YearMonth.now();
+        when(logPartitionPort.isPartitioned()).thenReturn(true);
+        when(logPartitionPort.monthlyPartitions()).thenReturn(List.of(
+            current.minusMonths(24), current, current.plusMonths(1)));
+
+        // When
+        int changed = maintainer.maintain();
+
+        // Then
+        assertEquals(0, changed);
+        verify(logPartitionPort, never()).dropMonthlyPartition(any());
+        verifyNoInteractions(logPayloadPort);
+    }
+
+    @Test
+    @DisplayName("Should keep going when one partition cannot be created")
+    void shouldContinueAfterCreateFailure() {
+        // Given
+        holdLock();
+        var current = YearMonth.now();
+        when(logPartitionPort.isPartitioned()).thenReturn(true);
+        when(logPartitionPort.monthlyPartitions()).thenReturn(List.of());
+        doThrow(new IllegalStateException("default partition contains rows"))
+            .when(logPartitionPort).createMonthlyPartition(current);
+
+        // When
+        int changed = maintainer.maintain();
+
+        // Then
+        assertEquals(2, changed);
+        verify(logPartitionPort).createMonthlyPartition(current.plusMonths(2));
+        assertEquals(1.0, meterRegistry.counter("notification.log.partitions.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should count logs moved out of the default partition")
+    void shouldCountLogsMovedFromDefaultPartition() {
+        // Given
+        holdLock();
+        var current = YearMonth.now();
+        when(logPartitionPort.isPartitioned()).thenReturn(true);
+        when(logPartitionPort.monthlyPartitions()).thenReturn(List.of(current, current.plusMonths(1)));
+        when(logPartitionPort.createMonthlyPartition(current.plusMonths(2))).thenReturn(42L);
+
+        // When
+        int changed = maintainer.maintain();
+
+        // Then
+        assertEquals(1, changed);
+        assertEquals(42.0, meterRegistry.counter("notification.log.partitions.default.moved").count());
+        assertEquals(0.0, meterRegistry.counter("notification.log.partitions.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should keep going and retry later when one partition cannot be dropped")
+    void shouldContinueAfterDropFailure() {
+        // Given
+        holdLock();
+        var current = YearMonth.now();
+        when(logPartitionPort.isPartitioned()).thenReturn(true);
+        when(logPartitionPort.monthlyPartitions()).thenReturn(List.of(
+            current.minusMonths(8), current.minusMonths(7), current, current.plusMonths(1), current.plusMonths(2)));
+        doThrow(new IllegalStateException("canceling statement due to lock timeout"))
+            .when(logPartitionPort).dropMonthlyPartition(current.minusMonths(8));
+
+        // When
+        int changed = maintainer.maintain();
+
+        // Then
+        assertEquals(1, changed);
+        verify(logPartitionPort).dropMonthlyPartition(current.minusMonths(7));
+        verify(logPayloadPort).deleteOrphaned(any(), anyInt());
+        assertEquals(1.0, meterRegistry.counter("notification.log.partitions.dropped").count());
+        assertEquals(1.0, meterRegistry.counter("notification.log.partitions.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the table is not partitioned")
+    void shouldSkipUnpartitionedTable() {
+        // Given
+        holdLock();
+        when(logPartitionPort.isPartitioned()).thenReturn(false);
+
+        // When
+        int changed = maintainer.maintain();
+
+        // Then
+        assertEquals(0, changed);
+        verify(logPartitionPort, never()).monthlyPartitions();
+        verify(logPartitionPort, never()).createMonthlyPartition(any());
+    }
+
+    @Test
+    @DisplayName("Should skip the pass when another node holds the lock")
+    void shouldSkipWhenLockHeldElsewhere() {
+        // Given
+        when(clusterLockPort.runExclusively(eq(NotificationLogPartitionMaintainer.LOCK_NAME), any())).thenReturn(Optional.empty());
+
+        // When
+        int changed = maintainer.maintain();
+
+        // Then
+        assertEquals(-1, changed);
+        verifyNoInteractions(logPartitionPort);
+    }
+
+    private void holdLock() {
+        when(clusterLockPort.runExclusively(eq(NotificationLogPartitionMaintainer.LOCK_NAME), any()))
+            .thenAnswer(invocation -> Optional.ofNullable(invocation.<Supplier<?>>getArgument(1).get()));
+    }
+}
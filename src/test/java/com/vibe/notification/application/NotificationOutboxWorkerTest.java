@@ -0,0 +1,117 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.NotificationResult;
+import com.vibe.notification.domain.service.NotificationDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Outbox Worker Tests")
+class NotificationOutboxWorkerTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private NotificationDomainService notificationDomainService;
+
+    @Mock
+    private NotificationApplicationService notificationApplicationService;
+
+    private NotificationOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new NotificationOutboxWorker(notificationDomainService, notificationApplicationService,
+            1, 2, LEASE, Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("Should keep claiming batches until a partial batch is returned")
+    void shouldDrainUntilPartialBatch() {
+        // Given
+        when(notificationDomainService.claimPending(2, LEASE))
+            .thenReturn(List.of(pendingLog(), pendingLog()))
+            .thenReturn(List.of(pendingLog()));
+        when(notificationApplicationService.processClaimed(any())).thenReturn(NotificationResult.success());
+
+        // When
+        int processed = worker.drain();
+
+        // Then
+        assertEquals(3, processed);
+        verify(notificationDomainService, times(2)).claimPending(2, LEASE);
+        verify(notificationApplicationService, times(3)).processClaimed(any());
+    }
+
+    @Test
+    @DisplayName("Should renew the lease of the rest of a batch and skip rows it lost")
+    void shouldRenewLeaseOfRemainingRows() {
+        // Given - the claim's lease is already more than half over
+        var leasedUntil = LocalDateTime.now().plusSeconds(1);
+        var kept = pendingLog(leasedUntil);
+        var lost = pendingLog(leasedUntil);
+        when(notificationDomainService.claimPending(2, LEASE)).thenReturn(List.of(kept, lost)).thenReturn(List.of());
+        when(notificationDomainService.renewLease(any(), eq(leasedUntil), any())).thenReturn(Set.of(kept.getId()));
+        when(notificationApplicationService.processClaimed(any())).thenReturn(NotificationResult.success());
+
+        // When
+        int processed = worker.drain();
+
+        // Then
+        assertEquals(1, processed);
+        verify(notificationApplicationService).processClaimed(kept);
+        verify(notificationApplicationService, never()).processClaimed(lost);
+    }
+
+    @Test
+    @DisplayName("Should stop draining when the claim fails")
+    void shouldSurviveClaimFailure() {
+        // Given
+        when(notificationDomainService.claimPending(2, LEASE)).thenThrow(new IllegalStateException("db down"));
+
+        // When
+        int processed = worker.drain();
+
+        // Then
+        assertEquals(0, processed);
+        verifyNoInteractions(notificationApplicationService);
+    }
+
+    @Test
+    @DisplayName("Should not claim after the worker is stopped")
+    void shouldNotClaimAfterStop() {
+        // When
+        worker.stop();
+        int processed = worker.drain();
+
+        // Then
+        assertEquals(0, processed);
+        verifyNoInteractions(notificationDomainService);
+    }
+
+    private NotificationLogDTO pendingLog() {
+        return pendingLog(LocalDateTime.now().plus(LEASE));
+    }
+
+    private NotificationLogDTO pendingLog(LocalDateTime leasedUntil) {
+        var now = LocalDateTime.now();
+        return new NotificationLogDTO(UUID.randomUUID(), UUID.randomUUID(), "welcome", "en", "EMAIL",
+            "john@example.com", null, "PENDING", null, null, now, now, null, leasedUntil, 0);
+    }
+}
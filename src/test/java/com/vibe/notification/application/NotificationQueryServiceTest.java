@@ -0,0 +1,116 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.NotificationLogSearch;
+import com.vibe.notification.domain.model.NotificationStatus;
+import com.vibe.notification.domain.service.NotificationDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Query Service - Log Search Tests")
+class NotificationQueryServiceTest {
+
+    @Mock
+    private NotificationDomainService notificationDomainService;
+
+    private NotificationQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        queryService = new NotificationQueryService(notificationDomainService, 100, 50);
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra row and return a cursor pointing at the last item")
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        var logs = logs(3);
+        when(notificationDomainService.searchNotificationLogs(any())).thenReturn(logs);
+
+        // When
+        var page = queryService.searchLogs("user@example.com", "welcome", "failed", "email", null, null, null, null, 2);
+
+        // Then
+        var captor = ArgumentCaptor.forClass(NotificationLogSearch.class);
+        verify(notificationDomainService).searchNotificationLogs(captor.capture());
+        var search = captor.getValue();
+        assertEquals(3, search.limit());
+        assertEquals(NotificationStatus.FAILED, search.status());
+        assertEquals(Channel.EMAIL, search.channel());
+        assertNull(search.after());
+
+        assertEquals(2, page.items().size());
+        var cursor = NotificationQueryService.decodeCursor(page.nextCursor());
+        assertEquals(logs.get(1).getId(), cursor.id());
+        assertEquals(logs.get(1).getCreatedAt(), cursor.createdAt());
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor and end without a next cursor")
+    void shouldContinueFromCursor() {
+        // Given
+        var previous = logs(1).get(0);
+        when(notificationDomainService.searchNotificationLogs(any())).thenReturn(logs(1));
+
+        // When
+        var page = queryService.searchLogs(null, " ", null, null, "billing-app", null, null,
+            NotificationQueryService.encodeCursor(previous), 10);
+
+        // Then
+        var captor = ArgumentCaptor.forClass(NotificationLogSearch.class);
+        verify(notificationDomainService).searchNotificationLogs(captor.capture());
+        assertEquals(new NotificationLogSearch.Cursor(previous.getCreatedAt(), previous.getId()), captor.getValue().after());
+        assertNull(captor.getValue().slug());
+        assertEquals("billing-app", captor.getValue().clientId());
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject limits above the maximum page size")
+    void shouldRejectOversizedLimit() {
+        assertThrows(IllegalArgumentException.class,
+            () -> queryService.searchLogs(null, null, null, null, null, null, null, null, 51));
+        verifyNoInteractions(notificationDomainService);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class,
+            () -> queryService.searchLogs(null, null, null, null, null, null, null, "not-a-cursor", 10));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty time range")
+    void shouldRejectEmptyTimeRange() {
+        var now = LocalDateTime.now();
+        assertThrows(IllegalArgumentException.class,
+            () -> queryService.searchLogs(null, null, null, null, null, now, now, null, 10));
+    }
+
+    private static List<NotificationLogDTO> logs(int count) {
+        var newest = LocalDateTime.of(2026, 1, 15, 10, 30, 0, 123_456_000);
+        return IntStream.range(0, count)
+            .mapToObj(i -> new NotificationLogDTO(UUID.randomUUID(), UUID.randomUUID(), "welcome", "en", "EMAIL",
+                "user@example.com", null, "FAILED", "Mailbox unavailable", newest.minusMinutes(i),
+                newest.minusMinutes(i), newest.minusMinutes(i)))
+            .toList();
+    }
+}
@@ -0,0 +1,196 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.NotificationStatusEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Notification Status Stream Service Tests")
+class NotificationStatusStreamServiceTest {
+
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+
+    private NotificationStatusStreamService streamService;
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should deliver events only to subscribers of the same client")
+    void shouldDeliverEventsToMatchingClient() {
+        streamService = new NotificationStatusStreamService(16, NotificationStatusStreamService.OverflowPolicy.DROP_OLDEST, WRITE_TIMEOUT, 100, 10, RETRY_AFTER);
+        var billing = new RecordingSink();
+        var marketing = new RecordingSink();
+        billing.release.countDown();
+        marketing.release.countDown();
+        streamService.subscribe("billing", billing);
+        streamService.subscribe("marketing", marketing);
+
+        streamService.publish(NotificationStatusEvent.success("trace-1", Channel.EMAIL, "billing"));
+        streamService.publish(NotificationStatusEvent.success("trace-2", Channel.EMAIL, null));
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> billing.events.size() == 1);
+        assertEquals("trace-1", billing.events.get(0).traceId());
+        assertTrue(marketing.events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop oldest buffered events for a slow subscriber")
+    void shouldDropOldestEventsWhenBufferIsFull() throws Exception {
+        streamService = new NotificationStatusStreamService(2, NotificationStatusStreamService.OverflowPolicy.DROP_OLDEST, WRITE_TIMEOUT, 100, 10, RETRY_AFTER);
+        var sink = new RecordingSink();
+        var subscription = streamService.subscribe("billing", sink);
+
+        // First event blocks the drain thread so the following ones pile up in the buffer
+        streamService.publish(NotificationStatusEvent.success("trace-0", Channel.EMAIL, "billing"));
+        assertTrue(sink.firstSendStarted.await(2, TimeUnit.SECONDS));
+        for (int i = 1; i <= 4; i++) {
+            streamService.publish(NotificationStatusEvent.success("trace-" + i, Channel.EMAIL, "billing"));
+        }
+        sink.release.countDown();
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> sink.events.size() == 3);
+        assertEquals(List.of("trace-0", "trace-3", "trace-4"), sink.events.stream().map(NotificationStatusEvent::traceId).toList());
+        assertEquals(2, subscription.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("Should disconnect a slow subscriber when policy is DISCONNECT")
+    void shouldDisconnectSlowSubscriber() throws Exception {
+        streamService = new NotificationStatusStreamService(1, NotificationStatusStreamService.OverflowPolicy.DISCONNECT, WRITE_TIMEOUT, 100, 10, RETRY_AFTER);
+        var sink = new RecordingSink();
+        streamService.subscribe("billing", sink);
+
+        streamService.publish(NotificationStatusEvent.success("trace-0", Channel.EMAIL, "billing"));
+        assertTrue(sink.firstSendStarted.await(2, TimeUnit.SECONDS));
+        streamService.publish(NotificationStatusEvent.success("trace-1", Channel.EMAIL, "billing"));
+        streamService.publish(NotificationStatusEvent.success("trace-2", Channel.EMAIL, "billing"));
+        sink.release.countDown();
+
+        await().atMost(2, TimeUnit.SECONDS).untilTrue(sink.closed);
+        assertEquals(0, streamService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should keep delivering to other subscribers while one write is stalled")
+    void shouldNotStallOtherSubscribers() throws Exception {
+        streamService = new NotificationStatusStreamService(16, NotificationStatusStreamService.OverflowPolicy.DROP_OLDEST, WRITE_TIMEOUT, 100, 10, RETRY_AFTER);
+        var stalled = new RecordingSink();
+        var healthy = new RecordingSink();
+        healthy.release.countDown();
+        streamService.subscribe("billing", stalled);
+        streamService.subscribe("billing", healthy);
+
+        streamService.publish(NotificationStatusEvent.success("trace-0", Channel.EMAIL, "billing"));
+        assertTrue(stalled.firstSendStarted.await(2, TimeUnit.SECONDS));
+        streamService.publish(NotificationStatusEvent.success("trace-1", Channel.EMAIL, "billing"));
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> healthy.events.size() == 2);
+        assertTrue(stalled.events.isEmpty());
+        stalled.release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose write stalls past the write timeout when policy is DISCONNECT")
+    void shouldDisconnectStalledSubscriber() throws Exception {
+        streamService = new NotificationStatusStreamService(16, NotificationStatusStreamService.OverflowPolicy.DISCONNECT, Duration.ofMillis(50), 100, 10, RETRY_AFTER);
+        var sink = new RecordingSink();
+        streamService.subscribe("billing", sink);
+
+        streamService.publish(NotificationStatusEvent.success("trace-0", Channel.EMAIL, "billing"));
+        assertTrue(sink.firstSendStarted.await(2, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        streamService.publish(NotificationStatusEvent.success("trace-1", Channel.EMAIL, "billing"));
+        sink.release.countDown();
+
+        await().atMost(2, TimeUnit.SECONDS).untilTrue(sink.closed);
+        assertEquals(0, streamService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should remove subscriber whose sink fails")
+    void shouldRemoveFailingSubscriber() {
+        streamService = new NotificationStatusStreamService(16, NotificationStatusStreamService.OverflowPolicy.DROP_OLDEST, WRITE_TIMEOUT, 100, 10, RETRY_AFTER);
+        var closed = new AtomicBoolean();
+        streamService.subscribe("billing", new NotificationStatusStreamService.StatusEventSink() {
+            @Override
+            public void send(NotificationStatusEvent event) throws Exception {
+                throw new java.io.IOException("Broken pipe");
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        });
+
+        streamService.publish(NotificationStatusEvent.success("trace-1", Channel.EMAIL, "billing"));
+
+        await().atMost(2, TimeUnit.SECONDS).untilTrue(closed);
+        assertEquals(0, streamService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should reject subscribers beyond the per-client cap until one is cancelled")
+    void shouldCapSubscribersPerClient() {
+        streamService = new NotificationStatusStreamService(16, NotificationStatusStreamService.OverflowPolicy.DROP_OLDEST, WRITE_TIMEOUT, 100, 2, RETRY_AFTER);
+        var first = streamService.subscribe("billing", new RecordingSink());
+        streamService.subscribe("billing", new RecordingSink());
+
+        var rejected = assertThrows(ServiceOverloadedException.class,
+            () -> streamService.subscribe("billing", new RecordingSink()));
+        assertEquals(30, rejected.getRetryAfterSeconds());
+        streamService.subscribe("marketing", new RecordingSink());
+
+        first.cancel();
+        streamService.subscribe("billing", new RecordingSink());
+        assertEquals(3, streamService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should reject subscribers beyond the total cap")
+    void shouldCapSubscribersInTotal() {
+        streamService = new NotificationStatusStreamService(16, NotificationStatusStreamService.OverflowPolicy.DROP_OLDEST, WRITE_TIMEOUT, 2, 10, RETRY_AFTER);
+        streamService.subscribe("billing", new RecordingSink());
+        streamService.subscribe("marketing", new RecordingSink());
+
+        assertThrows(ServiceOverloadedException.class, () -> streamService.subscribe("support", new RecordingSink()));
+        assertEquals(2, streamService.getSubscriberCount());
+    }
+
+    private static class RecordingSink implements NotificationStatusStreamService.StatusEventSink {
+        private final List<NotificationStatusEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public void send(NotificationStatusEvent event) throws Exception {
+            if (firstSendStarted.getCount() > 0) {
+                firstSendStarted.countDown();
+                release.await(2, TimeUnit.SECONDS);
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.vibe.notification.application;
+
+import com.vibe.notification.application.port.AdmissionControlPort;
+import com.vibe.notification.application.port.ClusterLockPort;
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.service.NotificationDomainService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Stale PENDING Recovery Sweeper Tests")
+class StalePendingRecoverySweeperTest {
+
+    private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private NotificationDomainService notificationDomainService;
+
+    @Mock
+    private NotificationApplicationService notificationApplicationService;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    @Mock
+    private AdmissionControlPort admissionControlPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StalePendingRecoverySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new StalePendingRecoverySweeper(notificationDomainService, notificationApplicationService,
+            clusterLockPort, admissionControlPort, meterRegistry, STALE_AFTER, 2, 3, LEASE);
+    }
+
+    @Test
+    @DisplayName("Should re-dispatch stale rows in batches up to the per-run limit")
+    void shouldRecoverUpToMaxPerRun() {
+        // Given
+        holdLock();
+        when(admissionControlPort.isSaturated(any())).thenReturn(false);
+        when(notificationApplicationService.redispatch(any())).thenReturn(true);
+        when(notificationDomainService.claimStalePending(STALE_AFTER, 2, LEASE)).thenReturn(List.of(stalePending(), stalePending()));
+        when(notificationDomainService.claimStalePending(STALE_AFTER, 1, LEASE)).thenReturn(List.of(stalePending()));
+
+        // When
+        int recovered = sweeper.sweep();
+
+        // Then
+        assertEquals(3, recovered);
+        verify(notificationApplicationService, times(3)).redispatch(any());
+        assertEquals(3.0, meterRegistry.counter("notification.recovery.redispatched").count());
+    }
+
+    @Test
+    @DisplayName("Should stop the run when admission control reports saturation")
+    void shouldStopWhenSaturated() {
+        // Given
+        holdLock();
+        when(admissionControlPort.isSaturated(any())).thenReturn(false).thenReturn(true);
+        when(notificationApplicationService.redispatch(any())).thenReturn(true);
+        when(notificationDomainService.claimStalePending(STALE_AFTER, 2, LEASE)).thenReturn(List.of(stalePending(), stalePending()));
+
+        // When
+        int recovered = sweeper.sweep();
+
+        // Then
+        assertEquals(1, recovered);
+        verify(notificationDomainService, times(1)).claimStalePending(any(), anyInt(), any());
+        verify(admissionControlPort, never()).evaluate(any());
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another node holds the lock")
+    void shouldSkipWhenLockHeldElsewhere() {
+        // Given
+        when(clusterLockPort.runExclusively(eq(StalePendingRecoverySweeper.LOCK_NAME), any())).thenReturn(Optional.empty());
+
+        // When
+        int recovered = sweeper.sweep();
+
+        // Then
+        assertEquals(-1, recovered);
+        verifyNoInteractions(notificationDomainService, notificationApplicationService);
+    }
+
+    private void holdLock() {
+        when(clusterLockPort.runExclusively(eq(StalePendingRecoverySweeper.LOCK_NAME), any()))
+            .thenAnswer(invocation -> Optional.ofNullable(invocation.<Supplier<?>>getArgument(1).get()));
+    }
+
+    private NotificationLogDTO stalePending() {
+        var createdAt = LocalDateTime.now().minusHours(1);
+        return new NotificationLogDTO(UUID.randomUUID(), UUID.randomUUID(), "welcome", "en", "EMAIL",
+            "john@example.com", null, "PENDING", null, null, createdAt, createdAt, null, null, 0);
+    }
+}
@@ -0,0 +1,121 @@
+package com.vibe.notification.domain.model;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Template Variables Tests")
+class TemplateVariablesTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    record Body(String recipient, TemplateVariables variables) {
+    }
+
+    @Test
+    @DisplayName("Should keep the JSON of a message body and parse it only when asked for the map")
+    void shouldKeepJsonUntilMapIsNeeded() throws Exception {
+        // Given
+        var body = """
+            {"recipient":"user@example.com","variables":{"name":"Ada","items":[{"sku":"A-1","qty":2}],"vip":true}}
+            """;
+
+        // When
+        var variables = objectMapper.readValue(body, Body.class).variables();
+
+        // Then
+        assertFalse(variables.isParsed());
+        assertEquals("{\"name\":\"Ada\",\"items\":[{\"sku\":\"A-1\",\"qty\":2}],\"vip\":true}",
+            new String(variables.toJson(), StandardCharsets.UTF_8));
+        assertFalse(variables.isParsed());
+        assertEquals("Ada", variables.asMap().get("name"));
+        assertEquals(List.of(Map.of("sku", "A-1", "qty", 2)), variables.asMap().get("items"));
+        assertTrue(variables.isParsed());
+    }
+
+    @Test
+    @DisplayName("Should look up top-level keys without parsing the map")
+    void shouldFindKeysWithoutParsing() {
+        var variables = TemplateVariables.fromJson(
+            "{\"items\":[{\"sku\":\"A-1\"}],\"order\":{\"sku\":\"B-2\"},\"name\":\"Ada\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(variables.containsKey("name"));
+        assertFalse(variables.containsKey("sku"));
+        assertFalse(variables.isParsed());
+        assertTrue(TemplateVariables.of(Map.of("name", "Ada")).containsKey("name"));
+        assertThrows(IllegalArgumentException.class,
+            () -> TemplateVariables.fromJson("[\"Ada\"]".getBytes(StandardCharsets.UTF_8)).containsKey("name"));
+    }
+
+    @Test
+    @DisplayName("Should parse with the mapper the variables were read with")
+    void shouldUseReadingMapper() throws Exception {
+        // Given
+        var mapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+        // When
+        var read = mapper.readValue("{\"variables\":{\"total\":1.5}}", Body.class).variables();
+
+        // Then
+        assertEquals(new BigDecimal("1.5"), read.asMap().get("total"));
+        assertEquals(new BigDecimal("1.5"), TemplateVariables.fromJson("{\"total\":1.5}".getBytes(StandardCharsets.UTF_8), mapper)
+            .asMap().get("total"));
+    }
+
+    @Test
+    @DisplayName("Should write known JSON into byte output and JSON trees as it is")
+    void shouldWriteRawBytes() throws Exception {
+        // Given
+        var json = "{\"name\":\"Ada L\u00f8velace\"}";
+        var variables = TemplateVariables.fromJson(json.getBytes(StandardCharsets.UTF_8));
+        var tree = objectMapper.createObjectNode().set("variables", objectMapper.getNodeFactory().rawValueNode(variables.toRawValue()));
+
+        // When
+        var bytes = objectMapper.writeValueAsBytes(Map.of("variables", variables));
+
+        // Then
+        assertEquals("{\"variables\":" + json + "}", new String(bytes, StandardCharsets.UTF_8));
+        assertEquals("{\"variables\":" + json + "}", new String(objectMapper.writeValueAsBytes(tree), StandardCharsets.UTF_8));
+        assertEquals("{\"variables\":" + json + "}", tree.toString());
+    }
+
+    @Test
+    @DisplayName("Should write known JSON as it is and serialize maps built in code")
+    void shouldSerializeEitherForm() throws Exception {
+        // Given
+        var fromJson = TemplateVariables.fromJson("{\"name\":\"Ada\"}".getBytes(StandardCharsets.UTF_8));
+        var fromMap = TemplateVariables.of(Map.of("name", "Ada"));
+
+        // When
+        var written = objectMapper.writeValueAsString(Map.of("a", fromJson, "b", fromMap));
+
+        // Then
+        assertEquals(Map.of("a", Map.of("name", "Ada"), "b", Map.of("name", "Ada")), objectMapper.readValue(written, Map.class));
+        assertEquals(fromJson, fromMap);
+        assertEquals(fromJson.hashCode(), fromMap.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should treat missing variables as empty")
+    void shouldTreatNullAsEmpty() {
+        assertTrue(TemplateVariables.of(null).asMap().isEmpty());
+        assertEquals(TemplateVariables.empty(),
+            new NotificationRequest("user@example.com", "welcome", "en", Channel.EMAIL, null, null).variables());
+    }
+
+    @Test
+    @DisplayName("Should reject variables that are not a JSON object")
+    void shouldRejectNonObjectVariables() {
+        var body = "{\"recipient\":\"user@example.com\",\"variables\":[\"Ada\"]}";
+
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(body, Body.class));
+    }
+}
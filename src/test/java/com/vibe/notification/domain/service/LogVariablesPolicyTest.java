@@ -0,0 +1,172 @@
+package com.vibe.notification.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibe.notification.domain.port.LogPayloadPort;
+import com.vibe.notification.domain.model.TemplateVariables;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Log Variables Policy Tests")
+class LogVariablesPolicyTest {
+    private static final String HASH_KEY = "0123456789abcdef0123456789abcdef";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should store small full payloads inline as the JSON serialized once")
+    void shouldStoreFullPayloadInline() throws Exception {
+        // Given
+        var policy = policy("FULL", "", "", DataSize.ofKilobytes(16));
+
+        // When
+        var stored = policy.apply("welcome", TemplateVariables.of(Map.of("name", "Ada")));
+
+        // Then - the raw node writes the serialized bytes as they are
+        assertNull(stored.sideStoreKind());
+        assertEquals("{\"name\":\"Ada\"}", stored.inline().toString());
+        assertEquals("{\"name\":\"Ada\"}", objectMapper.writeValueAsString(stored.inline()));
+        assertFalse(LogVariablesPolicy.isInSideStore(stored.inline()));
+    }
+
+    @Test
+    @DisplayName("Should offload payloads above the threshold and keep a marker inline")
+    void shouldOffloadLargePayload() throws Exception {
+        // Given
+        var policy = policy("FULL", "", "", DataSize.ofBytes(64));
+        var variables = Map.<String, Object>of("body", "x".repeat(100));
+
+        // When
+        var stored = policy.apply("newsletter", TemplateVariables.of(variables));
+
+        // Then
+        assertEquals(LogPayloadPort.Kind.OFFLOADED, stored.sideStoreKind());
+        assertTrue(LogVariablesPolicy.isInSideStore(stored.inline()));
+        assertEquals(stored.json().length, stored.inline().get("$bytes").asInt());
+        assertEquals(variables, objectMapper.readValue(stored.json(), Map.class));
+    }
+
+    @Test
+    @DisplayName("Should hash only the sensitive keys of templates configured as HASHED")
+    void shouldHashSensitiveKeysPerTemplate() throws Exception {
+        // Given
+        var policy = policy("FULL", "invoice=HASHED", "iban", DataSize.ofKilobytes(16));
+        var mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(HASH_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        var expected = "hmac-sha256:" + HexFormat.of().formatHex(
+            mac.doFinal("DE89370400440532013000".getBytes(StandardCharsets.UTF_8)));
+
+        // When
+        var hashed = policy.apply("invoice", TemplateVariables.of(Map.of("name", "Ada", "iban", "DE89370400440532013000")));
+        var other = policy.apply("welcome", TemplateVariables.of(Map.of("iban", "DE89370400440532013000")));
+
+        // Then
+        assertEquals(LogPayloadPort.Kind.DELIVERY_COPY, hashed.sideStoreKind());
+        assertEquals(expected, hashed.inline().get("iban").asText());
+        assertEquals("Ada", hashed.inline().get("name").asText());
+        assertNull(other.sideStoreKind());
+        assertTrue(other.inline().toString().contains("DE89370400440532013000"));
+    }
+
+    @Test
+    @DisplayName("Should redact every value when no sensitive keys are configured")
+    void shouldRedactAllValues() {
+        // Given
+        var policy = policy("REDACTED", "", "", DataSize.ofKilobytes(16));
+
+        // When
+        var stored = policy.apply("otp-login", TemplateVariables.of(Map.of("code", "123456", "name", "Ada")));
+
+        // Then
+        assertEquals(LogVariablesPolicy.REDACTED_VALUE, stored.inline().get("code").asText());
+        assertEquals(LogVariablesPolicy.REDACTED_VALUE, stored.inline().get("name").asText());
+        assertTrue(LogVariablesPolicy.isInSideStore(stored.inline()));
+    }
+
+    @Test
+    @DisplayName("Should offload masked payloads above the threshold next to the delivery copy")
+    void shouldOffloadLargeMaskedPayload() throws Exception {
+        // Given
+        var policy = policy("REDACTED", "", "code", DataSize.ofBytes(64));
+        var variables = Map.<String, Object>of("code", "123456", "body", "x".repeat(100));
+        var logId = UUID.randomUUID();
+        var createdAt = LocalDateTime.now();
+
+        // When
+        var stored = policy.apply("otp-login", TemplateVariables.of(variables));
+        var payloads = stored.sideStorePayloads(logId, createdAt, true);
+
+        // Then - the row keeps a marker, the side store the full and the masked variables
+        assertTrue(LogVariablesPolicy.isInSideStore(stored.inline()));
+        assertNull(stored.inline().get("code"));
+        assertEquals(stored.maskedJson().length, stored.inline().get("$bytes").asInt());
+        assertEquals(List.of(LogPayloadPort.Kind.DELIVERY_COPY, LogPayloadPort.Kind.MASKED),
+            payloads.stream().map(LogPayloadPort.Payload::kind).toList());
+        assertEquals(variables, objectMapper.readValue(payloads.get(0).json(), Map.class));
+        assertEquals(Map.of("code", LogVariablesPolicy.REDACTED_VALUE, "body", "x".repeat(100)),
+            objectMapper.readValue(payloads.get(1).json(), Map.class));
+        // A log that is already final needs no delivery copy
+        assertEquals(List.of(LogPayloadPort.Kind.MASKED),
+            stored.sideStorePayloads(logId, createdAt, false).stream().map(LogPayloadPort.Payload::kind).toList());
+    }
+
+    @Test
+    @DisplayName("Should not need a side store copy when no sensitive key is present")
+    void shouldStoreInlineWithoutSensitiveKeys() {
+        var policy = policy("REDACTED", "", "password", DataSize.ofKilobytes(16));
+
+        var stored = policy.apply("welcome", TemplateVariables.of(Map.of("name", "Ada")));
+
+        assertNull(stored.sideStoreKind());
+        assertEquals("{\"name\":\"Ada\"}", stored.inline().toString());
+    }
+
+    @Test
+    @DisplayName("Should reject client variables using the reserved $payload key")
+    void shouldRejectReservedKey() {
+        // Given - stored inline, this row would later be read as a side store marker
+        var reserved = TemplateVariables.fromJson("{\"$payload\":\"x\",\"name\":\"Ada\"}".getBytes(StandardCharsets.UTF_8));
+        var nested = TemplateVariables.fromJson("{\"order\":{\"$payload\":\"x\"}}".getBytes(StandardCharsets.UTF_8));
+
+        // When / Then - only the top-level key is reserved, and the map is never built
+        var error = assertThrows(IllegalArgumentException.class, () -> LogVariablesPolicy.requireNoReservedKey(reserved));
+        assertTrue(error.getMessage().contains("$payload"));
+        assertThrows(IllegalArgumentException.class,
+            () -> LogVariablesPolicy.requireNoReservedKey(TemplateVariables.of(Map.of("$payload", "x"))));
+        assertDoesNotThrow(() -> LogVariablesPolicy.requireNoReservedKey(nested));
+        assertDoesNotThrow(() -> LogVariablesPolicy.requireNoReservedKey(null));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed template modes at startup")
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> policy("FULL", "otp-login", "", DataSize.ofKilobytes(16)));
+        assertThrows(IllegalArgumentException.class, () -> policy("ENCRYPTED", "", "", DataSize.ofKilobytes(16)));
+    }
+
+    @Test
+    @DisplayName("Should refuse HASHED at startup without a hash key of at least 32 bytes")
+    void shouldRequireHashKeyForHashed() {
+        var threshold = DataSize.ofKilobytes(16);
+        assertThrows(IllegalStateException.class,
+            () -> new LogVariablesPolicy(objectMapper, "HASHED", "", "", "", threshold));
+        assertThrows(IllegalStateException.class,
+            () -> new LogVariablesPolicy(objectMapper, "FULL", "invoice=HASHED", "", "too-short", threshold));
+        assertDoesNotThrow(() -> new LogVariablesPolicy(objectMapper, "REDACTED", "", "", "", threshold));
+    }
+
+    private LogVariablesPolicy policy(String mode, String templateModes, String sensitiveKeys, DataSize offloadThreshold) {
+        return new LogVariablesPolicy(objectMapper, mode, templateModes, sensitiveKeys, HASH_KEY, offloadThreshold);
+    }
+}
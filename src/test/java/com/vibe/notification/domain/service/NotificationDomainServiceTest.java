@@ -0,0 +1,352 @@
+package com.vibe.notification.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.DeliveryStatsKey;
+import com.vibe.notification.domain.model.NotificationRequest;
+import com.vibe.notification.domain.model.NotificationStatus;
+import com.vibe.notification.domain.port.DeliveryStatsPort;
+import com.vibe.notification.domain.port.InflightNotificationPort;
+import com.vibe.notification.domain.port.InflightNotificationPort.InflightNotification;
+import com.vibe.notification.domain.port.LogPayloadPort;
+import com.vibe.notification.domain.port.NotificationLogPort;
+import com.vibe.notification.domain.model.TemplateVariables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Domain Service Tests")
+class NotificationDomainServiceTest {
+    private static final DeliveryStatsKey STATS_KEY = new DeliveryStatsKey(Channel.EMAIL, "welcome", "billing-app");
+
+    @Mock
+    private NotificationLogPort notificationLogPort;
+
+    @Mock
+    private DeliveryStatsPort deliveryStatsPort;
+
+    @Mock
+    private LogPayloadPort logPayloadPort;
+
+    @Mock
+    private InflightNotificationPort inflightPort;
+
+    private NotificationStatusCache statusCache;
+    private NotificationDomainService service;
+
+    @BeforeEach
+    void setUp() {
+        statusCache = new NotificationStatusCache(100, Duration.ofMinutes(5), Duration.ofMinutes(5));
+        var retryPolicy = new NotificationRetryPolicy(3, Duration.ofSeconds(10), 2.0, Duration.ofMinutes(10), 0.0);
+        service = new NotificationDomainService(notificationLogPort, new ObjectMapper(), statusCache, retryPolicy,
+            new UuidV7IdGenerator(), deliveryStatsPort,
+            new LogVariablesPolicy(new ObjectMapper(), "FULL", "otp-login=REDACTED", "code", "", DataSize.ofKilobytes(16)),
+            logPayloadPort, inflightPort);
+    }
+
+    @Test
+    @DisplayName("Should mark as sent with one conditional update and patch the cached status")
+    void shouldMarkAsSentWithoutReading() {
+        // Given
+        var log = pendingLog(0);
+        statusCache.put(log);
+        when(notificationLogPort.completeIfPending(eq(log.getId()), eq("SUCCESS"), isNull(), any())).thenReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        boolean applied = service.markAsSent(log.getId(), STATS_KEY).join();
+
+        // Then
+        assertTrue(applied);
+        verify(deliveryStatsPort).recordOutcome(eq(STATS_KEY), eq(NotificationStatus.SUCCESS), any());
+        verify(notificationLogPort, never()).findById(any());
+        verify(notificationLogPort, never()).insert(any());
+        var cached = statusCache.get(log.getId()).orElseThrow();
+        assertEquals("SUCCESS", cached.getStatus());
+        assertNotNull(cached.getSentAt());
+        assertEquals(log.getVariables(), cached.getVariables());
+    }
+
+    @Test
+    @DisplayName("Should report a lost transition when the log is no longer PENDING")
+    void shouldDetectLostTransition() {
+        // Given
+        var log = pendingLog(0);
+        statusCache.put(log);
+        when(notificationLogPort.completeIfPending(eq(log.getId()), eq("FAILED"), eq("boom"), any())).thenReturn(CompletableFuture.completedFuture(false));
+
+        // When
+        boolean applied = service.markAsFailed(log.getId(), STATS_KEY, "boom").join();
+
+        // Then - a transition that was not applied is not counted
+        assertFalse(applied);
+        verifyNoInteractions(deliveryStatsPort);
+        assertTrue(statusCache.get(log.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count and patch the cached status only once a batched transition is written")
+    void shouldWaitForBatchedTransition() {
+        // Given
+        var log = pendingLog(0);
+        statusCache.put(log);
+        var written = new CompletableFuture<Boolean>();
+        when(notificationLogPort.completeIfPending(eq(log.getId()), eq("SUCCESS"), isNull(), any())).thenReturn(written);
+
+        // When
+        var applied = service.markAsSent(log.getId(), STATS_KEY);
+
+        // Then - nothing is counted while the transition is queued
+        assertFalse(applied.isDone());
+        verifyNoInteractions(deliveryStatsPort);
+        assertEquals("PENDING", statusCache.get(log.getId()).orElseThrow().getStatus());
+
+        // When - the flush confirms the transition
+        written.complete(true);
+
+        // Then
+        assertTrue(applied.join());
+        verify(deliveryStatsPort).recordOutcome(eq(STATS_KEY), eq(NotificationStatus.SUCCESS), any());
+        assertEquals("SUCCESS", statusCache.get(log.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reschedule only while the attempt count is unchanged")
+    void shouldRescheduleConditionally() {
+        // Given
+        var log = pendingLog(1);
+        when(notificationLogPort.findById(log.getId())).thenReturn(Optional.of(log));
+        when(notificationLogPort.rescheduleIfPending(eq(log.getId()), eq(1), eq("timeout"), any())).thenReturn(true);
+
+        // When
+        boolean scheduled = service.scheduleRetry(log.getId(), "timeout");
+
+        // Then
+        assertTrue(scheduled);
+        verify(notificationLogPort, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("Should not reschedule once attempts are exhausted")
+    void shouldNotRescheduleWithoutAttemptsLeft() {
+        // Given
+        var log = pendingLog(2);
+        when(notificationLogPort.findById(log.getId())).thenReturn(Optional.of(log));
+
+        // When
+        boolean scheduled = service.scheduleRetry(log.getId(), "timeout");
+
+        // Then
+        assertFalse(scheduled);
+        verify(notificationLogPort, never()).rescheduleIfPending(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep a delivery copy of redacted variables and render retries from it")
+    @SuppressWarnings("unchecked")
+    void shouldRebuildRedactedVariablesFromDeliveryCopy() {
+        // Given
+        var request = new NotificationRequest("user@example.com", "otp-login", "en", Channel.EMAIL,
+            TemplateVariables.of(Map.of("name", "Ada", "code", "123456")), null);
+        when(notificationLogPort.insert(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        var log = service.createPendingLog(request, UUID.randomUUID(), LocalDateTime.now());
+
+        // Then - the log row never sees the code, the side store keeps it for delivery
+        assertEquals("[REDACTED]", log.getVariables().get("code").asText());
+        assertEquals("Ada", log.getVariables().get("name").asText());
+        var payloads = ArgumentCaptor.forClass(List.class);
+        verify(logPayloadPort).storeAll(payloads.capture());
+        var payload = (LogPayloadPort.Payload) payloads.getValue().get(0);
+        assertEquals(LogPayloadPort.Kind.DELIVERY_COPY, payload.kind());
+        assertEquals(log.getId(), payload.logId());
+
+        // When - an outbox worker or retry rebuilds the request
+        when(logPayloadPort.find(log.getId())).thenReturn(Optional.of(payload.json()));
+        var rebuilt = service.toNotificationRequest(log);
+
+        // Then
+        assertEquals(request.variables(), rebuilt.variables());
+    }
+
+    @Test
+    @DisplayName("Should store full variables inline without a side store write")
+    void shouldStoreFullVariablesInline() {
+        // Given
+        var request = new NotificationRequest("user@example.com", "welcome", "en", Channel.EMAIL,
+            TemplateVariables.of(Map.of("name", "Ada")), null);
+        when(notificationLogPort.insert(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        var log = service.createPendingLog(request, UUID.randomUUID(), LocalDateTime.now());
+
+        // Then
+        assertEquals("{\"name\":\"Ada\"}", log.getVariables().toString());
+        verifyNoInteractions(logPayloadPort);
+    }
+
+    @Test
+    @DisplayName("Should fail to rebuild when the delivery copy is gone")
+    void shouldFailRebuildWithoutDeliveryCopy() {
+        // Given
+        var log = pendingLog(0);
+        var stored = new ObjectMapper().createObjectNode().put("code", "[REDACTED]").put("$payload", "delivery-copy");
+        var redacted = new NotificationLogDTO(log.getId(), log.getTraceId(), "otp-login", "en", "EMAIL",
+            "user@example.com", stored, "PENDING", null, null, log.getCreatedAt(), log.getCreatedAt());
+        when(logPayloadPort.find(log.getId())).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> service.toNotificationRequest(redacted));
+    }
+
+    @Test
+    @DisplayName("Should write the log of an in-flight notification once, with its final status")
+    void shouldCompleteInflightWithSingleInsert() {
+        // Given
+        var inflight = inflight("welcome", Map.of("name", "Ada"), LocalDateTime.now());
+        when(notificationLogPort.insertIfAbsent(any())).thenReturn(true);
+
+        // When
+        boolean applied = service.completeInflight(inflight, NotificationStatus.SUCCESS, null).join();
+
+        // Then
+        assertTrue(applied);
+        var captor = ArgumentCaptor.forClass(NotificationLogDTO.class);
+        verify(notificationLogPort).insertIfAbsent(captor.capture());
+        var log = captor.getValue();
+        assertEquals(inflight.logId(), log.getId());
+        assertEquals(inflight.createdAt(), log.getCreatedAt());
+        assertEquals("SUCCESS", log.getStatus());
+        assertNotNull(log.getSentAt());
+        assertEquals("{\"name\":\"Ada\"}", log.getVariables().toString());
+        verify(notificationLogPort, never()).completeIfPending(any(), any(), any(), any());
+        verify(deliveryStatsPort).recordOutcome(eq(DeliveryStatsKey.of(inflight.request())), eq(NotificationStatus.SUCCESS), any());
+        verify(inflightPort).remove(inflight.logId());
+        assertEquals("SUCCESS", statusCache.get(inflight.logId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should complete the recovered PENDING log when the in-flight log already exists")
+    void shouldCompleteRecoveredInflightLog() {
+        // Given
+        var inflight = inflight("welcome", Map.of("name", "Ada"), LocalDateTime.now());
+        when(notificationLogPort.insertIfAbsent(any())).thenReturn(false);
+        when(notificationLogPort.completeIfPending(eq(inflight.logId()), eq("FAILED"), eq("bounced"), any())).thenReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        boolean applied = service.completeInflight(inflight, NotificationStatus.FAILED, "bounced").join();
+
+        // Then
+        assertTrue(applied);
+        verify(deliveryStatsPort).recordOutcome(any(), eq(NotificationStatus.FAILED), any());
+        verify(inflightPort).remove(inflight.logId());
+    }
+
+    @Test
+    @DisplayName("Should not keep a delivery copy for a redacted log written as final")
+    void shouldNotStoreDeliveryCopyForFinalInflightLog() {
+        // Given
+        var inflight = inflight("otp-login", Map.of("code", "123456"), LocalDateTime.now());
+        when(notificationLogPort.insertIfAbsent(any())).thenReturn(true);
+
+        // When
+        service.completeInflight(inflight, NotificationStatus.SUCCESS, null);
+
+        // Then
+        verifyNoInteractions(logPayloadPort);
+    }
+
+    @Test
+    @DisplayName("Should write an in-flight notification that failed transiently as PENDING with a retry due")
+    void shouldScheduleInflightRetry() {
+        // Given
+        var inflight = inflight("otp-login", Map.of("code", "123456"), LocalDateTime.now());
+        when(notificationLogPort.insertIfAbsent(any())).thenReturn(true);
+
+        // When
+        boolean scheduled = service.scheduleInflightRetry(inflight, "provider unavailable");
+
+        // Then
+        assertTrue(scheduled);
+        var captor = ArgumentCaptor.forClass(NotificationLogDTO.class);
+        verify(notificationLogPort).insertIfAbsent(captor.capture());
+        var log = captor.getValue();
+        assertEquals("PENDING", log.getStatus());
+        assertEquals(1, log.getAttemptCount());
+        assertTrue(log.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        // The retry has to render the message again
+        verify(logPayloadPort).storeAll(argThat(payloads -> payloads.get(0).kind() == LogPayloadPort.Kind.DELIVERY_COPY));
+        verify(inflightPort).remove(inflight.logId());
+    }
+
+    @Test
+    @DisplayName("Should turn markers left behind by a crash into PENDING logs and drop them")
+    void shouldRecoverStaleInflight() {
+        // Given
+        var createdAt = LocalDateTime.now().minusMinutes(10);
+        var lost = inflight("welcome", Map.of("name", "Ada"), createdAt);
+        var written = inflight("welcome", Map.of("name", "Bob"), createdAt);
+        when(inflightPort.findCreatedBefore(any(), eq(50))).thenReturn(List.of(lost, written));
+        when(notificationLogPort.insertIfAbsent(argThat(log -> log != null && log.getId().equals(lost.logId())))).thenReturn(true);
+
+        // When
+        int recovered = service.recoverInflight(Duration.ofMinutes(5), 50);
+
+        // Then
+        assertEquals(2, recovered);
+        var captor = ArgumentCaptor.forClass(NotificationLogDTO.class);
+        verify(notificationLogPort, times(2)).insertIfAbsent(captor.capture());
+        assertEquals("PENDING", captor.getAllValues().get(0).getStatus());
+        assertEquals(0, captor.getAllValues().get(0).getAttemptCount());
+        assertEquals(createdAt, captor.getAllValues().get(0).getCreatedAt());
+        verify(inflightPort).remove(lost.logId());
+        verify(inflightPort).remove(written.logId());
+        verifyNoInteractions(deliveryStatsPort);
+    }
+
+    private static InflightNotification inflight(String slug, Map<String, Object> variables, LocalDateTime createdAt) {
+        var request = new NotificationRequest("user@example.com", slug, "en", Channel.EMAIL,
+            TemplateVariables.of(variables), "client-1");
+        return new InflightNotification(UUID.randomUUID(), UUID.randomUUID(), request, createdAt);
+    }
+
+    private static NotificationLogDTO pendingLog(int attemptCount) {
+        var now = LocalDateTime.now();
+        return new NotificationLogDTO(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            "welcome",
+            "en",
+            "EMAIL",
+            "user@example.com",
+            new ObjectMapper().createObjectNode().put("name", "Ada"),
+            NotificationStatus.PENDING.name(),
+            null,
+            null,
+            now,
+            now,
+            "client-1",
+            now,
+            attemptCount
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.vibe.notification.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Notification Retry Policy Tests")
+class NotificationRetryPolicyTest {
+
+    @Test
+    @DisplayName("Should back off exponentially up to the max delay")
+    void shouldBackOffExponentially() {
+        var policy = new NotificationRetryPolicy(5, Duration.ofSeconds(10), 2.0, Duration.ofSeconds(30), 0.0);
+
+        assertEquals(Duration.ofSeconds(10), policy.nextDelay(1).orElseThrow());
+        assertEquals(Duration.ofSeconds(20), policy.nextDelay(2).orElseThrow());
+        assertEquals(Duration.ofSeconds(30), policy.nextDelay(3).orElseThrow());
+        assertEquals(Duration.ofSeconds(30), policy.nextDelay(4).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should stop retrying once max attempts are used")
+    void shouldStopAfterMaxAttempts() {
+        var policy = new NotificationRetryPolicy(4, Duration.ofSeconds(10), 2.0, Duration.ofMinutes(10), 0.2);
+
+        assertTrue(policy.nextDelay(3).isPresent());
+        assertTrue(policy.nextDelay(4).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep jittered delays within the configured spread")
+    void shouldApplyJitterWithinBounds() {
+        var policy = new NotificationRetryPolicy(4, Duration.ofSeconds(10), 2.0, Duration.ofMinutes(10), 0.2);
+
+        for (int i = 0; i < 100; i++) {
+            long delayMs = policy.nextDelay(1).orElseThrow().toMillis();
+            assertTrue(delayMs >= 8_000 && delayMs <= 12_000, "delay out of bounds: " + delayMs);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.vibe.notification.domain.service;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.model.NotificationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Notification Status Cache Tests")
+class NotificationStatusCacheTest {
+
+    @Test
+    @DisplayName("Should return cached log by log ID and trace ID")
+    void shouldReturnCachedLogByLogIdAndTraceId() {
+        var cache = new NotificationStatusCache(10, Duration.ofMinutes(5), Duration.ofMinutes(5));
+        var log = log(NotificationStatus.SUCCESS);
+
+        cache.put(log);
+
+        assertSame(log, cache.get(log.getId()).orElseThrow());
+        assertSame(log, cache.getByTraceId(log.getTraceId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entry when full")
+    void shouldEvictLeastRecentlyUsedEntry() {
+        var cache = new NotificationStatusCache(2, Duration.ofMinutes(5), Duration.ofMinutes(5));
+        var first = log(NotificationStatus.SUCCESS);
+        var second = log(NotificationStatus.SUCCESS);
+        var third = log(NotificationStatus.SUCCESS);
+
+        cache.put(first);
+        cache.put(second);
+        cache.get(first.getId());
+        cache.put(third);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(first.getId()).isPresent());
+        assertTrue(cache.get(second.getId()).isEmpty());
+        assertTrue(cache.getByTraceId(second.getTraceId()).isEmpty());
+        assertTrue(cache.get(third.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should expire pending entries using the pending TTL")
+    void shouldExpirePendingEntries() {
+        var cache = new NotificationStatusCache(10, Duration.ofMinutes(5), Duration.ZERO);
+        var pending = log(NotificationStatus.PENDING);
+        var sent = log(NotificationStatus.SUCCESS);
+
+        cache.put(pending);
+        cache.put(sent);
+
+        assertTrue(cache.get(pending.getId()).isEmpty());
+        assertTrue(cache.get(sent.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should not cache anything when max size is zero")
+    void shouldNotCacheWhenDisabled() {
+        var cache = new NotificationStatusCache(0, Duration.ofMinutes(5), Duration.ofMinutes(5));
+        var log = log(NotificationStatus.SUCCESS);
+
+        cache.put(log);
+
+        assertTrue(cache.get(log.getId()).isEmpty());
+    }
+
+    private NotificationLogDTO log(NotificationStatus status) {
+        return new NotificationLogDTO(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            "welcome",
+            "en",
+            "EMAIL",
+            "john@example.com",
+            null,
+            status.name(),
+            null,
+            null,
+            LocalDateTime.now(),
+            LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.vibe.notification.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UUIDv7 ID Generator Tests")
+class UuidV7IdGeneratorTest {
+
+    @Test
+    @DisplayName("Should set version 7, the RFC variant and the millisecond timestamp")
+    void shouldEncodeVersionVariantAndTimestamp() {
+        var instant = Instant.parse("2026-01-15T10:30:00.123Z");
+        var generator = new UuidV7IdGenerator(Clock.fixed(instant, ZoneOffset.UTC));
+
+        UUID id = generator.nextId();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(instant.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("Should order IDs of later milliseconds after earlier ones")
+    void shouldBeTimeOrdered() {
+        var earlier = new UuidV7IdGenerator(Clock.fixed(Instant.ofEpochMilli(1_000), ZoneOffset.UTC)).nextId();
+        var later = new UuidV7IdGenerator(Clock.fixed(Instant.ofEpochMilli(1_001), ZoneOffset.UTC)).nextId();
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(earlier.toString().compareTo(later.toString()) < 0);
+    }
+
+    @Test
+    @DisplayName("Should not repeat IDs within the same millisecond")
+    void shouldBeUniqueWithinMillisecond() {
+        var generator = new UuidV7IdGenerator(Clock.fixed(Instant.ofEpochMilli(1_000), ZoneOffset.UTC));
+        var ids = new HashSet<UUID>();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(ids.add(generator.nextId()));
+        }
+    }
+}
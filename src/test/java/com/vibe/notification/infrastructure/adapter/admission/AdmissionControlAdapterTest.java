@@ -0,0 +1,160 @@
+package com.vibe.notification.infrastructure.adapter.admission;
+
+import com.vibe.notification.domain.exception.NotificationException;
+import com.vibe.notification.domain.model.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdmissionControlAdapter and ProviderBulkhead
+ */
+@DisplayName("Admission Control Adapter Tests")
+class AdmissionControlAdapterTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private ProviderBulkhead bulkhead;
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource dataSource;
+    private AdmissionControlAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = mock(ThreadPoolTaskExecutor.class);
+        when(executor.getQueueCapacity()).thenReturn(10);
+        when(executor.getQueueSize()).thenReturn(0);
+
+        dataSource = mock(DataSource.class);
+        when(dataSource.isWrapperFor(any())).thenReturn(false);
+
+        bulkhead = new ProviderBulkhead(1, Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = adapter(bulkhead);
+    }
+
+    @Test
+    @DisplayName("Should admit when nothing is saturated")
+    void shouldAdmitWhenIdle() {
+        // When
+        var decision = adapter.evaluate(Channel.EMAIL);
+
+        // Then
+        assertTrue(decision.admitted());
+    }
+
+    @Test
+    @DisplayName("Should reject when the executor queue is above the utilization threshold")
+    void shouldRejectWhenQueueSaturated() {
+        // Given
+        when(executor.getQueueSize()).thenReturn(9);
+
+        // When
+        var decision = adapter.evaluate(Channel.EMAIL);
+
+        // Then
+        assertFalse(decision.admitted());
+        assertEquals("executor-queue", decision.reason());
+        assertEquals(5, decision.retryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("notification.admission.rejected", "reason", "executor-queue").count());
+    }
+
+    @Test
+    @DisplayName("Should report saturation without counting a rejection")
+    void shouldProbeWithoutSideEffects() {
+        // Given
+        when(executor.getQueueSize()).thenReturn(9);
+
+        // When & Then
+        assertTrue(adapter.isSaturated(Channel.EMAIL));
+        assertNull(meterRegistry.find("notification.admission.rejected").counter());
+    }
+
+    @Test
+    @DisplayName("Should admit while the provider bulkhead is fully used but nobody waits")
+    void shouldAdmitWhenBulkheadBusy() throws Exception {
+        // Given - the single EMAIL permit is held by an in-flight call
+        var release = new CountDownLatch(1);
+        var inFlight = holdPermit(bulkhead, Channel.EMAIL, release);
+
+        try {
+            // When & Then
+            assertTrue(adapter.evaluate(Channel.EMAIL).admitted());
+            assertThrows(NotificationException.class, () -> bulkhead.execute(Channel.EMAIL, () -> "sent"));
+        } finally {
+            release.countDown();
+            inFlight.join();
+        }
+        assertEquals(1, bulkhead.availablePermits(Channel.EMAIL));
+    }
+
+    @Test
+    @DisplayName("Should reject only the channel whose provider bulkhead has callers waiting")
+    void shouldRejectWhenBulkheadQueued() throws Exception {
+        // Given - the single EMAIL permit is held and another call waits for it
+        var waitingBulkhead = new ProviderBulkhead(1, Duration.ofSeconds(5));
+        var waitingAdapter = adapter(waitingBulkhead);
+        var release = new CountDownLatch(1);
+        var inFlight = holdPermit(waitingBulkhead, Channel.EMAIL, release);
+        var waiting = new Thread(() -> waitingBulkhead.execute(Channel.EMAIL, () -> "sent"));
+        waiting.start();
+
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (waitingBulkhead.queuedCallers(Channel.EMAIL) == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            // When & Then
+            assertEquals("provider-bulkhead", waitingAdapter.evaluate(Channel.EMAIL).reason());
+            assertTrue(waitingAdapter.evaluate(Channel.WHATSAPP).admitted());
+        } finally {
+            release.countDown();
+            inFlight.join();
+            waiting.join();
+        }
+        assertEquals(1, waitingBulkhead.availablePermits(Channel.EMAIL));
+    }
+
+    @Test
+    @DisplayName("Should admit everything when disabled")
+    void shouldAdmitWhenDisabled() {
+        // Given
+        when(executor.getQueueSize()).thenReturn(10);
+        var disabled = new AdmissionControlAdapter(executor, bulkhead, mock(DataSource.class),
+                meterRegistry, false, 0.9, 10, 0, Duration.ofSeconds(5));
+
+        // When & Then
+        assertTrue(disabled.evaluate(Channel.EMAIL).admitted());
+    }
+
+    private AdmissionControlAdapter adapter(ProviderBulkhead providerBulkhead) {
+        return new AdmissionControlAdapter(executor, providerBulkhead, dataSource, meterRegistry,
+                true, 0.9, 10, 0, Duration.ofSeconds(5));
+    }
+
+    private static Thread holdPermit(ProviderBulkhead providerBulkhead, Channel channel, CountDownLatch release)
+            throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var holder = new Thread(() -> providerBulkhead.execute(channel, () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return holder;
+    }
+}
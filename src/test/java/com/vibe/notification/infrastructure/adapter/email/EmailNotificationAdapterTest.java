@@ -0,0 +1,42 @@
+package com.vibe.notification.infrastructure.adapter.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+import java.net.ConnectException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Email Notification Adapter - SMTP Failure Classification Tests")
+class EmailNotificationAdapterTest {
+
+    @Test
+    @DisplayName("Should treat a 5xx recipient rejection as permanent")
+    void shouldClassifyRejectedRecipientAsPermanent() throws Exception {
+        var rejected = new SMTPAddressFailedException(new InternetAddress("nobody@example.com"),
+            "RCPT TO", 550, "550 5.1.1 User unknown");
+
+        assertTrue(EmailNotificationAdapter.isPermanentSmtpFailure(new MailSendException("send failed", rejected)));
+    }
+
+    @Test
+    @DisplayName("Should treat a 4xx reply as transient")
+    void shouldClassifyTemporaryReplyAsTransient() {
+        var busy = new SMTPSendFailedException("DATA", 451, "451 4.3.0 Try again later", null, null, null, null);
+
+        assertFalse(EmailNotificationAdapter.isPermanentSmtpFailure(new MailSendException("send failed", busy)));
+    }
+
+    @Test
+    @DisplayName("Should treat connection failures as transient")
+    void shouldClassifyConnectionFailureAsTransient() {
+        var connectionFailure = new MessagingException("Couldn't connect to host", new ConnectException("Connection refused"));
+
+        assertFalse(EmailNotificationAdapter.isPermanentSmtpFailure(new MailSendException("send failed", connectionFailure)));
+    }
+}
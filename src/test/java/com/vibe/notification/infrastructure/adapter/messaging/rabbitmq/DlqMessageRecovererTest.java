@@ -0,0 +1,86 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibe.notification.domain.model.NotificationStatus;
+import com.vibe.notification.domain.model.NotificationStatusEvent;
+import com.vibe.notification.domain.port.NotificationStatusProducer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DlqMessageRecoverer.
+ */
+@ExtendWith(MockitoExtension.class)
+class DlqMessageRecovererTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private NotificationStatusProducer notificationStatusProducer;
+
+    @Test
+    void shouldPublishRetryExhaustedForSingleRequest() {
+        var recoverer = new DlqMessageRecoverer(rabbitTemplate, "notification.dl", "notification.dl",
+                RabbitMqConfiguration.NOTIFICATION_REQUEST, notificationStatusProducer, objectMapper);
+        Message message = message("""
+                {"traceId":"trace-1","recipient":"user@example.com","slug":"welcome","language":"en","channel":"EMAIL","variables":{}}
+                """);
+
+        recoverer.recover(message, new RuntimeException("Template not found"));
+
+        var event = ArgumentCaptor.forClass(NotificationStatusEvent.class);
+        verify(notificationStatusProducer).publishStatus(event.capture());
+        assertEquals(NotificationStatus.RETRY_EXHAUSTED, event.getValue().status());
+        assertEquals(RabbitMqConfiguration.NOTIFICATION_REQUEST, message.getMessageProperties().getHeader("x-original-queue"));
+        verify(rabbitTemplate).send("notification.dl", "notification.dl", message);
+    }
+
+    @Test
+    void shouldNotPublishStatusForMessageWithoutTraceId() {
+        var recoverer = new DlqMessageRecoverer(rabbitTemplate, "notification.dl", "notification.dl",
+                RabbitMqConfiguration.NOTIFICATION_REQUEST, notificationStatusProducer, objectMapper);
+        Message message = message("""
+                {"slug":"welcome","language":"en","channel":"EMAIL","recipients":[{"recipient":"user@example.com"}]}
+                """);
+
+        recoverer.recover(message, new RuntimeException("Unexpected"));
+
+        verifyNoInteractions(notificationStatusProducer);
+        verify(rabbitTemplate).send("notification.dl", "notification.dl", message);
+    }
+
+    @Test
+    void shouldDeadLetterEnvelopeMarkedWithEnvelopeQueue() {
+        var recoverer = new DlqMessageRecoverer(rabbitTemplate, "notification.dl", "notification.dl",
+                RabbitMqConfiguration.NOTIFICATION_REQUEST_ENVELOPE);
+        Message message = message("{\"slug\":\"welcome\",\"recipients\":[]}");
+
+        recoverer.recover(message, new RuntimeException("Validation failed: recipients are required"));
+
+        assertEquals(RabbitMqConfiguration.NOTIFICATION_REQUEST_ENVELOPE,
+                message.getMessageProperties().getHeader("x-original-queue"));
+        assertEquals("Validation failed: recipients are required",
+                message.getMessageProperties().getHeader("x-last-error"));
+        verify(rabbitTemplate).send("notification.dl", "notification.dl", message);
+    }
+
+    private Message message(String body) {
+        return new Message(body.getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
+}
@@ -0,0 +1,102 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Adapter Tests")
+class IdempotencyAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new IdempotencyAdapter(jdbcTemplate, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should claim a new key with a single insert")
+    void shouldClaimNewKey() {
+        // Given
+        when(jdbcTemplate.update(contains("ON CONFLICT (trace_id) DO NOTHING"), eq("trace-1"))).thenReturn(1);
+
+        // When & Then
+        assertTrue(adapter.tryClaim("trace-1"));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should not claim a key that was claimed before")
+    void shouldNotClaimExistingKey() {
+        // Given
+        when(jdbcTemplate.update(anyString(), eq("trace-1"))).thenReturn(0);
+
+        // When & Then
+        assertFalse(adapter.tryClaim("trace-1"));
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated claim from the local cache")
+    void shouldAnswerRepeatedClaimFromCache() {
+        // Given
+        when(jdbcTemplate.update(anyString(), eq("trace-1"))).thenReturn(1);
+        adapter.tryClaim("trace-1");
+
+        // When & Then
+        assertFalse(adapter.tryClaim("trace-1"));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+        assertEquals(1.0, meterRegistry.counter("notification.idempotency.cache", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("Should go back to the database after a claim is released")
+    void shouldEvictReleasedClaim() {
+        // Given
+        when(jdbcTemplate.update(anyString(), eq("trace-1"))).thenReturn(1);
+        adapter.tryClaim("trace-1");
+
+        // When
+        adapter.releaseClaim("trace-1");
+
+        // Then
+        assertTrue(adapter.tryClaim("trace-1"));
+    }
+
+    @Test
+    @DisplayName("Should skip the database for an empty batch")
+    void shouldSkipEmptyBatch() {
+        // When & Then
+        assertTrue(adapter.tryClaimAll(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should not propagate a failed release")
+    void shouldSwallowReleaseFailure() {
+        // Given
+        when(jdbcTemplate.update(startsWith("DELETE"), eq("trace-1")))
+            .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        // When & Then
+        assertDoesNotThrow(() -> adapter.releaseClaim("trace-1"));
+    }
+}
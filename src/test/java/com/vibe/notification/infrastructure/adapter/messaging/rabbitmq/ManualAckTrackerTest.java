@@ -0,0 +1,136 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Manual Ack Tracker Tests")
+class ManualAckTrackerTest {
+
+    @Mock
+    private Channel channel;
+
+    private ManualAckTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ManualAckTracker(2);
+    }
+
+    @Test
+    @DisplayName("Should ack immediately when nothing else is in flight")
+    void shouldAckWhenIdle() throws Exception {
+        // Given
+        tracker.begin(channel, 1);
+
+        // When
+        tracker.complete(channel, 1);
+
+        // Then
+        verify(channel).basicAck(1, false);
+        assertEquals(0, tracker.inFlight(channel));
+    }
+
+    @Test
+    @DisplayName("Should hold acks above the lowest in-flight tag")
+    void shouldNotAckPastInFlightTag() throws Exception {
+        // Given
+        tracker.begin(channel, 1);
+        tracker.begin(channel, 2);
+        tracker.begin(channel, 3);
+
+        // When - completions arrive out of order
+        tracker.complete(channel, 3);
+        tracker.complete(channel, 2);
+
+        // Then - tag 1 is still running, so nothing may be acked
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        // When
+        tracker.complete(channel, 1);
+
+        // Then - one multi-ack covers all three
+        verify(channel).basicAck(3, true);
+    }
+
+    @Test
+    @DisplayName("Should multi-ack once a batch of completed tags is ackable")
+    void shouldAckInBatches() throws Exception {
+        // Given
+        tracker.begin(channel, 1);
+        tracker.begin(channel, 2);
+        tracker.begin(channel, 3);
+
+        // When
+        tracker.complete(channel, 1);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        tracker.complete(channel, 2);
+
+        // Then
+        verify(channel).basicAck(2, true);
+        assertEquals(1, tracker.inFlight(channel));
+    }
+
+    @Test
+    @DisplayName("Should nack a rejected delivery and keep acking the rest")
+    void shouldNackRejectedDelivery() throws Exception {
+        // Given
+        tracker.begin(channel, 1);
+        tracker.begin(channel, 2);
+        tracker.complete(channel, 2);
+
+        // When
+        tracker.reject(channel, 1, true);
+
+        // Then
+        verify(channel).basicNack(1, false, true);
+        verify(channel).basicAck(2, false);
+    }
+
+    @Test
+    @DisplayName("Should forget a closed channel when the ack fails")
+    void shouldDiscardClosedChannel() throws Exception {
+        // Given
+        tracker.begin(channel, 1);
+        doThrow(new IOException("channel closed")).doNothing().when(channel).basicAck(anyLong(), anyBoolean());
+        when(channel.isOpen()).thenReturn(false);
+
+        // When
+        tracker.complete(channel, 1);
+        tracker.begin(channel, 2);
+        tracker.complete(channel, 2);
+
+        // Then - the failed tag is not acked again as part of a multi-ack
+        verify(channel).basicAck(2, false);
+        verify(channel, never()).basicAck(2, true);
+    }
+
+    @Test
+    @DisplayName("Should stop tracking a channel once all its deliveries are acked")
+    void shouldForgetDrainedChannel() throws Exception {
+        // Given
+        tracker.begin(channel, 1);
+        tracker.begin(channel, 2);
+        tracker.complete(channel, 2);
+        assertEquals(1, tracker.trackedChannels());
+
+        // When
+        tracker.complete(channel, 1);
+
+        // Then
+        verify(channel).basicAck(2, true);
+        assertEquals(0, tracker.trackedChannels());
+    }
+}
@@ -0,0 +1,116 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.vibe.notification.application.NotificationApplicationService;
+import com.vibe.notification.domain.exception.TemplateNotFoundException;
+import com.vibe.notification.domain.service.TemplateResolutionService;
+import com.vibe.notification.domain.model.TemplateVariables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Envelope Listener Tests")
+class NotificationEnvelopeListenerTest {
+
+    @Mock
+    private NotificationApplicationService notificationApplicationService;
+
+    @Mock
+    private TemplateResolutionService templateResolutionService;
+
+    @Mock
+    private MessageRecoverer recoverer;
+
+    @Mock
+    private Channel channel;
+
+    private NotificationEnvelopeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new NotificationEnvelopeListener(notificationApplicationService, templateResolutionService,
+            new Jackson2JsonMessageConverter(new ObjectMapper()), recoverer, new ManualAckTracker(10),
+            AcknowledgeMode.AUTO, 2, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should expand an envelope into chunks and dead-letter only invalid recipients")
+    void shouldExpandIntoChunks() {
+        // Given
+        var envelope = envelope(
+            recipient("t1", "a@example.com"),
+            recipient("t2", "b@example.com"),
+            recipient("t2", "b@example.com"),
+            recipient("t3", " "),
+            recipient("t4", "d@example.com"),
+            recipient("t5", "e@example.com"));
+
+        // When
+        listener.handleEnvelope(envelope, channel, 1);
+
+        // Then - 4 distinct valid recipients in 2 chunks of 2
+        verify(templateResolutionService, times(1)).resolveTemplate("welcome", "en", com.vibe.notification.domain.model.Channel.EMAIL);
+        verify(notificationApplicationService, times(2)).sendNotificationBatch(argThat(requests -> requests.size() == 2));
+        verify(recoverer).recover(any(Message.class), isA(AmqpRejectAndDontRequeueException.class));
+    }
+
+    @Test
+    @DisplayName("Should recover every recipient individually when the template is missing")
+    void shouldRecoverRecipientsWhenTemplateMissing() {
+        // Given
+        var missing = new TemplateNotFoundException("welcome", "en");
+        when(templateResolutionService.resolveTemplate(anyString(), anyString(), any())).thenThrow(missing);
+        var envelope = envelope(recipient("t1", "a@example.com"), recipient("t2", "b@example.com"));
+
+        // When
+        listener.handleEnvelope(envelope, channel, 1);
+
+        // Then
+        verify(recoverer, times(2)).recover(argThat(message -> new String(message.getBody()).contains("\"slug\":\"welcome\"")), eq(missing));
+        verifyNoInteractions(notificationApplicationService);
+    }
+
+    @Test
+    @DisplayName("Should reject an envelope without recipients")
+    void shouldRejectEmptyEnvelope() {
+        // Given
+        var envelope = new NotificationEnvelopeMessage("welcome", "en",
+            com.vibe.notification.domain.model.Channel.EMAIL, null, List.of());
+
+        // When & Then
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> listener.handleEnvelope(envelope, channel, 1));
+        verifyNoInteractions(templateResolutionService, notificationApplicationService);
+    }
+
+    private NotificationEnvelopeMessage envelope(NotificationEnvelopeMessage.Recipient... recipients) {
+        return new NotificationEnvelopeMessage("welcome", "en", com.vibe.notification.domain.model.Channel.EMAIL,
+            "client-a", List.of(recipients));
+    }
+
+    private NotificationEnvelopeMessage.Recipient recipient(String traceId, String address) {
+        return new NotificationEnvelopeMessage.Recipient(traceId, address, TemplateVariables.of(Map.of("name", "John")));
+    }
+}
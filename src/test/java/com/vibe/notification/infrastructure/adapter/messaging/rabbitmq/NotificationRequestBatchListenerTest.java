@@ -0,0 +1,115 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibe.notification.application.NotificationApplicationService;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
+import com.vibe.notification.domain.exception.TemplateNotFoundException;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.service.TemplateResolutionService;
+import com.vibe.notification.domain.model.TemplateVariables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Request Batch Listener Tests")
+class NotificationRequestBatchListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private NotificationApplicationService notificationApplicationService;
+
+    @Mock
+    private TemplateResolutionService templateResolutionService;
+
+    @Mock
+    private MessageRecoverer recoverer;
+
+    private NotificationRequestBatchListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new NotificationRequestBatchListener(notificationApplicationService, templateResolutionService,
+            new Jackson2JsonMessageConverter(objectMapper), recoverer);
+    }
+
+    @Test
+    @DisplayName("Should resolve each template once and send valid messages as one batch")
+    @SuppressWarnings("unchecked")
+    void shouldSendValidMessagesAsOneBatch() throws Exception {
+        // Given
+        var first = message("trace-1", "welcome");
+        var second = message("trace-2", "welcome");
+
+        // When
+        listener.handleNotificationRequests(List.of(first, second));
+
+        // Then
+        verify(templateResolutionService, times(1)).resolveTemplate("welcome", "en", Channel.EMAIL);
+        ArgumentCaptor<List<com.vibe.notification.application.dto.SendNotificationRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationApplicationService).sendNotificationBatch(captor.capture());
+        assertEquals(List.of("trace-1", "trace-2"), captor.getValue().stream().map(r -> r.traceId().orElseThrow()).toList());
+        verifyNoInteractions(recoverer);
+    }
+
+    @Test
+    @DisplayName("Should recover invalid and unresolvable messages individually")
+    void shouldRecoverFailedMessagesIndividually() throws Exception {
+        // Given
+        var invalid = message(null, "welcome");
+        var missingTemplate = message("trace-2", "missing");
+        var valid = message("trace-3", "welcome");
+        when(templateResolutionService.resolveTemplate("missing", "en", Channel.EMAIL))
+            .thenThrow(new TemplateNotFoundException("missing", "en"));
+
+        // When
+        listener.handleNotificationRequests(List.of(invalid, missingTemplate, valid));
+
+        // Then
+        verify(recoverer).recover(eq(invalid), isA(AmqpRejectAndDontRequeueException.class));
+        verify(recoverer).recover(eq(missingTemplate), isA(TemplateNotFoundException.class));
+        verify(notificationApplicationService).sendNotificationBatch(argThat(requests -> requests.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should recover every accepted message when the batch is rejected")
+    void shouldRecoverBatchOnRejection() throws Exception {
+        // Given
+        var first = message("trace-1", "welcome");
+        var second = message("trace-2", "welcome");
+        var overloaded = new ServiceOverloadedException("executor-queue", 5);
+        when(notificationApplicationService.sendNotificationBatch(anyList())).thenThrow(overloaded);
+
+        // When
+        listener.handleNotificationRequests(List.of(first, second));
+
+        // Then
+        verify(recoverer).recover(first, overloaded);
+        verify(recoverer).recover(second, overloaded);
+    }
+
+    private Message message(String traceId, String slug) throws Exception {
+        var payload = new NotificationRequestMessage(traceId, "john@example.com", slug, "en", Channel.EMAIL,
+            TemplateVariables.of(Map.of("name", "John")), null);
+        var properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(objectMapper.writeValueAsBytes(payload), properties);
+    }
+}
@@ -0,0 +1,95 @@
+package com.vibe.notification.infrastructure.adapter.messaging.rabbitmq;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TieredRetryMessageRecoverer.
+ */
+@ExtendWith(MockitoExtension.class)
+class TieredRetryMessageRecovererTest {
+
+    private static final List<String> TIERS = List.of("retry.1000ms", "retry.2000ms", "retry.4000ms");
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private MessageRecoverer dlqRecoverer;
+
+    private TieredRetryMessageRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        recoverer = new TieredRetryMessageRecoverer(rabbitTemplate, TIERS, dlqRecoverer);
+    }
+
+    @Test
+    void shouldRepublishFirstFailureToFirstTier() {
+        Message message = message(null);
+
+        recoverer.recover(message, new RuntimeException("Template not found"));
+
+        verify(rabbitTemplate).send("", "retry.1000ms", message);
+        assertEquals(1, TieredRetryMessageRecoverer.retryAttempt(message));
+        verifyNoInteractions(dlqRecoverer);
+    }
+
+    @Test
+    void shouldRepublishToNextTierUsingAttemptHeader() {
+        Message message = message(2);
+
+        recoverer.recover(message, new RuntimeException("Template not found"));
+
+        verify(rabbitTemplate).send("", "retry.4000ms", message);
+        assertEquals(3, TieredRetryMessageRecoverer.retryAttempt(message));
+    }
+
+    @Test
+    void shouldSendToDlqAfterLastTier() {
+        Message message = message(3);
+        RuntimeException cause = new RuntimeException("Template not found");
+
+        recoverer.recover(message, cause);
+
+        verify(dlqRecoverer).recover(message, cause);
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    void shouldSendNonRetryableFailuresStraightToDlq() {
+        Message message = message(null);
+        var cause = new ListenerExecutionFailedException("Listener failed",
+                new AmqpRejectAndDontRequeueException("Validation failed: trace_id is required"), message);
+
+        recoverer.recover(message, cause);
+
+        verify(dlqRecoverer).recover(eq(message), eq(cause));
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    private Message message(Integer attempt) {
+        MessageProperties properties = new MessageProperties();
+        if (attempt != null) {
+            properties.setHeader(TieredRetryMessageRecoverer.RETRY_ATTEMPT_HEADER, attempt);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+}
@@ -0,0 +1,124 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.DeliveryStatsKey;
+import com.vibe.notification.domain.model.NotificationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Hourly Delivery Stats Adapter Tests")
+class HourlyDeliveryStatsAdapterTest {
+    private static final DeliveryStatsKey WELCOME = new DeliveryStatsKey(Channel.EMAIL, "welcome", null);
+    private static final DeliveryStatsKey RESET = new DeliveryStatsKey(Channel.WHATSAPP, "reset", "billing-app");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private HourlyDeliveryStatsAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new HourlyDeliveryStatsAdapter(jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should upsert one row per hour and key with the counts since the last flush")
+    @SuppressWarnings("unchecked")
+    void shouldFlushAggregatedCounts() throws Exception {
+        // Given
+        var now = LocalDateTime.now();
+        adapter.recordOutcome(WELCOME, NotificationStatus.SUCCESS, now);
+        adapter.recordOutcome(WELCOME, NotificationStatus.SUCCESS, now);
+        adapter.recordOutcome(WELCOME, NotificationStatus.FAILED, now);
+        adapter.recordOutcome(RESET, NotificationStatus.FAILED, now);
+
+        // When
+        int rows = adapter.flush();
+
+        // Then
+        assertEquals(2, rows);
+        var batch = ArgumentCaptor.forClass(List.class);
+        var setter = ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT"), batch.capture(), eq(2), setter.capture());
+
+        var statement = mock(PreparedStatement.class);
+        for (var row : batch.getValue()) {
+            setter.getValue().setValues(statement, row);
+        }
+        var hour = Timestamp.valueOf(now.truncatedTo(ChronoUnit.HOURS));
+        verify(statement, times(2)).setTimestamp(1, hour);
+        verify(statement).setString(3, "welcome");
+        verify(statement).setString(4, "");
+        verify(statement).setLong(5, 2L);
+        verify(statement).setString(4, "billing-app");
+        verify(statement).setLong(5, 0L);
+        verify(statement, times(2)).setLong(6, 1L);
+        assertEquals(0, adapter.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should not write anything when nothing was counted")
+    void shouldSkipEmptyFlush() {
+        adapter.recordOutcome(WELCOME, NotificationStatus.SUCCESS, LocalDateTime.now());
+        adapter.flush();
+        clearInvocations(jdbcTemplate);
+
+        assertEquals(0, adapter.flush());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should keep the counts of a failed flush for the next one")
+    void shouldRestoreCountsWhenFlushFails() {
+        // Given
+        adapter.recordOutcome(WELCOME, NotificationStatus.SUCCESS, LocalDateTime.now());
+        adapter.recordOutcome(WELCOME, NotificationStatus.FAILED, LocalDateTime.now());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), ArgumentMatchers.<ParameterizedPreparedStatementSetter<Object>>any()))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"))
+            .thenReturn(new int[][] {{1}});
+
+        // When
+        assertEquals(0, adapter.flush());
+
+        // Then
+        assertEquals(2, adapter.pendingCount());
+        assertEquals(1, adapter.flush());
+        assertEquals(0, adapter.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should write counters of past hours and then forget them")
+    void shouldEvictPastHours() {
+        // Given
+        adapter.recordOutcome(WELCOME, NotificationStatus.SUCCESS, LocalDateTime.now().minusHours(3));
+
+        // When
+        assertEquals(1, adapter.flush());
+        adapter.recordOutcome(WELCOME, NotificationStatus.SUCCESS, LocalDateTime.now());
+
+        // Then - the old bucket is gone, only the new outcome is pending
+        assertEquals(1, adapter.pendingCount());
+        assertEquals(1, adapter.flush());
+    }
+}
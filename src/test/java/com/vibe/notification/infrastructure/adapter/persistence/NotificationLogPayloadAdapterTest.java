@@ -0,0 +1,26 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Notification Log Payload Adapter Tests")
+class NotificationLogPayloadAdapterTest {
+
+    @Test
+    @DisplayName("Should compress variables and restore them byte for byte")
+    void shouldRoundTripCompressedPayload() {
+        // Given
+        var json = ("{\"items\":[" + "{\"sku\":\"ABC-123\",\"qty\":1},".repeat(200) + "{}]}").getBytes(StandardCharsets.UTF_8);
+
+        // When
+        var compressed = NotificationLogPayloadAdapter.gzip(json);
+
+        // Then
+        assertTrue(compressed.length < json.length / 10);
+        assertArrayEquals(json, NotificationLogPayloadAdapter.gunzip(compressed));
+    }
+}
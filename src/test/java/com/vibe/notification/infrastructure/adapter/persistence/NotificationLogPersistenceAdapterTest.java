@@ -0,0 +1,187 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.infrastructure.adapter.mapper.NotificationLogMapper;
+import com.vibe.notification.infrastructure.persistence.entity.NotificationLogEntity;
+import com.vibe.notification.infrastructure.persistence.repository.NotificationLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.io.StringWriter;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Log Persistence Adapter Tests")
+class NotificationLogPersistenceAdapterTest {
+
+    @Mock
+    private NotificationLogRepository repository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationLogPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new NotificationLogPersistenceAdapter(repository, new NotificationLogMapper(), jdbcTemplate,
+            meterRegistry, false, 500, Duration.ofMillis(200), 10000, 3);
+    }
+
+    @Test
+    @DisplayName("Should use batched INSERTs below the COPY threshold")
+    void shouldBatchInsertSmallBatches() {
+        // When
+        adapter.insertAll(logs(2));
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList(), eq(2), ArgumentMatchers.<ParameterizedPreparedStatementSetter<NotificationLogDTO>>any());
+        verify(jdbcTemplate, never()).execute(ArgumentMatchers.<ConnectionCallback<Long>>any());
+    }
+
+    @Test
+    @DisplayName("Should stream large batches with COPY")
+    void shouldCopyLargeBatches() {
+        // When
+        adapter.insertAll(logs(3));
+
+        // Then
+        verify(jdbcTemplate).execute(ArgumentMatchers.<ConnectionCallback<Long>>any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), ArgumentMatchers.<ParameterizedPreparedStatementSetter<NotificationLogDTO>>any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to batched INSERTs when COPY fails")
+    void shouldFallBackWhenCopyFails() {
+        // Given
+        when(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<Long>>any())).thenThrow(new DataAccessResourceFailureException("not PostgreSQL"));
+
+        // When
+        adapter.insertAll(logs(3));
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList(), eq(3), ArgumentMatchers.<ParameterizedPreparedStatementSetter<NotificationLogDTO>>any());
+        assertEquals(1.0, meterRegistry.counter("notification.logs.copy.fallback").count());
+    }
+
+    @Test
+    @DisplayName("Should encode COPY rows with quoted values and empty NULLs")
+    void shouldEncodeCsvRow() throws Exception {
+        // Given
+        var id = UUID.fromString("0192a3b4-0000-7000-8000-000000000001");
+        var traceId = UUID.fromString("0192a3b4-0000-7000-8000-000000000002");
+        var createdAt = LocalDateTime.of(2026, 1, 15, 10, 30, 0);
+        var variables = new ObjectMapper().createObjectNode().put("name", "Ada \"The\" Countess");
+        var log = new NotificationLogDTO(id, traceId, "welcome", null, "EMAIL", "user@example.com",
+            variables, "PENDING", null, null, createdAt, createdAt, "client-1", createdAt, 0);
+        var writer = new StringWriter();
+
+        // When
+        NotificationLogCopyWriter.appendRow(writer, log, LocalDateTime.now());
+
+        // Then
+        assertEquals("\"" + id + "\",\"" + traceId + "\",\"user@example.com\",\"welcome\",,\"EMAIL\","
+            + "\"{\"\"name\"\":\"\"Ada \\\"\"The\\\"\" Countess\"\"}\",\"PENDING\",,,\"client-1\","
+            + "\"2026-01-15T10:30\",\"0\",\"2026-01-15T10:30\"\n", writer.toString());
+    }
+
+    @Test
+    @DisplayName("Should bound created_at around the UUIDv7 timestamp when completing a log by id")
+    void shouldBoundCreatedAtOfUuidV7Ids() {
+        // Given
+        var generatedAt = LocalDateTime.of(2026, 3, 10, 12, 0);
+        var id = uuidV7(generatedAt);
+        var completedAt = generatedAt.plusSeconds(2);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+
+        // When
+        var applied = adapter.completeIfPending(id, "SUCCESS", null, completedAt).join();
+
+        // Then
+        assertTrue(applied);
+        verify(jdbcTemplate).update(contains("created_at BETWEEN ? AND ?"), eq("SUCCESS"), isNull(),
+            eq(Timestamp.valueOf(completedAt)), eq(id),
+            eq(Timestamp.valueOf(generatedAt.minusDays(1))), eq(Timestamp.valueOf(generatedAt.plusDays(1))));
+    }
+
+    @Test
+    @DisplayName("Should not bound created_at for ids without a timestamp")
+    void shouldNotBoundCreatedAtOfRandomIds() {
+        // When
+        var window = LogCreatedAtWindow.of(UUID.randomUUID());
+
+        // Then
+        assertTrue(window.from().toLocalDateTime().getYear() <= 1970);
+        assertTrue(window.to().toLocalDateTime().getYear() >= 9999);
+    }
+
+    @Test
+    @DisplayName("Should not insert a log whose id exists under another created_at")
+    void shouldNotInsertDuplicateId() {
+        // Given
+        var log = logs(1).get(0);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(Object[].class))).thenReturn(true);
+
+        // When
+        var inserted = adapter.insertIfAbsent(log);
+
+        // Then
+        assertFalse(inserted);
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("Should insert a log with the created_at it was given")
+    void shouldInsertWithGivenCreatedAt() {
+        // Given
+        var log = logs(1).get(0);
+        when(repository.save(any(NotificationLogEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        var saved = adapter.insert(log);
+
+        // Then
+        var entity = ArgumentCaptor.forClass(NotificationLogEntity.class);
+        verify(repository).save(entity.capture());
+        assertEquals(log.getCreatedAt(), entity.getValue().getCreatedAt());
+        assertEquals(log.getCreatedAt(), saved.getCreatedAt());
+    }
+
+    private static UUID uuidV7(LocalDateTime generatedAt) {
+        long millis = generatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new UUID((millis << 16) | 0x7000L, 0x8000000000000000L);
+    }
+
+    private static List<NotificationLogDTO> logs(int count) {
+        var now = LocalDateTime.now();
+        return IntStream.range(0, count)
+            .mapToObj(i -> new NotificationLogDTO(UUID.randomUUID(), UUID.randomUUID(), "welcome", "en", "EMAIL",
+                "user" + i + "@example.com", null, "PENDING", null, null, now, now))
+            .toList();
+    }
+}
@@ -0,0 +1,207 @@
+package com.vibe.notification.infrastructure.adapter.persistence;
+
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.infrastructure.adapter.persistence.StatusWriteBehindBuffer.StatusTransition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Status Write-Behind Buffer Tests")
+class StatusWriteBehindBufferTest {
+
+    private final List<List<StatusTransition>> batches = new CopyOnWriteArrayList<>();
+    private StatusWriteBehindBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should flush as soon as a full batch is queued")
+    void shouldFlushFullBatch() {
+        // Given
+        buffer = new StatusWriteBehindBuffer(this::write, new SimpleMeterRegistry(), 2, Duration.ofHours(1), 100);
+
+        // When
+        buffer.offer(transition());
+        buffer.offer(transition());
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> batches.size() == 1);
+        assertEquals(2, batches.get(0).size());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch once the flush interval has passed")
+    void shouldFlushOnInterval() {
+        // Given
+        buffer = new StatusWriteBehindBuffer(this::write, new SimpleMeterRegistry(), 100, Duration.ofMillis(50), 100);
+
+        // When
+        buffer.offer(transition());
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> batches.size() == 1);
+    }
+
+    @Test
+    @DisplayName("Should show queued transitions to readers until they are written")
+    void shouldOverlayUnflushedTransition() {
+        // Given
+        buffer = new StatusWriteBehindBuffer(this::write, new SimpleMeterRegistry(), 100, Duration.ofHours(1), 100);
+        var transition = transition();
+        buffer.offer(transition);
+
+        // When
+        var log = buffer.overlay(pendingLog(transition.id()));
+
+        // Then
+        assertTrue(buffer.isUnflushed(transition.id()));
+        assertEquals("SUCCESS", log.getStatus());
+        assertEquals(transition.completedAt(), log.getSentAt());
+    }
+
+    @Test
+    @DisplayName("Should refuse transitions once capacity is reached")
+    void shouldRefuseWhenFull() {
+        // Given
+        var blocked = new AtomicBoolean(true);
+        buffer = new StatusWriteBehindBuffer(batch -> {
+            if (blocked.get()) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return write(batch);
+        }, new SimpleMeterRegistry(), 2, Duration.ofHours(1), 2);
+
+        // When
+        assertTrue(buffer.offer(transition()));
+        assertTrue(buffer.offer(transition()));
+
+        // Then - the failed batch is kept and still counts against capacity
+        assertFalse(buffer.offer(transition()));
+        assertEquals(2, buffer.size());
+
+        // When - the database recovers
+        blocked.set(false);
+        buffer.close();
+
+        // Then
+        assertEquals(1, batches.size());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Should write everything that is left on close")
+    void shouldFlushOnClose() {
+        // Given
+        buffer = new StatusWriteBehindBuffer(this::write, new SimpleMeterRegistry(), 2, Duration.ofHours(1), 100);
+        var transition = transition();
+        buffer.offer(transition);
+
+        // When
+        buffer.close();
+
+        // Then
+        assertEquals(List.of(List.of(transition)), batches);
+        assertFalse(buffer.isUnflushed(transition.id()));
+    }
+
+    @Test
+    @DisplayName("Should complete each transition with its outcome once its batch is written")
+    void shouldCompleteTransitionsAfterWrite() {
+        // Given - the second log was finished elsewhere, so its UPDATE matches no row
+        buffer = new StatusWriteBehindBuffer(batch -> new int[] {1, 0}, new SimpleMeterRegistry(), 2, Duration.ofHours(1), 100);
+        var applied = transition();
+        var lost = transition();
+
+        // When
+        buffer.offer(applied);
+        assertFalse(applied.applied().isDone());
+        buffer.offer(lost);
+
+        // Then
+        assertTrue(applied.applied().orTimeout(2, TimeUnit.SECONDS).join());
+        assertFalse(lost.applied().orTimeout(2, TimeUnit.SECONDS).join());
+    }
+
+    @Test
+    @DisplayName("Should fail transitions that could not be written on close")
+    void shouldFailUnwrittenTransitionsOnClose() {
+        // Given
+        buffer = new StatusWriteBehindBuffer(batch -> {
+            throw new IllegalStateException("database unavailable");
+        }, new SimpleMeterRegistry(), 100, Duration.ofHours(1), 100);
+        var transition = transition();
+        buffer.offer(transition);
+
+        // When
+        buffer.close();
+
+        // Then
+        assertTrue(transition.applied().isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("Should write a repeatedly failing batch one by one so a rejected row does not block the rest")
+    void shouldIsolateRowThatKeepsFailing() {
+        // Given
+        var meterRegistry = new SimpleMeterRegistry();
+        var rejected = transition();
+        var attempts = new AtomicInteger();
+        buffer = new StatusWriteBehindBuffer(batch -> {
+            attempts.incrementAndGet();
+            if (batch.contains(rejected)) {
+                throw new IllegalArgumentException("invalid byte sequence for encoding \"UTF8\": 0x00");
+            }
+            return write(batch);
+        }, meterRegistry, 100, Duration.ofMillis(20), 100);
+        var accepted = transition();
+
+        // When
+        buffer.offer(rejected);
+        buffer.offer(accepted);
+
+        // Then
+        assertTrue(accepted.applied().orTimeout(2, TimeUnit.SECONDS).join());
+        await().atMost(2, TimeUnit.SECONDS).until(() -> rejected.applied().isCompletedExceptionally());
+        assertEquals(StatusWriteBehindBuffer.MAX_BATCH_ATTEMPTS + 2, attempts.get());
+        assertEquals(0, buffer.size());
+        assertFalse(buffer.isUnflushed(rejected.id()));
+        assertEquals(1.0, meterRegistry.counter("notification.status.write-behind.failed").count());
+    }
+
+    private int[] write(List<StatusTransition> batch) {
+        batches.add(batch);
+        var counts = new int[batch.size()];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+
+    private static StatusTransition transition() {
+        return new StatusTransition(UUID.randomUUID(), "SUCCESS", null, LocalDateTime.now());
+    }
+
+    private static NotificationLogDTO pendingLog(UUID id) {
+        var now = LocalDateTime.now();
+        return new NotificationLogDTO(id, UUID.randomUUID(), "welcome", "en", "EMAIL", "user@example.com",
+            null, "PENDING", null, null, now, now);
+    }
+}
@@ -0,0 +1,50 @@
+package com.vibe.notification.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Async Executor Config Tests")
+class AsyncExecutorConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(AsyncExecutorConfig.class)
+        .withPropertyValues("otel.async.core-pool-size=1", "otel.async.max-pool-size=1", "otel.async.queue-capacity=1");
+
+    @Test
+    @DisplayName("Should define the bounded notification executor with OpenTelemetry disabled")
+    void shouldBoundExecutorWithoutOtel() {
+        contextRunner.withPropertyValues("app.feature.otel.enabled=false").run(context -> {
+            // Given
+            var executor = context.getBean("notificationTaskExecutor", ThreadPoolTaskExecutor.class);
+            assertSame(executor, context.getBean(AsyncExecutorConfig.class).getAsyncExecutor());
+            var release = new CountDownLatch(1);
+
+            // When - one task runs, one waits in the queue
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+
+            // Then
+            try {
+                assertEquals(1, executor.getQueueCapacity());
+                assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+            } finally {
+                release.countDown();
+            }
+        });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
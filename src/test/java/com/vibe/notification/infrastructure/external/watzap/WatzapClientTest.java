@@ -0,0 +1,68 @@
+package com.vibe.notification.infrastructure.external.watzap;
+
+import com.vibe.notification.domain.exception.NotificationException;
+import com.vibe.notification.domain.exception.ProviderUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Watzap Client - Failure Classification Tests")
+class WatzapClientTest {
+
+    @Test
+    @DisplayName("Should treat an undecodable 2xx response as permanent, since the message was already sent")
+    void shouldClassifyUndecodableSuccessAsPermanent() {
+        var client = client(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body("<html>sent</html>")
+            .build()), 1000);
+
+        var failure = assertThrows(NotificationException.class, () -> client.sendTextMessage("6281234567890", "Hello"));
+        assertFalse(failure instanceof ProviderUnavailableException);
+    }
+
+    @Test
+    @DisplayName("Should treat a 5xx response as transient")
+    void shouldClassifyServerErrorAsTransient() {
+        var client = client(request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()), 1000);
+
+        assertThrows(ProviderUnavailableException.class, () -> client.sendTextMessage("6281234567890", "Hello"));
+    }
+
+    @Test
+    @DisplayName("Should treat connection failures as transient")
+    void shouldClassifyConnectionFailureAsTransient() {
+        var client = client(request -> Mono.error(new WebClientRequestException(new ConnectException("Connection refused"),
+            HttpMethod.POST, URI.create("https://api.watzap.id/v1/send_message"), new HttpHeaders())), 1000);
+
+        assertThrows(ProviderUnavailableException.class, () -> client.sendTextMessage("6281234567890", "Hello"));
+    }
+
+    @Test
+    @DisplayName("Should treat a timeout as transient")
+    void shouldClassifyTimeoutAsTransient() {
+        var client = client(request -> Mono.never(), 50);
+
+        assertThrows(ProviderUnavailableException.class, () -> client.sendTextMessage("6281234567890", "Hello"));
+    }
+
+    private static WatzapClient client(ExchangeFunction exchange, int readTimeoutMs) {
+        var properties = new WatzapProperties();
+        properties.setBaseUrl("https://api.watzap.id/v1");
+        properties.getTimeout().setReadMs(readTimeoutMs);
+        return new WatzapClient(WebClient.builder().exchangeFunction(exchange), properties);
+    }
+}
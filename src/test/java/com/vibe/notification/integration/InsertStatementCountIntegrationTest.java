@@ -0,0 +1,100 @@
+package com.vibe.notification.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibe.notification.domain.dto.NotificationLogDTO;
+import com.vibe.notification.domain.port.NotificationLogPort;
+import com.vibe.notification.infrastructure.adapter.messaging.rabbitmq.ProcessedMessage;
+import com.vibe.notification.infrastructure.adapter.messaging.rabbitmq.ProcessedMessageRepository;
+import com.vibe.notification.infrastructure.persistence.repository.NotificationLogRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Locks in the insert path for rows with application-assigned ids: one INSERT, no SELECT.
+ * Statements are counted with Hibernate statistics, enabled at runtime so the shared
+ * Spring context is reused.
+ */
+@DisplayName("Insert Statement Count Integration Tests")
+class InsertStatementCountIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private NotificationLogPort notificationLogPort;
+
+    @Autowired
+    private NotificationLogRepository logRepository;
+
+    @Autowired
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        logRepository.deleteAll();
+        processedMessageRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should insert a new notification log with a single statement")
+    void shouldInsertLogWithoutSelect() {
+        // Given
+        var now = LocalDateTime.now();
+        var log = new NotificationLogDTO(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            "welcome",
+            "en",
+            "EMAIL",
+            "user@example.com",
+            objectMapper.createObjectNode().put("name", "Ada"),
+            "PENDING",
+            null,
+            null,
+            now,
+            now,
+            "client-1",
+            now,
+            0
+        );
+
+        // When
+        notificationLogPort.insert(log);
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(logRepository.existsById(log.getId()));
+    }
+
+    @Test
+    @DisplayName("Should insert a new processed message with a single statement")
+    void shouldInsertProcessedMessageWithoutSelect() {
+        // When
+        processedMessageRepository.save(new ProcessedMessage("trace-" + UUID.randomUUID()));
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
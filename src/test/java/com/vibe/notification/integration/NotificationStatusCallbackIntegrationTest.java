@@ -9,6 +9,7 @@ import com.vibe.notification.infrastructure.adapter.messaging.rabbitmq.RabbitMqC
 import com.vibe.notification.infrastructure.persistence.entity.NotificationTemplateEntity;
 import com.vibe.notification.infrastructure.persistence.entity.NotificationTemplateId;
 import com.vibe.notification.infrastructure.persistence.repository.NotificationTemplateRepository;
+import com.vibe.notification.domain.model.TemplateVariables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.core.Message;
@@ -89,7 +90,7 @@ class NotificationStatusCallbackIntegrationTest extends AbstractRabbitMqIntegrat
                 "test-template",
                 "en",
                 Channel.EMAIL,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
@@ -159,7 +160,7 @@ class NotificationStatusCallbackIntegrationTest extends AbstractRabbitMqIntegrat
                 "non-existent-template",  // This will trigger template not found exception
                 "en",
                 Channel.EMAIL,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
@@ -234,7 +235,7 @@ class NotificationStatusCallbackIntegrationTest extends AbstractRabbitMqIntegrat
                 "test-template",
                 "en",
                 Channel.EMAIL,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
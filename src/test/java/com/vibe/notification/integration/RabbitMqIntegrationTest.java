@@ -8,6 +8,7 @@ import com.vibe.notification.infrastructure.adapter.messaging.rabbitmq.RabbitMqC
 import com.vibe.notification.infrastructure.persistence.entity.NotificationTemplateEntity;
 import com.vibe.notification.infrastructure.persistence.entity.NotificationTemplateId;
 import com.vibe.notification.infrastructure.persistence.repository.NotificationTemplateRepository;
+import com.vibe.notification.domain.model.TemplateVariables;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -85,7 +86,7 @@ class RabbitMqIntegrationTest extends AbstractRabbitMqIntegrationTest {
                 "welcome-template",
                 "en",
                 Channel.WHATSAPP,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
@@ -134,7 +135,7 @@ class RabbitMqIntegrationTest extends AbstractRabbitMqIntegrationTest {
                 "welcome-template",
                 "en",
                 Channel.EMAIL,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
@@ -192,7 +193,7 @@ class RabbitMqIntegrationTest extends AbstractRabbitMqIntegrationTest {
                 "welcome-template",
                 "en",
                 null,  // Missing required channel field
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
@@ -243,7 +244,7 @@ class RabbitMqIntegrationTest extends AbstractRabbitMqIntegrationTest {
                     "welcome-template",
                     "en",
                     Channel.WHATSAPP,
-                    variables,
+                    TemplateVariables.of(variables),
                 null
         );
 
@@ -8,6 +8,7 @@ import com.vibe.notification.infrastructure.adapter.messaging.rabbitmq.RabbitMqC
 import com.vibe.notification.infrastructure.persistence.entity.NotificationTemplateEntity;
 import com.vibe.notification.infrastructure.persistence.entity.NotificationTemplateId;
 import com.vibe.notification.infrastructure.persistence.repository.NotificationTemplateRepository;
+import com.vibe.notification.domain.model.TemplateVariables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.core.Message;
@@ -99,7 +100,7 @@ class RetryAndDlqIntegrationTest extends AbstractRabbitMqIntegrationTest {
                 "welcome-template",
                 "en",
                 Channel.EMAIL,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
@@ -134,7 +135,7 @@ class RetryAndDlqIntegrationTest extends AbstractRabbitMqIntegrationTest {
                 "non-existent-template",  // This will cause failures
                 "en",
                 Channel.EMAIL,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
@@ -175,7 +176,7 @@ class RetryAndDlqIntegrationTest extends AbstractRabbitMqIntegrationTest {
                 "non-existent-template",
                 "en",
                 Channel.EMAIL,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
@@ -218,7 +219,7 @@ class RetryAndDlqIntegrationTest extends AbstractRabbitMqIntegrationTest {
                 "non-existent-template",
                 "en",
                 Channel.EMAIL,
-                variables,
+                TemplateVariables.of(variables),
                 null
         );
 
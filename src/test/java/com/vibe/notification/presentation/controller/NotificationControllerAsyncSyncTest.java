@@ -2,8 +2,12 @@ package com.vibe.notification.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vibe.notification.application.NotificationApplicationService;
+import com.vibe.notification.application.NotificationQueryService;
+import com.vibe.notification.application.NotificationStatusStreamService;
 import com.vibe.notification.application.dto.NotificationResponse;
 import com.vibe.notification.application.dto.SendNotificationRequest;
+import com.vibe.notification.application.port.ApiKeyValidationPort;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
 import com.vibe.notification.domain.model.Channel;
 import com.vibe.notification.domain.model.NotificationStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.HashMap;
@@ -40,9 +44,18 @@ class NotificationControllerAsyncSyncTest {
     @Autowired
     private ObjectMapper objectMapper;
 
-    @MockBean
+    @MockitoBean
     private NotificationApplicationService notificationApplicationService;
 
+    @MockitoBean
+    private NotificationQueryService notificationQueryService;
+
+    @MockitoBean
+    private NotificationStatusStreamService statusStreamService;
+
+    @MockitoBean
+    private ApiKeyValidationPort apiKeyValidationPort;
+
     private SendNotificationRequest testRequest;
     private UUID testLogId;
     private String testTraceId;
@@ -265,4 +278,57 @@ class NotificationControllerAsyncSyncTest {
             .andExpect(jsonPath("$.status", equalTo("TIMEOUT")))
             .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("timed out")));
     }
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After when the service is overloaded")
+    void shouldReturn429WhenOverloaded() throws Exception {
+        // Given - Admission control rejects the request
+        when(notificationApplicationService.sendNotificationWithSync(any(), eq(false)))
+            .thenThrow(new ServiceOverloadedException("executor-queue", 5));
+
+        // When - Send request
+        mockMvc.perform(post("/api/v1/notifications/send")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(testRequest)))
+
+        // Then - Should return 429 with a retry hint
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "5"))
+            .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("executor-queue")));
+    }
+
+    @Test
+    @DisplayName("Should pass X-Client-Id through so the status stream receives REST sends")
+    void shouldPassClientIdHeader() throws Exception {
+        // Given
+        when(notificationApplicationService.sendNotificationWithSync(any(), eq(false)))
+            .thenReturn(new NotificationResponse(testLogId, testTraceId, "ACCEPTED", "Notification accepted for processing"));
+
+        // When
+        mockMvc.perform(post("/api/v1/notifications/send")
+            .header("X-Client-Id", "billing")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(testRequest)))
+
+        // Then
+            .andExpect(status().isAccepted());
+
+        ArgumentCaptor<SendNotificationRequest> captor = ArgumentCaptor.forClass(SendNotificationRequest.class);
+        verify(notificationApplicationService).sendNotificationWithSync(captor.capture(), eq(false));
+        assertEquals("billing", captor.getValue().clientId().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should reject an X-Client-Id longer than the stored column")
+    void shouldRejectOverlongClientId() throws Exception {
+        // When
+        mockMvc.perform(post("/api/v1/notifications/send")
+            .header("X-Client-Id", "c".repeat(101))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(testRequest)))
+
+        // Then
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(notificationApplicationService);
+    }
 }
@@ -0,0 +1,195 @@
+package com.vibe.notification.presentation.controller;
+
+import com.vibe.notification.application.NotificationApplicationService;
+import com.vibe.notification.application.NotificationQueryService;
+import com.vibe.notification.application.NotificationStatusStreamService;
+import com.vibe.notification.application.dto.NotificationLogPageResponse;
+import com.vibe.notification.application.dto.NotificationStatusResponse;
+import com.vibe.notification.application.port.ApiKeyValidationPort;
+import com.vibe.notification.domain.exception.NotificationLogNotFoundException;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
+import com.vibe.notification.domain.model.Channel;
+import com.vibe.notification.domain.model.NotificationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for the notification status lookup endpoints
+ */
+@WebMvcTest(NotificationController.class)
+@DisplayName("Notification Controller - Status Lookup Tests")
+class NotificationControllerStatusTest {
+    private static final String API_KEY = "test-api-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NotificationApplicationService notificationApplicationService;
+
+    @MockitoBean
+    private NotificationQueryService notificationQueryService;
+
+    @MockitoBean
+    private NotificationStatusStreamService statusStreamService;
+
+    @MockitoBean
+    private ApiKeyValidationPort apiKeyValidationPort;
+
+    @Test
+    @DisplayName("Should return notification status by log ID")
+    void shouldReturnStatusByLogId() throws Exception {
+        var logId = UUID.randomUUID();
+        var traceId = UUID.randomUUID();
+        when(notificationQueryService.getStatus(logId)).thenReturn(statusResponse(logId, traceId, NotificationStatus.SUCCESS));
+
+        mockMvc.perform(get("/api/v1/notifications/{id}", logId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.logId", equalTo(logId.toString())))
+            .andExpect(jsonPath("$.traceId", equalTo(traceId.toString())))
+            .andExpect(jsonPath("$.status", equalTo("SUCCESS")));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when notification does not exist")
+    void shouldReturn404WhenNotificationNotFound() throws Exception {
+        var logId = UUID.randomUUID();
+        when(notificationQueryService.getStatus(logId)).thenThrow(new NotificationLogNotFoundException(logId));
+
+        mockMvc.perform(get("/api/v1/notifications/{id}", logId))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when notification ID is not a UUID")
+    void shouldReturn400ForMalformedLogId() throws Exception {
+        mockMvc.perform(get("/api/v1/notifications/{id}", "not-a-uuid"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(notificationQueryService);
+    }
+
+    @Test
+    @DisplayName("Should look up comma-separated trace IDs in one call")
+    void shouldReturnStatusesByTraceIds() throws Exception {
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        when(notificationQueryService.getStatusesByTraceIds(List.of(first, second))).thenReturn(List.of(
+            statusResponse(UUID.randomUUID(), first, NotificationStatus.PENDING),
+            statusResponse(UUID.randomUUID(), second, NotificationStatus.FAILED)
+        ));
+
+        mockMvc.perform(get("/api/v1/notifications").param("traceIds", first + "," + second))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].status", equalTo("PENDING")))
+            .andExpect(jsonPath("$[1].status", equalTo("FAILED")));
+
+        verify(notificationQueryService, times(1)).getStatusesByTraceIds(any());
+    }
+
+    @Test
+    @DisplayName("Should search logs with filters and return the next cursor")
+    void shouldSearchLogs() throws Exception {
+        var from = LocalDateTime.of(2025, 1, 15, 0, 0);
+        when(apiKeyValidationPort.validateApiKey(API_KEY)).thenReturn(true);
+        when(notificationQueryService.searchLogs(eq(null), eq("welcome"), eq("FAILED"), isNull(), isNull(),
+            eq(from), isNull(), isNull(), eq(50)))
+            .thenReturn(new NotificationLogPageResponse(
+                List.of(statusResponse(UUID.randomUUID(), UUID.randomUUID(), NotificationStatus.FAILED)), "next-page"));
+
+        mockMvc.perform(get("/api/v1/notifications/logs")
+                .header("X-API-Key", API_KEY)
+                .param("slug", "welcome")
+                .param("status", "FAILED")
+                .param("from", "2025-01-15T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].status", equalTo("FAILED")))
+            .andExpect(jsonPath("$.nextCursor", equalTo("next-page")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an invalid log search")
+    void shouldReturn400ForInvalidSearch() throws Exception {
+        when(apiKeyValidationPort.validateApiKey(API_KEY)).thenReturn(true);
+        when(notificationQueryService.searchLogs(any(), any(), any(), any(), any(), any(), any(), eq("bad"), eq(50)))
+            .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/v1/notifications/logs").header("X-API-Key", API_KEY).param("cursor", "bad"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 401 for a log search with an invalid API key")
+    void shouldReturn401ForUnauthorizedSearch() throws Exception {
+        when(apiKeyValidationPort.validateApiKey("wrong-key")).thenReturn(false);
+
+        mockMvc.perform(get("/api/v1/notifications/logs").header("X-API-Key", "wrong-key"))
+            .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(notificationQueryService);
+    }
+
+    @Test
+    @DisplayName("Should return 401 for a status stream without a valid API key")
+    void shouldReturn401ForUnauthorizedStream() throws Exception {
+        mockMvc.perform(get("/api/v1/notifications/stream").param("clientId", "billing-app"))
+            .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(statusStreamService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a status stream with a too long clientId")
+    void shouldReturn400ForTooLongStreamClientId() throws Exception {
+        when(apiKeyValidationPort.validateApiKey(API_KEY)).thenReturn(true);
+
+        mockMvc.perform(get("/api/v1/notifications/stream").header("X-API-Key", API_KEY).param("clientId", "c".repeat(101)))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(statusStreamService);
+    }
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After when the status stream subscriber cap is reached")
+    void shouldReturn429WhenStreamCapIsReached() throws Exception {
+        when(apiKeyValidationPort.validateApiKey(API_KEY)).thenReturn(true);
+        when(statusStreamService.subscribe(eq("billing-app"), any()))
+            .thenThrow(new ServiceOverloadedException("status-stream", 30));
+
+        mockMvc.perform(get("/api/v1/notifications/stream").header("X-API-Key", API_KEY).param("clientId", "billing-app"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "30"));
+    }
+
+    private NotificationStatusResponse statusResponse(UUID logId, UUID traceId, NotificationStatus status) {
+        return new NotificationStatusResponse(
+            logId,
+            traceId.toString(),
+            "welcome",
+            Channel.EMAIL,
+            status,
+            status == NotificationStatus.FAILED ? "Provider rejected" : null,
+            status == NotificationStatus.PENDING ? null : LocalDateTime.now(),
+            LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,158 @@
+package com.vibe.notification.presentation.controller;
+
+import com.vibe.notification.application.NotificationLogExportService;
+import com.vibe.notification.application.port.ApiKeyValidationPort;
+import com.vibe.notification.domain.exception.ServiceOverloadedException;
+import com.vibe.notification.domain.model.NotificationLogSearch;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for the notification log export endpoint
+ */
+@WebMvcTest(NotificationLogExportController.class)
+@DisplayName("Notification Log Export Controller Tests")
+class NotificationLogExportControllerTest {
+    private static final String API_KEY = "test-api-key";
+    private static final String ROW = "{\"logId\":\"550e8400-e29b-41d4-a716-446655440000\"}\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NotificationLogExportService exportService;
+
+    @MockitoBean
+    private ApiKeyValidationPort apiKeyValidationPort;
+
+    @BeforeEach
+    void setUp() {
+        when(apiKeyValidationPort.validateApiKey(API_KEY)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should stream the export as an NDJSON attachment")
+    void shouldStreamNdjson() throws Exception {
+        var filters = givenExport();
+
+        mockMvc.perform(get("/api/v1/notifications/logs/export").header("X-API-Key", API_KEY)
+                .param("status", "FAILED")
+                .param("from", "2025-01-01T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", containsString("application/x-ndjson")))
+            .andExpect(header().string("Content-Disposition", containsString("notification-logs.ndjson")))
+            .andExpect(content().string(ROW));
+
+        verify(exportService).export(eq(filters), eq(NotificationLogExportService.Format.NDJSON), any());
+    }
+
+    @Test
+    @DisplayName("Should release the export slot when the export fails")
+    void shouldReleaseSlotWhenExportFails() throws Exception {
+        var filters = givenExport();
+        var slot = mock(NotificationLogExportService.ExportSlot.class);
+        when(exportService.acquireSlot()).thenReturn(slot);
+        when(exportService.export(eq(filters), any(), any())).thenThrow(new IllegalStateException("cursor closed"));
+
+        // Once the export has started, a failure is not turned into an error body
+        assertThrows(ServletException.class,
+            () -> mockMvc.perform(get("/api/v1/notifications/logs/export").header("X-API-Key", API_KEY)));
+
+        verify(slot).close();
+    }
+
+    @Test
+    @DisplayName("Should gzip the export when asked to")
+    void shouldGzipExport() throws Exception {
+        givenExport();
+
+        var body = mockMvc.perform(get("/api/v1/notifications/logs/export").header("X-API-Key", API_KEY)
+                .param("format", "csv")
+                .param("gzip", "true"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/gzip"))
+            .andExpect(header().string("Content-Disposition", containsString("notification-logs.csv.gz")))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        try (var unzipped = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(ROW, new String(unzipped.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown format without exporting")
+    void shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/notifications/logs/export").header("X-API-Key", API_KEY).param("format", "xml"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid filters without exporting")
+    void shouldRejectInvalidFilters() throws Exception {
+        when(exportService.exportFilters(any(), any(), eq("DELIVERED"), any(), any(), any(), any()))
+            .thenThrow(new IllegalArgumentException("Invalid notification status: DELIVERED"));
+
+        mockMvc.perform(get("/api/v1/notifications/logs/export").header("X-API-Key", API_KEY).param("status", "DELIVERED"))
+            .andExpect(status().isBadRequest());
+
+        verify(exportService, never()).export(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 401 without an API key and not export")
+    void shouldRejectMissingApiKey() throws Exception {
+        mockMvc.perform(get("/api/v1/notifications/logs/export"))
+            .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(exportService);
+    }
+
+    @Test
+    @DisplayName("Should return 429 when all export slots are in use")
+    void shouldRejectWhenExportSlotsExhausted() throws Exception {
+        givenExport();
+        when(exportService.acquireSlot()).thenThrow(new ServiceOverloadedException("log-export", 30));
+
+        mockMvc.perform(get("/api/v1/notifications/logs/export").header("X-API-Key", API_KEY))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "30"));
+
+        verify(exportService, never()).export(any(), any(), any());
+    }
+
+    private NotificationLogSearch givenExport() throws Exception {
+        var filters = new NotificationLogSearch(null, null, null, null, null, LocalDateTime.of(2025, 1, 1, 0, 0), null, null, 0);
+        when(exportService.exportFilters(isNull(), isNull(), any(), isNull(), isNull(), any(), isNull())).thenReturn(filters);
+        when(exportService.acquireSlot()).thenReturn(() -> { });
+        when(exportService.export(eq(filters), any(), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(2);
+            output.write(ROW.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        return filters;
+    }
+}